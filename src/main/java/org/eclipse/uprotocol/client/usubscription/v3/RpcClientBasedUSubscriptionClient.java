@@ -31,6 +31,7 @@ import org.eclipse.uprotocol.core.usubscription.v3.SubscriptionResponse;
 import org.eclipse.uprotocol.core.usubscription.v3.USubscriptionProto;
 import org.eclipse.uprotocol.core.usubscription.v3.UnsubscribeRequest;
 import org.eclipse.uprotocol.core.usubscription.v3.UnsubscribeResponse;
+import org.eclipse.uprotocol.uri.factory.UriInterner;
 import org.eclipse.uprotocol.v1.UUri;
 
 import com.google.protobuf.Message;
@@ -117,16 +118,14 @@ public class RpcClientBasedUSubscriptionClient implements USubscriptionClient {
         Objects.requireNonNull(options, "CallOptions missing");
         Objects.requireNonNull(responseType, "Response type missing");
 
-        final var method = UUri.newBuilder(serviceUri).setResourceId(methodId).build();
+        final var method = UriInterner.getDefault().intern(serviceUri, methodId);
         return rpcClient.invokeMethod(method, request, options)
                 .thenApply(responsePayload -> UPayload.unpackOrDefaultInstance(responsePayload, responseType));
     }
 
     @Override
     public UUri getSubscriptionServiceNotificationTopic() {
-        return UUri.newBuilder(serviceUri)
-            .setResourceId(NOTIFICATION_TOPIC_ID)
-            .build();
+        return UriInterner.getDefault().intern(serviceUri, NOTIFICATION_TOPIC_ID);
     }
 
     @Override
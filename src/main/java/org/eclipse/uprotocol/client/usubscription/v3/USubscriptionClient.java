@@ -12,8 +12,13 @@
  */
 package org.eclipse.uprotocol.client.usubscription.v3;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
+import org.eclipse.uprotocol.communication.BulkInvoker;
 import org.eclipse.uprotocol.communication.Notifier;
 import org.eclipse.uprotocol.communication.UStatusException;
 import org.eclipse.uprotocol.core.usubscription.v3.FetchSubscribersRequest;
@@ -67,6 +72,58 @@ public interface USubscriptionClient {
      */
     CompletionStage<UnsubscribeResponse> unsubscribe(UnsubscribeRequest request);
 
+    /**
+     * Subscribes to multiple topics.
+     * <p>
+     * This default implementation invokes {@link #subscribe(SubscriptionRequest)} for each of the
+     * requests using {@link BulkInvoker#invokeAll(Collection, int, java.util.function.Function)}, so that
+     * at most {@code maxConcurrency} requests are in progress at any time.
+     *
+     * @param requests The requests to send. Only the first request for each topic is sent.
+     * @param maxConcurrency The maximum number of requests in progress.
+     * @return The outcome of the operation per topic, in the order of the given requests. Each stage will be
+     * completed with a {@link UStatusException} if the request for the topic has failed.
+     * @throws NullPointerException if requests is {@code null} or contains {@code null}.
+     * @throws IllegalArgumentException if max concurrency is not positive.
+     */
+    default Map<UUri, CompletionStage<SubscriptionResponse>> subscribeAll(
+            Collection<SubscriptionRequest> requests,
+            int maxConcurrency) {
+        Objects.requireNonNull(requests, "Requests must not be null");
+        final Map<UUri, SubscriptionRequest> requestsByTopic = new LinkedHashMap<>();
+        requests.forEach(request -> requestsByTopic.putIfAbsent(request.getTopic(), request));
+        return BulkInvoker.invokeAll(
+            requestsByTopic.keySet(),
+            maxConcurrency,
+            topic -> subscribe(requestsByTopic.get(topic)));
+    }
+
+    /**
+     * Unsubscribes from multiple topics.
+     * <p>
+     * This default implementation invokes {@link #unsubscribe(UnsubscribeRequest)} for each of the
+     * requests using {@link BulkInvoker#invokeAll(Collection, int, java.util.function.Function)}, so that
+     * at most {@code maxConcurrency} requests are in progress at any time.
+     *
+     * @param requests The requests to send. Only the first request for each topic is sent.
+     * @param maxConcurrency The maximum number of requests in progress.
+     * @return The outcome of the operation per topic, in the order of the given requests. Each stage will be
+     * completed with a {@link UStatusException} if the request for the topic has failed.
+     * @throws NullPointerException if requests is {@code null} or contains {@code null}.
+     * @throws IllegalArgumentException if max concurrency is not positive.
+     */
+    default Map<UUri, CompletionStage<UnsubscribeResponse>> unsubscribeAll(
+            Collection<UnsubscribeRequest> requests,
+            int maxConcurrency) {
+        Objects.requireNonNull(requests, "Requests must not be null");
+        final Map<UUri, UnsubscribeRequest> requestsByTopic = new LinkedHashMap<>();
+        requests.forEach(request -> requestsByTopic.putIfAbsent(request.getTopic(), request));
+        return BulkInvoker.invokeAll(
+            requestsByTopic.keySet(),
+            maxConcurrency,
+            topic -> unsubscribe(requestsByTopic.get(topic)));
+    }
+
     /**
      * Fetches a list of subscribers that are currently subscribed to a given topic.
      * 
@@ -0,0 +1,256 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.client.utwin.v2;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.core.utwin.v2.GetLastMessagesResponse;
+import org.eclipse.uprotocol.core.utwin.v2.MessageResponse;
+import org.eclipse.uprotocol.transport.UListener;
+import org.eclipse.uprotocol.uri.validator.UriValidator;
+import org.eclipse.uprotocol.uuid.factory.UuidUtils;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UMessageType;
+import org.eclipse.uprotocol.v1.UStatus;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.v1.UUriBatch;
+
+/**
+ * A uTwin client that answers requests for topics that the local process is subscribed to from
+ * a cache of the last messages received, and delegates requests for all other topics to another client.
+ * <p>
+ * The cache is populated by {@link #getListener() a listener} which needs to be registered for the topics
+ * of interest, e.g. by means of {@link org.eclipse.uprotocol.communication.Subscriber#subscribe}. Cached
+ * messages are evicted once their TTL has expired. When a request contains both cached and uncached topics,
+ * only the uncached topics are requested from the delegate, using a single request.
+ * <p>
+ * The memory used by the cache is bounded by a maximum number of messages and a maximum total size of the
+ * (serialized) messages. Once either limit is exceeded, the least recently used messages are evicted.
+ */
+public final class CachingUTwinClient implements UTwinClient {
+    /**
+     * The default maximum number of cached messages.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    /**
+     * The default maximum total size of cached messages in bytes.
+     */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    private static final UStatus OK = UStatus.newBuilder().setCode(UCode.OK).build();
+
+    private final UTwinClient delegate;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final UListener listener = this::update;
+
+    // topic -> last message, in access order, guarded by its own monitor
+    private final LinkedHashMap<UUri, UMessage> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * Creates a client using the default limits.
+     *
+     * @param delegate The client to use for topics that are not cached.
+     * @throws NullPointerException if delegate is {@code null}.
+     */
+    public CachingUTwinClient(UTwinClient delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param delegate The client to use for topics that are not cached.
+     * @param maxEntries The maximum number of messages to cache.
+     * @param maxBytes The maximum total size of the serialized messages to cache.
+     * @throws NullPointerException if delegate is {@code null}.
+     * @throws IllegalArgumentException if any of the limits is not positive.
+     */
+    public CachingUTwinClient(UTwinClient delegate, int maxEntries, long maxBytes) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Limits must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the listener that updates the cache with the messages that it receives.
+     * <p>
+     * Only publish messages are cached, all other messages are ignored.
+     *
+     * @return The listener.
+     */
+    public UListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Puts a message into the cache, replacing any message previously cached for the same topic.
+     *
+     * @param message The message. The message is ignored if it is not a publish message with a valid ID.
+     * @throws NullPointerException if message is {@code null}.
+     */
+    public void update(UMessage message) {
+        Objects.requireNonNull(message, "Message must not be null");
+        final var attributes = message.getAttributes();
+        if (attributes.getType() != UMessageType.UMESSAGE_TYPE_PUBLISH
+                || !attributes.hasSource()
+                || !UuidUtils.isUProtocol(attributes.getId())) {
+            return;
+        }
+        final int size = message.getSerializedSize();
+        synchronized (cache) {
+            final var previous = cache.remove(attributes.getSource());
+            if (previous != null) {
+                cachedBytes -= previous.getSerializedSize();
+            }
+            if (size > maxBytes) {
+                return;
+            }
+            cache.put(attributes.getSource(), message);
+            cachedBytes += size;
+            final var iterator = cache.values().iterator();
+            while (cache.size() > maxEntries || cachedBytes > maxBytes) {
+                cachedBytes -= iterator.next().getSerializedSize();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cached messages.
+     *
+     * @return The number of messages, including expired messages that have not been evicted yet.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all messages from the cache.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The response contains the cached messages for all topics that have a non-expired message in the
+     * cache. All other topics, including those containing wildcards, are requested from the delegate.
+     * The responses are ordered like the requested topics.
+     *
+     * @throws NullPointerException if topics or options is {@code null}.
+     */
+    @Override
+    public CompletionStage<GetLastMessagesResponse> getLastMessages(UUriBatch topics, CallOptions options) {
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        if (topics.getUrisCount() == 0) {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.INVALID_ARGUMENT, "topics must not be empty"));
+        }
+
+        final Map<UUri, UMessage> hits = new HashMap<>();
+        final Set<UUri> misses = new LinkedHashSet<>();
+        final var now = Instant.now();
+        for (var topic : topics.getUrisList()) {
+            final var message = UriValidator.hasWildcard(topic) ? null : lookup(topic, now);
+            if (message != null) {
+                hits.put(topic, message);
+            } else {
+                misses.add(topic);
+            }
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(merge(topics.getUrisList(), hits, List.of()));
+        }
+        final var missingTopics = UUriBatch.newBuilder().addAllUris(misses).build();
+        return delegate.getLastMessages(missingTopics, options)
+            .thenApply(response -> merge(topics.getUrisList(), hits, response.getResponsesList()));
+    }
+
+    private UMessage lookup(UUri topic, Instant now) {
+        synchronized (cache) {
+            final var message = cache.get(topic);
+            if (message == null) {
+                return null;
+            }
+            final var attributes = message.getAttributes();
+            if (attributes.getTtl() != 0 && UuidUtils.isExpired(attributes.getId(), attributes.getTtl(), now)) {
+                cache.remove(topic);
+                cachedBytes -= message.getSerializedSize();
+                return null;
+            }
+            return message;
+        }
+    }
+
+    private static GetLastMessagesResponse merge(
+            List<UUri> requestedTopics,
+            Map<UUri, UMessage> hits,
+            List<MessageResponse> fetched) {
+        final Map<UUri, MessageResponse> fetchedByTopic = new LinkedHashMap<>();
+        final List<MessageResponse> duplicates = new ArrayList<>();
+        for (var response : fetched) {
+            if (fetchedByTopic.putIfAbsent(response.getTopic(), response) != null) {
+                duplicates.add(response);
+            }
+        }
+        final var builder = GetLastMessagesResponse.newBuilder();
+        final Set<UUri> added = new HashSet<>();
+        for (var topic : requestedTopics) {
+            if (!added.add(topic)) {
+                continue;
+            }
+            final var message = hits.get(topic);
+            if (message != null) {
+                builder.addResponses(MessageResponse.newBuilder()
+                    .setTopic(topic)
+                    .setStatus(OK)
+                    .setMessage(message));
+            } else {
+                final var response = fetchedByTopic.remove(topic);
+                if (response != null) {
+                    builder.addResponses(response);
+                }
+            }
+        }
+        // keep responses that the delegate has returned for other topics, e.g. those matching a wildcard
+        fetchedByTopic.values().forEach(builder::addResponses);
+        duplicates.forEach(builder::addResponses);
+        return builder.build();
+    }
+}
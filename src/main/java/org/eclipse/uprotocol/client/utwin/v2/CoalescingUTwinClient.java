@@ -0,0 +1,252 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.client.utwin.v2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.DeadlineScheduler;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.core.utwin.v2.GetLastMessagesResponse;
+import org.eclipse.uprotocol.core.utwin.v2.MessageResponse;
+import org.eclipse.uprotocol.uri.validator.UriValidator;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.v1.UUriBatch;
+
+/**
+ * A uTwin client that combines concurrent requests into a single request to another client.
+ * <p>
+ * Requests are collected for a configurable window, starting with the first request of a batch.
+ * Once the window has elapsed, or once the batch contains a configurable number of topics, a single
+ * request for the (de-duplicated) topics of all collected requests is sent to the delegate. The
+ * response is then split up again, so that each caller only receives the responses for the topics
+ * that it has requested. If the combined request fails, all requests of the batch fail with the
+ * same error.
+ * <p>
+ * Only requests using equal {@link CallOptions} are combined.
+ * <p>
+ * Batches whose window has elapsed are sent using an {@link Executor}, so that the scheduler's thread
+ * is not blocked by sending the combined request. Batches that have reached the max size are sent on
+ * the thread adding the last request.
+ */
+public final class CoalescingUTwinClient implements UTwinClient {
+
+    private final UTwinClient delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DeadlineScheduler scheduler;
+    private final Executor executor;
+
+    // call options -> batch currently collecting requests, guarded by the map's monitor
+    private final Map<CallOptions, Batch> openBatches = new HashMap<>();
+
+    /**
+     * Creates a client using the {@link DeadlineScheduler#getDefault() default scheduler}.
+     *
+     * @param delegate The client to send the combined requests to.
+     * @param window The time to collect requests for.
+     * @param unit The unit of the window.
+     * @param maxBatchSize The number of topics at which the collected requests are sent immediately.
+     * @throws NullPointerException if delegate or unit are {@code null}.
+     * @throws IllegalArgumentException if window is negative or max batch size is not positive.
+     */
+    public CoalescingUTwinClient(UTwinClient delegate, long window, TimeUnit unit, int maxBatchSize) {
+        this(delegate, window, unit, maxBatchSize, DeadlineScheduler.getDefault());
+    }
+
+    /**
+     * Creates a client using the {@link ForkJoinPool#commonPool() common pool} for sending
+     * batches whose window has elapsed.
+     *
+     * @param delegate The client to send the combined requests to.
+     * @param window The time to collect requests for.
+     * @param unit The unit of the window.
+     * @param maxBatchSize The number of topics at which the collected requests are sent immediately.
+     * @param scheduler The scheduler to use for ending the collection windows.
+     * @throws NullPointerException if delegate, unit or scheduler are {@code null}.
+     * @throws IllegalArgumentException if window is negative or max batch size is not positive.
+     */
+    public CoalescingUTwinClient(
+            UTwinClient delegate,
+            long window,
+            TimeUnit unit,
+            int maxBatchSize,
+            DeadlineScheduler scheduler) {
+        this(delegate, window, unit, maxBatchSize, scheduler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param delegate The client to send the combined requests to.
+     * @param window The time to collect requests for.
+     * @param unit The unit of the window.
+     * @param maxBatchSize The number of topics at which the collected requests are sent immediately.
+     * @param scheduler The scheduler to use for ending the collection windows.
+     * @param executor The executor to use for sending batches whose window has elapsed.
+     * @throws NullPointerException if delegate, unit, scheduler or executor are {@code null}.
+     * @throws IllegalArgumentException if window is negative or max batch size is not positive.
+     */
+    public CoalescingUTwinClient(
+            UTwinClient delegate,
+            long window,
+            TimeUnit unit,
+            int maxBatchSize,
+            DeadlineScheduler scheduler,
+            Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        Objects.requireNonNull(unit, "Unit must not be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "Scheduler must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        if (window < 0) {
+            throw new IllegalArgumentException("Window must not be negative");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.windowNanos = unit.toNanos(window);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned stage completes once the batch that the request has been added to has been processed.
+     *
+     * @throws NullPointerException if topics or options is {@code null}.
+     */
+    @Override
+    public CompletionStage<GetLastMessagesResponse> getLastMessages(UUriBatch topics, CallOptions options) {
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        if (topics.getUrisCount() == 0) {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.INVALID_ARGUMENT, "topics must not be empty"));
+        }
+
+        final var call = new PendingCall(topics.getUrisList(), new CompletableFuture<>());
+        Batch full = null;
+        synchronized (openBatches) {
+            var batch = openBatches.get(options);
+            if (batch == null) {
+                batch = new Batch(options);
+                openBatches.put(options, batch);
+                if (windowNanos > 0) {
+                    final var newBatch = batch;
+                    batch.deadline = scheduler.schedule(windowNanos, TimeUnit.NANOSECONDS, () -> flush(newBatch));
+                }
+            }
+            batch.calls.add(call);
+            batch.topics.addAll(call.topics());
+            if (windowNanos == 0 || batch.topics.size() >= maxBatchSize) {
+                openBatches.remove(options);
+                if (batch.deadline != null) {
+                    batch.deadline.cancel();
+                }
+                full = batch;
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return call.result();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (openBatches) {
+            if (!openBatches.remove(batch.options, batch)) {
+                // the batch has already been sent because it had reached the max size
+                return;
+            }
+        }
+        // do not block the scheduler's thread with sending the request
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            complete(batch, null, new UStatusException(UCode.RESOURCE_EXHAUSTED, "Failed to send batch", e));
+        }
+    }
+
+    private void send(Batch batch) {
+        final var request = UUriBatch.newBuilder().addAllUris(batch.topics).build();
+        CompletionStage<GetLastMessagesResponse> response;
+        try {
+            response = delegate.getLastMessages(request, batch.options);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((combinedResponse, throwable) -> complete(batch, combinedResponse, throwable));
+    }
+
+    private static void complete(Batch batch, GetLastMessagesResponse combinedResponse, Throwable throwable) {
+        for (var call : batch.calls) {
+            if (throwable != null) {
+                call.result().completeExceptionally(throwable);
+            } else {
+                call.result().complete(extract(combinedResponse, call.topics()));
+            }
+        }
+    }
+
+    // gets the responses for the topics requested by a single caller
+    private static GetLastMessagesResponse extract(GetLastMessagesResponse combinedResponse, List<UUri> topics) {
+        final var builder = GetLastMessagesResponse.newBuilder();
+        for (var response : combinedResponse.getResponsesList()) {
+            if (isRequested(response, topics)) {
+                builder.addResponses(response);
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isRequested(MessageResponse response, List<UUri> topics) {
+        for (var topic : topics) {
+            if (topic.equals(response.getTopic()) || UriValidator.matches(topic, response.getTopic())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingCall(List<UUri> topics, CompletableFuture<GetLastMessagesResponse> result) {
+    }
+
+    /**
+     * Requests that are sent to the delegate together.
+     * <p>
+     * The fields are guarded by the monitor of the open batches map until the batch is sent.
+     */
+    private static final class Batch {
+        private final CallOptions options;
+        private final Set<UUri> topics = new LinkedHashSet<>();
+        private final List<PendingCall> calls = new ArrayList<>();
+        private DeadlineScheduler.Deadline deadline;
+
+        Batch(CallOptions options) {
+            this.options = options;
+        }
+    }
+}
@@ -21,10 +21,16 @@ import org.eclipse.uprotocol.transport.UTransport;
 public class AbstractCommunicationLayerClient {
     private final UTransport transport;
     private final LocalUriProvider uriProvider;
+    private final UMetrics metrics;
 
     protected AbstractCommunicationLayerClient(UTransport transport, LocalUriProvider uriProvider) {
+        this(transport, uriProvider, UMetrics.getDefault());
+    }
+
+    protected AbstractCommunicationLayerClient(UTransport transport, LocalUriProvider uriProvider, UMetrics metrics) {
         this.transport = Objects.requireNonNull(transport);
         this.uriProvider = Objects.requireNonNull(uriProvider);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     protected UTransport getTransport() {
@@ -34,4 +40,8 @@ public class AbstractCommunicationLayerClient {
     protected LocalUriProvider getUriProvider() {
         return uriProvider;
     }
+
+    protected UMetrics getMetrics() {
+        return metrics;
+    }
 }
@@ -0,0 +1,58 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.uprotocol.v1.UMessage;
+
+/**
+ * A {@link RequestHandler} that processes requests asynchronously.
+ * <p>
+ * Handlers of this type can be registered with any {@link RpcServer}. Servers that support
+ * asynchronous handlers, like {@link InMemoryRpcServer}, invoke {@link #handleRequestAsync(UMessage)}
+ * and send the response once the returned stage completes, without blocking the thread that the
+ * request has been delivered on. All other servers invoke {@link #handleRequest(UMessage)},
+ * which waits for the outcome of the asynchronous processing.
+ */
+@FunctionalInterface
+public interface AsyncRequestHandler extends RequestHandler {
+    /**
+     * Method called to handle/process request messages asynchronously.
+     *
+     * @param request The request message received.
+     * @return The response payload. The stage will be completed with a {@link UStatusException} if
+     * the service encounters an error processing the request.
+     */
+    CompletionStage<UPayload> handleRequestAsync(UMessage request);
+
+    /**
+     * Handles a request by invoking {@link #handleRequestAsync(UMessage)} and waiting for its outcome.
+     *
+     * @param request The request message received.
+     * @return the response payload.
+     * @throws UStatusException If the service encounters an error processing the request.
+     */
+    @Override
+    default UPayload handleRequest(UMessage request) throws UStatusException {
+        try {
+            return handleRequestAsync(request).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UStatusException statusException) {
+                throw statusException;
+            }
+            throw e;
+        }
+    }
+}
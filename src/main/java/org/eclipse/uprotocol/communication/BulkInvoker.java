@@ -0,0 +1,128 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Performs an asynchronous operation for many keys while limiting the number of operations in progress.
+ * <p>
+ * This is useful for issuing many RPC requests at once, e.g. when subscribing to hundreds of topics during
+ * startup. Starting all requests at once would flood the service and the transport, while performing them
+ * one after the other would make the total time grow with the number of requests. With a concurrency limit
+ * of {@code n}, the total time is roughly the number of requests divided by {@code n} times the latency of a
+ * single request.
+ */
+public final class BulkInvoker {
+
+    private BulkInvoker() {
+        // Utility class
+    }
+
+    /**
+     * Performs an operation for each of the given keys.
+     * <p>
+     * The operations are started in the iteration order of the keys. A new operation is started whenever
+     * a previously started operation has completed, so that at most {@code maxConcurrency} operations
+     * are in progress at any time. The failure of an operation does not affect any other operations.
+     *
+     * @param <K> The type of keys.
+     * @param <R> The type of the operations' results.
+     * @param keys The keys to perform the operation for. Duplicate keys are ignored.
+     * @param maxConcurrency The maximum number of operations in progress.
+     * @param operation The operation to perform. If the operation throws an exception, the outcome
+     * for the key is failed with that exception.
+     * @return The outcome of the operation per key, in the iteration order of the keys.
+     * @throws NullPointerException if any of the arguments or any of the keys is {@code null}.
+     * @throws IllegalArgumentException if max concurrency is not positive.
+     */
+    public static <K, R> Map<K, CompletionStage<R>> invokeAll(
+            Collection<K> keys,
+            int maxConcurrency,
+            Function<? super K, ? extends CompletionStage<R>> operation) {
+        Objects.requireNonNull(keys, "Keys must not be null");
+        Objects.requireNonNull(operation, "Operation must not be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        final Map<K, CompletableFuture<R>> outcomes = new LinkedHashMap<>();
+        for (var key : keys) {
+            outcomes.putIfAbsent(Objects.requireNonNull(key, "Key must not be null"), new CompletableFuture<>());
+        }
+        new Run<>(new ArrayList<>(outcomes.entrySet()).iterator(), maxConcurrency, operation).drain();
+        return Collections.unmodifiableMap(outcomes);
+    }
+
+    /**
+     * The state of an invocation of {@link BulkInvoker#invokeAll(Collection, int, Function)}.
+     * <p>
+     * Operations are only started from within {@link #drain()}, which is never executed by more than
+     * one thread at a time and which does not recurse if an operation completes on the calling thread.
+     */
+    private static final class Run<K, R> {
+        private final Iterator<Map.Entry<K, CompletableFuture<R>>> pending;
+        private final Function<? super K, ? extends CompletionStage<R>> operation;
+        private final AtomicInteger permits;
+        private final AtomicInteger drainRequests = new AtomicInteger();
+
+        Run(
+                Iterator<Map.Entry<K, CompletableFuture<R>>> pending,
+                int maxConcurrency,
+                Function<? super K, ? extends CompletionStage<R>> operation) {
+            this.pending = pending;
+            this.permits = new AtomicInteger(maxConcurrency);
+            this.operation = operation;
+        }
+
+        void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                // the thread currently draining will start the next operation
+                return;
+            }
+            do {
+                while (pending.hasNext() && permits.get() > 0) {
+                    permits.decrementAndGet();
+                    start(pending.next());
+                }
+            } while (drainRequests.decrementAndGet() != 0);
+        }
+
+        private void start(Map.Entry<K, CompletableFuture<R>> entry) {
+            CompletionStage<R> stage;
+            try {
+                stage = Objects.requireNonNull(operation.apply(entry.getKey()), "Operation returned null");
+            } catch (RuntimeException e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+            stage.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    entry.getValue().completeExceptionally(throwable);
+                } else {
+                    entry.getValue().complete(result);
+                }
+                permits.incrementAndGet();
+                drain();
+            });
+        }
+    }
+}
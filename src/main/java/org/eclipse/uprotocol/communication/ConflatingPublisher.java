@@ -0,0 +1,242 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.v1.UCode;
+
+/**
+ * A Publisher that only publishes the most recent payload of each topic.
+ * <p>
+ * This is useful for signals like the vehicle speed, which are produced more often than consumers can
+ * process them, and for which only the latest value is of interest. For each topic, at most one message
+ * is outstanding at the delegate publisher at any time, and consecutive messages are published with
+ * a configurable minimum interval. Payloads that are published while a topic cannot accept another
+ * message replace the topic's pending payload. Messages are only created for the payloads that are
+ * eventually handed to the delegate, so replaced payloads do not cause any messages to be created.
+ * <p>
+ * The stage returned for a payload completes with the outcome of publishing the payload that is
+ * pending at the time of publishing, i.e. the given payload or a payload that has replaced it.
+ * <p>
+ * Payloads that have been deferred until the interval has elapsed are published using an {@link Executor},
+ * so that the scheduler's thread is not blocked by the delegate or by (synchronously invoked) subscribers.
+ */
+public final class ConflatingPublisher implements Publisher {
+
+    private final Publisher delegate;
+    private final long minIntervalNanos;
+    private final DeadlineScheduler scheduler;
+    private final Executor executor;
+    private final Map<Integer, Topic> topics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a publisher that publishes the latest payload of a topic as soon as the previous message
+     * of the topic has been published.
+     *
+     * @param delegate The publisher to use for publishing messages.
+     * @throws NullPointerException if delegate is {@code null}.
+     */
+    public ConflatingPublisher(Publisher delegate) {
+        this(delegate, 0, TimeUnit.MILLISECONDS, DeadlineScheduler.getDefault());
+    }
+
+    /**
+     * Creates a publisher using the {@link DeadlineScheduler#getDefault() default scheduler}.
+     *
+     * @param delegate The publisher to use for publishing messages.
+     * @param minInterval The minimum time between publishing two messages to the same topic.
+     * @param unit The unit of the interval.
+     * @throws NullPointerException if delegate or unit are {@code null}.
+     * @throws IllegalArgumentException if the interval is negative.
+     */
+    public ConflatingPublisher(Publisher delegate, long minInterval, TimeUnit unit) {
+        this(delegate, minInterval, unit, DeadlineScheduler.getDefault());
+    }
+
+    /**
+     * Creates a publisher using the {@link ForkJoinPool#commonPool() common pool} for publishing
+     * deferred messages.
+     *
+     * @param delegate The publisher to use for publishing messages.
+     * @param minInterval The minimum time between publishing two messages to the same topic.
+     * @param unit The unit of the interval.
+     * @param scheduler The scheduler to use for deferring messages until the interval has elapsed.
+     * @throws NullPointerException if delegate, unit or scheduler are {@code null}.
+     * @throws IllegalArgumentException if the interval is negative.
+     */
+    public ConflatingPublisher(Publisher delegate, long minInterval, TimeUnit unit, DeadlineScheduler scheduler) {
+        this(delegate, minInterval, unit, scheduler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param delegate The publisher to use for publishing messages.
+     * @param minInterval The minimum time between publishing two messages to the same topic.
+     * @param unit The unit of the interval.
+     * @param scheduler The scheduler to use for deferring messages until the interval has elapsed.
+     * @param executor The executor to use for publishing deferred messages.
+     * @throws NullPointerException if delegate, unit, scheduler or executor are {@code null}.
+     * @throws IllegalArgumentException if the interval is negative.
+     */
+    public ConflatingPublisher(
+            Publisher delegate,
+            long minInterval,
+            TimeUnit unit,
+            DeadlineScheduler scheduler,
+            Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        Objects.requireNonNull(unit, "Unit must not be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "Scheduler must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        if (minInterval < 0) {
+            throw new IllegalArgumentException("Min interval must not be negative");
+        }
+        this.minIntervalNanos = unit.toNanos(minInterval);
+    }
+
+    @Override
+    public CompletionStage<Void> publish(int resourceId, CallOptions options, UPayload payload) {
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payload);
+        // avoid the locking done by computeIfAbsent for topics which are already present
+        Topic topic = topics.get(resourceId);
+        if (topic == null) {
+            topic = topics.computeIfAbsent(resourceId, Topic::new);
+        }
+        final CompletableFuture<Void> result;
+        synchronized (topic) {
+            if (topic.pendingPayload == null) {
+                topic.pendingResult = new CompletableFuture<>();
+            }
+            topic.pendingPayload = payload;
+            topic.pendingOptions = options;
+            result = topic.pendingResult;
+        }
+        publishPending(topic, false);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation only publishes the last of the payloads.
+     */
+    @Override
+    public CompletionStage<Void> publishAll(int resourceId, CallOptions options, List<UPayload> payloads) {
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payloads);
+        if (payloads.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return publish(resourceId, options, payloads.get(payloads.size() - 1));
+    }
+
+    // the interval is not checked again once the scheduler has deferred the pending payload
+    private void publishPending(Topic topic, boolean intervalElapsed) {
+        final UPayload payload;
+        final CallOptions options;
+        final CompletableFuture<Void> result;
+        synchronized (topic) {
+            if (topic.pendingPayload == null || topic.publishing || topic.deferred) {
+                return;
+            }
+            final long now = System.nanoTime();
+            final long remainingNanos = topic.lastPublishedNanos + minIntervalNanos - now;
+            if (!intervalElapsed && topic.hasPublished && remainingNanos > 0) {
+                topic.deferred = true;
+                scheduler.schedule(remainingNanos, TimeUnit.NANOSECONDS, () -> publishDeferred(topic));
+                return;
+            }
+            payload = topic.pendingPayload;
+            options = topic.pendingOptions;
+            result = topic.pendingResult;
+            topic.pendingPayload = null;
+            topic.pendingOptions = null;
+            topic.pendingResult = null;
+            topic.publishing = true;
+            topic.hasPublished = true;
+            topic.lastPublishedNanos = now;
+        }
+        CompletionStage<Void> outcome;
+        try {
+            outcome = delegate.publish(topic.resourceId, options, payload);
+        } catch (RuntimeException e) {
+            outcome = CompletableFuture.failedFuture(e);
+        }
+        outcome.whenComplete((ok, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(null);
+            }
+            synchronized (topic) {
+                topic.publishing = false;
+            }
+            publishPending(topic, false);
+        });
+    }
+
+    // hands the deferred payload to the executor instead of publishing it on the scheduler's thread
+    private void publishDeferred(Topic topic) {
+        try {
+            executor.execute(() -> {
+                synchronized (topic) {
+                    topic.deferred = false;
+                }
+                publishPending(topic, true);
+            });
+        } catch (RejectedExecutionException e) {
+            final CompletableFuture<Void> result;
+            synchronized (topic) {
+                topic.deferred = false;
+                result = topic.pendingResult;
+                topic.pendingPayload = null;
+                topic.pendingOptions = null;
+                topic.pendingResult = null;
+            }
+            if (result != null) {
+                result.completeExceptionally(
+                    new UStatusException(UCode.RESOURCE_EXHAUSTED, "Failed to publish deferred message", e));
+            }
+        }
+    }
+
+    /**
+     * The publishing state of a topic, guarded by the instance's monitor.
+     */
+    private static final class Topic {
+        private final int resourceId;
+        private UPayload pendingPayload;
+        private CallOptions pendingOptions;
+        private CompletableFuture<Void> pendingResult;
+        private boolean publishing;
+        private boolean deferred;
+        private boolean hasPublished;
+        private long lastPublishedNanos;
+
+        Topic(int resourceId) {
+            this.resourceId = resourceId;
+        }
+    }
+}
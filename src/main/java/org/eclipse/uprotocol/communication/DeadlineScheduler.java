@@ -0,0 +1,66 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduler for actions that need to be performed once a deadline has been reached,
+ * e.g. failing an RPC for which no response has been received in time.
+ * <p>
+ * Implementations are expected to be optimized for large numbers of deadlines that
+ * are cancelled before they expire.
+ */
+public interface DeadlineScheduler {
+
+    /**
+     * Schedules an action to be performed once a timeout has elapsed.
+     *
+     * @param timeout The amount of time after which the action should be performed.
+     * @param unit The unit of the timeout.
+     * @param expiryAction The action to perform.
+     * @return A handle that can be used to cancel the deadline.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    Deadline schedule(long timeout, TimeUnit unit, Runnable expiryAction);
+
+    /**
+     * Gets a scheduler that is shared by all clients which do not use a scheduler of their own.
+     *
+     * @return The scheduler.
+     */
+    static DeadlineScheduler getDefault() {
+        return HashedTimingWheel.DefaultInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * A handle for a scheduled action.
+     */
+    interface Deadline {
+
+        /**
+         * Cancels the scheduled action.
+         *
+         * @return {@code true} if the action has been cancelled, or {@code false} if the
+         * deadline had already expired or had already been cancelled.
+         */
+        boolean cancel();
+
+        /**
+         * Checks if the deadline has expired.
+         *
+         * @return {@code true} if the action has been (or is being) performed.
+         */
+        boolean isExpired();
+    }
+}
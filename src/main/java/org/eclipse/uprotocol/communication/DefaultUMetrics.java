@@ -0,0 +1,25 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.ServiceLoader;
+
+/**
+ * Holds the instance returned by {@link UMetrics#getDefault()}, which is only looked up on first use.
+ */
+final class DefaultUMetrics {
+    static final UMetrics INSTANCE = ServiceLoader.load(UMetrics.class).findFirst().orElse(UMetrics.NOOP);
+
+    private DefaultUMetrics() {
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+
+/**
+ * Limits the number and size of messages that have been handed to a transport but whose sending
+ * has not completed yet.
+ * <p>
+ * Senders acquire credits for the messages they want to send and release them once the transport has
+ * completed sending the messages. Credits are granted in the order in which they have been requested.
+ * A request that exceeds the limits on its own is granted once no other credits are outstanding, so
+ * that large messages delay other messages but cannot block the sender forever.
+ * <p>
+ * A single instance can be shared by multiple {@link SimplePublisher}s and {@link SimpleNotifier}s in
+ * order to limit the messages outstanding on a transport that they have in common.
+ */
+public final class FlowController {
+
+    private final int maxMessages;
+    private final long maxBytes;
+
+    // all of the following fields are guarded by the waiters queue's monitor
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private int outstandingMessages;
+    private long outstandingBytes;
+
+    /**
+     * Creates a controller that limits the number of outstanding messages only.
+     *
+     * @param maxMessages The maximum number of outstanding messages.
+     * @throws IllegalArgumentException if max messages is not positive.
+     */
+    public FlowController(int maxMessages) {
+        this(maxMessages, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a controller.
+     *
+     * @param maxMessages The maximum number of outstanding messages.
+     * @param maxBytes The maximum total serialized size of outstanding messages.
+     * @throws IllegalArgumentException if any of the limits is not positive.
+     */
+    public FlowController(int maxMessages, long maxBytes) {
+        if (maxMessages <= 0) {
+            throw new IllegalArgumentException("Max messages must be positive");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Acquires credits for sending messages.
+     *
+     * @param messages The number of messages.
+     * @param bytes The total serialized size of the messages.
+     * @return A stage that completes once the credits have been granted.
+     * @throws IllegalArgumentException if any of the arguments is negative.
+     */
+    public CompletionStage<Void> acquire(int messages, long bytes) {
+        checkAmounts(messages, bytes);
+        synchronized (waiters) {
+            if (waiters.isEmpty() && fits(messages, bytes)) {
+                grant(messages, bytes);
+                return CompletableFuture.completedFuture(null);
+            }
+            final var waiter = new Waiter(messages, bytes, new CompletableFuture<>());
+            waiters.add(waiter);
+            return waiter.granted();
+        }
+    }
+
+    /**
+     * Acquires credits for sending messages, if they are available immediately.
+     * <p>
+     * Credits are not granted while other senders are waiting for credits.
+     *
+     * @param messages The number of messages.
+     * @param bytes The total serialized size of the messages.
+     * @return {@code true} if the credits have been granted.
+     * @throws IllegalArgumentException if any of the arguments is negative.
+     */
+    public boolean tryAcquire(int messages, long bytes) {
+        checkAmounts(messages, bytes);
+        synchronized (waiters) {
+            if (waiters.isEmpty() && fits(messages, bytes)) {
+                grant(messages, bytes);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Releases credits that have been acquired before.
+     *
+     * @param messages The number of messages that have been sent.
+     * @param bytes The total serialized size of the messages.
+     * @throws IllegalArgumentException if any of the arguments is negative.
+     */
+    public void release(int messages, long bytes) {
+        checkAmounts(messages, bytes);
+        final List<Waiter> granted = new ArrayList<>();
+        synchronized (waiters) {
+            outstandingMessages = Math.max(0, outstandingMessages - messages);
+            outstandingBytes = Math.max(0, outstandingBytes - bytes);
+            while (!waiters.isEmpty() && fits(waiters.peek().messages(), waiters.peek().bytes())) {
+                final var waiter = waiters.poll();
+                grant(waiter.messages(), waiter.bytes());
+                granted.add(waiter);
+            }
+        }
+        // complete outside of the lock because dependent stages are run synchronously
+        granted.forEach(waiter -> waiter.granted().complete(null));
+    }
+
+    /**
+     * Gets the number of messages for which credits have been granted but not released yet.
+     *
+     * @return The number of messages.
+     */
+    public int getOutstandingMessages() {
+        synchronized (waiters) {
+            return outstandingMessages;
+        }
+    }
+
+    /**
+     * Gets the total size of the messages for which credits have been granted but not released yet.
+     *
+     * @return The number of bytes.
+     */
+    public long getOutstandingBytes() {
+        synchronized (waiters) {
+            return outstandingBytes;
+        }
+    }
+
+    /**
+     * Gets the number of senders waiting for credits.
+     *
+     * @return The number of pending {@link #acquire(int, long)} requests.
+     */
+    public int getWaitingCount() {
+        synchronized (waiters) {
+            return waiters.size();
+        }
+    }
+
+    /**
+     * Sends messages once credits for them have been acquired.
+     * <p>
+     * The credits are released once sending the messages has completed.
+     *
+     * @param messages The messages to send.
+     * @param waitForCredits {@code true} if sending should be deferred until credits are available,
+     * {@code false} if sending should fail immediately instead.
+     * @param sender The action handing the messages to the transport.
+     * @return The outcome of sending the messages. The stage fails with a {@link UStatusException}
+     * having code {@link UCode#RESOURCE_EXHAUSTED} if credits were not available immediately and
+     * waiting has not been requested.
+     */
+    CompletionStage<Void> send(
+            List<UMessage> messages,
+            boolean waitForCredits,
+            Supplier<CompletionStage<Void>> sender) {
+        final int count = messages.size();
+        long size = 0;
+        for (var message : messages) {
+            size += message.getSerializedSize();
+        }
+        final long bytes = size;
+        final CompletionStage<Void> credits;
+        if (waitForCredits) {
+            credits = acquire(count, bytes);
+        } else if (tryAcquire(count, bytes)) {
+            credits = CompletableFuture.completedFuture(null);
+        } else {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.RESOURCE_EXHAUSTED, "Too many messages outstanding"));
+        }
+        return credits
+            .thenCompose(ok -> {
+                try {
+                    return sender.get();
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            })
+            .whenComplete((ok, throwable) -> release(count, bytes));
+    }
+
+    private static void checkAmounts(int messages, long bytes) {
+        if (messages < 0 || bytes < 0) {
+            throw new IllegalArgumentException("Number of messages and bytes must not be negative");
+        }
+    }
+
+    private boolean fits(int messages, long bytes) {
+        if (outstandingMessages == 0 && outstandingBytes == 0) {
+            return true;
+        }
+        return messages <= maxMessages - outstandingMessages && bytes <= maxBytes - outstandingBytes;
+    }
+
+    private void grant(int messages, long bytes) {
+        outstandingMessages += messages;
+        outstandingBytes += bytes;
+    }
+
+    private record Waiter(int messages, long bytes, CompletableFuture<Void> granted) {
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DeadlineScheduler} based on a hashed timing wheel.
+ * <p>
+ * Deadlines are assigned to one of a fixed number of buckets based on their expiration time.
+ * A single worker thread advances through the buckets once per tick and performs the actions
+ * of all deadlines in the current bucket that have expired. Scheduling and cancelling a deadline
+ * are constant time operations which do not require any locking, and cancelled deadlines are
+ * discarded in bulk when the worker visits their bucket.
+ * <p>
+ * Actions are performed on the worker thread no earlier than their deadline and at most one
+ * tick later. They should therefore return quickly.
+ */
+public final class HashedTimingWheel implements DeadlineScheduler, AutoCloseable {
+    /**
+     * The default duration of a tick in milliseconds.
+     */
+    public static final long DEFAULT_TICK_DURATION_MILLIS = 10;
+    /**
+     * The default number of buckets.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+    // upper bound for the number of newly scheduled deadlines that are added to the wheel per tick
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+    private final Queue<Entry> scheduledEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final Thread worker;
+
+    /**
+     * Creates a timing wheel using the default tick duration and wheel size.
+     */
+    public HashedTimingWheel() {
+        this(DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Creates a timing wheel.
+     * <p>
+     * The worker thread is started when the first deadline is scheduled.
+     *
+     * @param tickDuration The duration of a tick. This is the resolution of the deadlines.
+     * @param unit The unit of the tick duration.
+     * @param wheelSize The number of buckets. This will be rounded up to the next power of two.
+     * @throws NullPointerException if unit is {@code null}.
+     * @throws IllegalArgumentException if tick duration or wheel size are not positive.
+     */
+    public HashedTimingWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Wheel size must be in range [1, 2^30]");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(this::run, "uprotocol-deadline-scheduler");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this scheduler has been closed.
+     */
+    @Override
+    public Deadline schedule(long timeout, TimeUnit unit, Runnable expiryAction) {
+        Objects.requireNonNull(unit, "Unit cannot be null");
+        Objects.requireNonNull(expiryAction, "Expiry action cannot be null");
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout) - startTime;
+        if (timeout > 0 && deadline < 0) {
+            // guard against overflow
+            deadline = Long.MAX_VALUE;
+        }
+        final var entry = new Entry(deadline, expiryAction);
+        scheduledEntries.add(entry);
+        return entry;
+    }
+
+    /**
+     * Stops the worker thread.
+     * <p>
+     * Deadlines that have not expired yet are discarded without performing their actions.
+     */
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_CLOSED) == STATE_STARTED) {
+            worker.interrupt();
+        }
+    }
+
+    private void start() {
+        final int currentState = state.get();
+        if (currentState == STATE_CLOSED) {
+            throw new IllegalStateException("Scheduler has been closed");
+        }
+        if (currentState == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            worker.start();
+        }
+    }
+
+    private void run() {
+        long tick = (System.nanoTime() - startTime) / tickNanos;
+        while (state.get() == STATE_STARTED) {
+            final long now = waitForEndOfTick(tick);
+            if (now < 0) {
+                break;
+            }
+            transferScheduledEntries(tick);
+            wheel[(int) (tick & mask)].expireEntries(now);
+            tick++;
+        }
+        scheduledEntries.clear();
+    }
+
+    // returns the current time relative to the start time, or -1 if the scheduler has been closed
+    private long waitForEndOfTick(long tick) {
+        final long endOfTick = tickNanos * (tick + 1);
+        while (true) {
+            final long now = System.nanoTime() - startTime;
+            final long sleepNanos = endOfTick - now;
+            if (sleepNanos <= 0) {
+                return now;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_CLOSED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferScheduledEntries(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            final Entry entry = scheduledEntries.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.isCancelled()) {
+                continue;
+            }
+            final long expirationTick = entry.deadline / tickNanos;
+            entry.remainingRounds = (expirationTick - tick) / wheel.length;
+            // deadlines that should already have expired are processed in the current tick
+            wheel[(int) (Math.max(expirationTick, tick) & mask)].add(entry);
+        }
+    }
+
+    /**
+     * A doubly linked list of entries that is only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            if (head == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+            }
+            tail = entry;
+        }
+
+        void expireEntries(long now) {
+            Entry entry = head;
+            while (entry != null) {
+                final Entry next = entry.next;
+                if (entry.remainingRounds <= 0 && entry.deadline <= now) {
+                    remove(entry);
+                    entry.expire();
+                } else if (entry.isCancelled()) {
+                    remove(entry);
+                } else {
+                    entry.remainingRounds--;
+                }
+                entry = next;
+            }
+        }
+
+        private void remove(Entry entry) {
+            if (entry.prev == null) {
+                head = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    /**
+     * A scheduled deadline.
+     */
+    private static final class Entry implements Deadline {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Entry> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private final long deadline;
+        private Runnable expiryAction;
+        private volatile int state = PENDING;
+
+        // the following fields are only accessed by the worker thread
+        private long remainingRounds;
+        private Entry prev;
+        private Entry next;
+
+        Entry(long deadline, Runnable expiryAction) {
+            this.deadline = deadline;
+            this.expiryAction = expiryAction;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, PENDING, CANCELLED)) {
+                // the action will never be performed, so there is no need to keep it around
+                // until the worker discards the entry
+                expiryAction = null;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                expiryAction.run();
+            } catch (Exception e) {
+                LOGGER.warn("Failed to perform action for expired deadline", e);
+            } finally {
+                expiryAction = null;
+            }
+        }
+    }
+
+    /**
+     * Holds the instance returned by {@link DeadlineScheduler#getDefault()}, which is only created on first use.
+     */
+    static final class DefaultInstanceHolder {
+        static final HashedTimingWheel INSTANCE = new HashedTimingWheel();
+
+        private DefaultInstanceHolder() {
+        }
+    }
+}
@@ -12,16 +12,15 @@
  */
 package org.eclipse.uprotocol.communication;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import org.eclipse.uprotocol.jfr.RpcInvocationEvent;
 import org.eclipse.uprotocol.transport.LocalUriProvider;
 import org.eclipse.uprotocol.transport.UListener;
 import org.eclipse.uprotocol.transport.UTransport;
@@ -34,12 +33,16 @@ import org.eclipse.uprotocol.v1.UMessageType;
 import org.eclipse.uprotocol.v1.UStatus;
 import org.eclipse.uprotocol.v1.UUID;
 import org.eclipse.uprotocol.v1.UUri;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The following is an example implementation of the {@link RpcClient} interface that
  * wraps the {@link UTransport} for implementing the RPC pattern to send 
  * RPC requests and receive RPC responses. This implementation uses an in-memory
- * map to store the futures that needs to be completed when the response comes in from the server.
+ * table to store the futures that needs to be completed when the response comes in from the server.
+ * The futures are keyed by the request ID, which responses refer to in their
+ * {@link UAttributes#getReqid() reqid} attribute.
  * 
  * *NOTE:* Developers are not required to use these APIs, they can implement their own
  *         or directly use the {@link UTransport} to send RPC requests and register listeners that
@@ -47,8 +50,13 @@ import org.eclipse.uprotocol.v1.UUri;
  */
 // [impl->dsn~communication-layer-impl-default~1]
 public class InMemoryRpcClient extends AbstractCommunicationLayerClient implements RpcClient {
-    // Map to store the futures that needs to be completed when the response comes in
-    private final Map<UUID, CompletableFuture<UMessage>> mRequests = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryRpcClient.class);
+
+    // Table to store the futures that needs to be completed when the response comes in
+    private final PendingRequestTable<PendingRequest> mRequests = new PendingRequestTable<>();
+
+    // Scheduler used for failing requests for which no response has been received in time
+    private final DeadlineScheduler deadlineScheduler;
 
     // Generic listener to handle all RPC response messages
     private final UListener mResponseHandler = this::handleResponse;
@@ -64,7 +72,39 @@ public class InMemoryRpcClient extends AbstractCommunicationLayerClient implemen
      * @throws CompletionException if registration of the response listener fails.
      */
     public InMemoryRpcClient(UTransport transport, LocalUriProvider uriProvider) {
-        super(transport, uriProvider);
+        this(transport, uriProvider, DeadlineScheduler.getDefault());
+    }
+
+    /**
+     * Creates a client for a transport using a specific scheduler for the requests' deadlines.
+     *
+     * @param transport The transport to use for sending the RPC requests.
+     * @param uriProvider The helper for creating URIs that represent local resources.
+     * @param deadlineScheduler The scheduler to use for failing requests that time out.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     * @throws CompletionException if registration of the response listener fails.
+     */
+    public InMemoryRpcClient(UTransport transport, LocalUriProvider uriProvider, DeadlineScheduler deadlineScheduler) {
+        this(transport, uriProvider, deadlineScheduler, UMetrics.getDefault());
+    }
+
+    /**
+     * Creates a client for a transport using a specific scheduler and metrics.
+     *
+     * @param transport The transport to use for sending the RPC requests.
+     * @param uriProvider The helper for creating URIs that represent local resources.
+     * @param deadlineScheduler The scheduler to use for failing requests that time out.
+     * @param metrics The metrics to record the outcome and latency of requests in.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     * @throws CompletionException if registration of the response listener fails.
+     */
+    public InMemoryRpcClient(
+            UTransport transport,
+            LocalUriProvider uriProvider,
+            DeadlineScheduler deadlineScheduler,
+            UMetrics metrics) {
+        super(transport, uriProvider, metrics);
+        this.deadlineScheduler = Objects.requireNonNull(deadlineScheduler, "Deadline scheduler cannot be null");
 
         getTransport().registerListener(
                 UriFactory.ANY,
@@ -100,16 +140,14 @@ public class InMemoryRpcClient extends AbstractCommunicationLayerClient implemen
         final UMessage request = builder.build(requestPayload);
         
         // Create the response future and store it in mRequests
-        CompletableFuture<UMessage> responseFuture = new CompletableFuture<UMessage>()
-                .orTimeout(request.getAttributes().getTtl(), TimeUnit.MILLISECONDS)
-                .exceptionally(e -> {
-                    throw new UStatusException(UCode.DEADLINE_EXCEEDED, "Request timed out");
-                })
-                .whenComplete((responseMessage, exception) -> mRequests.remove(request.getAttributes().getId()));
-
-        mRequests.compute(request.getAttributes().getId(), (requestId, currentRequest) -> {
-            return responseFuture;
-        });
+        final UUID requestId = request.getAttributes().getId();
+        final PendingRequest pendingRequest = new PendingRequest(
+            methodUri, request.getAttributes(), requestId.getMsb(), requestId.getLsb());
+        getMetrics().rpcStarted(methodUri);
+        mRequests.put(pendingRequest.msb, pendingRequest.lsb, pendingRequest);
+        pendingRequest.deadline = deadlineScheduler.schedule(
+            request.getAttributes().getTtl(), TimeUnit.MILLISECONDS, pendingRequest);
+        final CompletableFuture<UMessage> responseFuture = pendingRequest.responseFuture;
 
         // Send the request
         return getTransport().send(request)
@@ -140,11 +178,13 @@ public class InMemoryRpcClient extends AbstractCommunicationLayerClient implemen
         }
 
         // Check if the response is for a request we made, if not then ignore it
-        final CompletableFuture<UMessage> responseFuture = mRequests.remove(responseAttributes.getReqid());
-        if (responseFuture == null) {
+        final PendingRequest pendingRequest = mRequests.remove(responseAttributes.getReqid());
+        if (pendingRequest == null) {
             Optional.ofNullable(unexpectedMessageHandler).ifPresent(handler -> handler.accept(message));
             return;
         }
+        pendingRequest.deadline.cancel();
+        final CompletableFuture<UMessage> responseFuture = pendingRequest.responseFuture;
 
         // Check if the response has a commstatus and if it is not OK then complete the future with an exception
         if (responseAttributes.hasCommstatus() && responseAttributes.getCommstatus() != UCode.OK) {
@@ -152,10 +192,69 @@ public class InMemoryRpcClient extends AbstractCommunicationLayerClient implemen
             final var exception = UPayload.unpack(message, UStatus.class)
                 .map(UStatusException::new)
                 // fall back to a generic error based on commstatus
-                .orElseGet(() -> new UStatusException(responseAttributes.getCommstatus(), "Communication error"));
+                // (using the raw value, because a status unknown to this version cannot be set as a UCode)
+                .orElseGet(() -> new UStatusException(UStatus.newBuilder()
+                    .setCodeValue(responseAttributes.getCommstatusValue())
+                    .setMessage("Communication error")
+                    .build()));
+            pendingRequest.recordOutcome(responseAttributes.getCommstatus());
             responseFuture.completeExceptionally(exception);
         } else {
+            pendingRequest.recordOutcome(UCode.OK);
             responseFuture.complete(message); 
         }
     }
+
+    /**
+     * A request for which no response has been received yet.
+     * <p>
+     * The request is failed with {@link UCode#DEADLINE_EXCEEDED} when its deadline expires.
+     */
+    private final class PendingRequest implements Runnable {
+        private final UUri method;
+        private final long msb;
+        private final long lsb;
+        private final long startNanos = System.nanoTime();
+        private final CompletableFuture<UMessage> responseFuture = new CompletableFuture<>();
+        private volatile DeadlineScheduler.Deadline deadline;
+        // the flight recorder event and the attributes it refers to, only set if the event is being recorded
+        private final RpcInvocationEvent event;
+        private final UAttributes requestAttributes;
+
+        PendingRequest(UUri method, UAttributes requestAttributes, long msb, long lsb) {
+            this.method = method;
+            this.msb = msb;
+            this.lsb = lsb;
+            if (RpcInvocationEvent.isRecording()) {
+                this.event = new RpcInvocationEvent();
+                this.event.begin();
+                this.requestAttributes = requestAttributes;
+            } else {
+                this.event = null;
+                this.requestAttributes = null;
+            }
+        }
+
+        void recordOutcome(UCode status) {
+            // a faulty metrics implementation must never prevent the response future from being completed
+            try {
+                getMetrics().rpcCompleted(method, status, System.nanoTime() - startNanos);
+                if (event != null) {
+                    event.setStatus(status);
+                    event.commit(requestAttributes);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to record outcome of RPC request", e);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (mRequests.remove(msb, lsb, this)) {
+                // only record the timeout if the response has not been processed concurrently
+                recordOutcome(UCode.DEADLINE_EXCEEDED);
+            }
+            responseFuture.completeExceptionally(new UStatusException(UCode.DEADLINE_EXCEEDED, "Request timed out"));
+        }
+    }
 }
@@ -16,17 +16,26 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.uprotocol.jfr.RequestHandlerEvent;
 import org.eclipse.uprotocol.transport.LocalUriProvider;
 import org.eclipse.uprotocol.transport.UListener;
 import org.eclipse.uprotocol.transport.UTransport;
 import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.transport.validator.UAttributesValidator;
 import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.uri.factory.UriInterner;
 import org.eclipse.uprotocol.uri.serializer.UriSerializer;
 import org.eclipse.uprotocol.uri.validator.UriValidator;
+import org.eclipse.uprotocol.uuid.serializer.UuidSerializer;
 import org.eclipse.uprotocol.v1.UAttributes;
 import org.eclipse.uprotocol.v1.UCode;
 import org.eclipse.uprotocol.v1.UMessage;
@@ -44,6 +53,18 @@ import org.slf4j.LoggerFactory;
  * uses an in-memory map to store the request handlers that needs to be invoked when the
  * request comes in from the client.
  * <p>
+ * By default, request handlers are invoked on the thread that the transport delivers the request on.
+ * A server can also be created with an {@link Executor} for running the handlers, e.g. a thread pool
+ * or (on Java 21 and later) an executor that creates a virtual thread per task. Handlers implementing
+ * {@link AsyncRequestHandler} are not expected to block, and the response is sent once the
+ * stage returned by the handler completes. The number of requests that are processed concurrently
+ * for a method can be limited. Requests exceeding the limit are rejected with
+ * {@link UCode#RESOURCE_EXHAUSTED}.
+ * <p>
+ * Requests that have already expired when they are about to be processed are discarded without
+ * invoking the handler and without sending a response, because the client will not be waiting for
+ * the response anymore. The number of discarded requests is available via {@link #getExpiredRequestCount()}.
+ * <p>
  * <em>NOTE:</em> Developers are not required to use these APIs, they can implement their own
  *                or directly use a {@link UTransport} to register listeners that handle 
  *                RPC requests and send RPC responses.
@@ -53,9 +74,22 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
     private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryRpcServer.class);
 
     protected static final String REQUEST_HANDLER_ERROR_MESSAGE = "Failed to handle RPC request";
+    protected static final String MAX_CONCURRENT_REQUESTS_ERROR_MESSAGE = "Too many concurrent requests";
+
+    /**
+     * The value indicating that the number of concurrent requests is not limited.
+     */
+    public static final int UNLIMITED_CONCURRENT_REQUESTS = Integer.MAX_VALUE;
 
     // Map to store the request handlers so we can handle the right request on the server side
-    private final Map<UUri, RequestHandler> mRequestsHandlers = new ConcurrentHashMap<>();
+    private final Map<UUri, MethodRegistration> mRequestsHandlers = new ConcurrentHashMap<>();
+
+    // Executor to run the request handlers on, or null to run them on the transport's thread
+    private final Executor handlerExecutor;
+    private final int defaultMaxConcurrentRequests;
+
+    // Number of requests that have been discarded because they had expired before being processed
+    private final LongAdder expiredRequests = new LongAdder();
 
     // Generic listener to handle all RPC request messages
     private final UListener mRequestHandler = this::handleRequest;
@@ -72,7 +106,61 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
      * @throws NullPointerException if transport is {@code null}.
      */
     public InMemoryRpcServer (UTransport transport, LocalUriProvider uriProvider) {
-        super(transport, uriProvider);
+        this(transport, uriProvider, null, UNLIMITED_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Creates a new server for a transport which invokes request handlers using an executor.
+     *
+     * @param transport The transport to use for receiving RPC requests and
+     *                  sending RPC responses.
+     * @param uriProvider The URI provider to use for generating local resource URIs.
+     * @param handlerExecutor The executor to run request handlers on or {@code null} to run
+     *                        request handlers on the thread that the transport delivers requests on.
+     * @param defaultMaxConcurrentRequests The maximum number of requests that are processed concurrently
+     *                                     per method, unless specified otherwise during registration.
+     * @throws NullPointerException if transport or URI provider are {@code null}.
+     * @throws IllegalArgumentException if the maximum number of concurrent requests is not positive.
+     */
+    public InMemoryRpcServer (
+            UTransport transport,
+            LocalUriProvider uriProvider,
+            Executor handlerExecutor,
+            int defaultMaxConcurrentRequests) {
+        this(transport, uriProvider, handlerExecutor, defaultMaxConcurrentRequests, UMetrics.getDefault());
+    }
+
+    /**
+     * Creates a new server for a transport which invokes request handlers using an executor
+     * and records the processing of requests in specific metrics.
+     *
+     * @param transport The transport to use for receiving RPC requests and
+     *                  sending RPC responses.
+     * @param uriProvider The URI provider to use for generating local resource URIs.
+     * @param handlerExecutor The executor to run request handlers on or {@code null} to run
+     *                        request handlers on the thread that the transport delivers requests on.
+     * @param defaultMaxConcurrentRequests The maximum number of requests that are processed concurrently
+     *                                     per method, unless specified otherwise during registration.
+     * @param metrics The metrics to record the outcome and handler execution time of requests in.
+     * @throws NullPointerException if transport, URI provider or metrics are {@code null}.
+     * @throws IllegalArgumentException if the maximum number of concurrent requests is not positive.
+     */
+    public InMemoryRpcServer (
+            UTransport transport,
+            LocalUriProvider uriProvider,
+            Executor handlerExecutor,
+            int defaultMaxConcurrentRequests,
+            UMetrics metrics) {
+        super(transport, uriProvider, metrics);
+        this.handlerExecutor = handlerExecutor;
+        this.defaultMaxConcurrentRequests = checkMaxConcurrentRequests(defaultMaxConcurrentRequests);
+    }
+
+    private static int checkMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Maximum number of concurrent requests must be positive");
+        }
+        return maxConcurrentRequests;
     }
 
     /**
@@ -93,15 +181,48 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
         this.sendResponseErrorHandler = handler;
     }
 
+    /**
+     * Gets the number of requests that have been discarded because they had already expired
+     * when they were about to be processed.
+     *
+     * @return The number of discarded requests.
+     */
+    public long getExpiredRequestCount() {
+        return expiredRequests.sum();
+    }
+
     @Override
     public CompletionStage<Void> registerRequestHandler(UUri originFilter, int resourceId, RequestHandler handler) {
+        return registerRequestHandler(originFilter, resourceId, handler, defaultMaxConcurrentRequests);
+    }
+
+    /**
+     * Registers an endpoint for RPC requests and limits the number of requests being processed concurrently.
+     *
+     * @param originFilter A pattern defining origin addresses to accept requests from. Use {@link UriFactory#ANY}
+     * to match all origin addresses.
+     * @param resourceId The resource identifier of the (local) method to accept requests for.
+     * @param handler The handler to invoke for each incoming request that originates from a
+     * source matching the origin filter.
+     * @param maxConcurrentRequests The maximum number of requests for the method that are processed concurrently.
+     * Use {@link #UNLIMITED_CONCURRENT_REQUESTS} to not limit the number of requests.
+     * @return The outcome of the registration. The stage will be completed with a {@link UStatusException} if
+     * registration has failed.
+     * @throws NullPointerException if any of the parameters is {@code null}.
+     * @throws IllegalArgumentException if the maximum number of concurrent requests is not positive.
+     * @see RpcServer#registerRequestHandler(UUri, int, RequestHandler)
+     */
+    public CompletionStage<Void> registerRequestHandler(
+            UUri originFilter,
+            int resourceId,
+            RequestHandler handler,
+            int maxConcurrentRequests) {
         Objects.requireNonNull(originFilter, "Origin filter must not be null");
         Objects.requireNonNull(handler, "Request handler must not be null");
+        final var registration = new MethodRegistration(handler, checkMaxConcurrentRequests(maxConcurrentRequests));
 
         // create the method URI for where we want to register the listener
-        final var method = UUri.newBuilder(getUriProvider().getSource())
-            .setResourceId(resourceId)
-            .build();
+        final var method = UriInterner.getDefault().intern(getUriProvider().getSource(), resourceId);
         if (!UriValidator.isRpcMethod(method)) {
             return CompletableFuture.failedFuture(new UStatusException(
                 UCode.INVALID_ARGUMENT, "Resource ID must be an RPC method ID"));
@@ -117,7 +238,7 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
                     if (throwable != null) {
                         mRequestsHandlers.remove(method);
                     } else {
-                        mRequestsHandlers.put(method, handler);
+                        mRequestsHandlers.put(method, registration);
                     }
                 });
         }
@@ -131,20 +252,21 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
         Objects.requireNonNull(originFilter, "Origin filter must not be null");
         Objects.requireNonNull(handler, "Request handler must not be null");
 
-        final var method = UUri.newBuilder(getUriProvider().getSource())
-            .setResourceId(resourceId)
-            .build();
+        final var method = UriInterner.getDefault().intern(getUriProvider().getSource(), resourceId);
         if (!UriValidator.isRpcMethod(method)) {
             return CompletableFuture.failedFuture(new UStatusException(
                 UCode.INVALID_ARGUMENT, "Resource ID must be an RPC method ID"));
         }
 
-        if (mRequestsHandlers.remove(method, handler)) {
-            return getTransport().unregisterListener(UriFactory.ANY, Optional.of(method), mRequestHandler);
-        } else {
-            return CompletableFuture.failedFuture(new UStatusException(
-                UCode.NOT_FOUND, "Handler not found"));
+        synchronized (mRequestsHandlers) {
+            final var registration = mRequestsHandlers.get(method);
+            if (registration == null || !registration.handler().equals(handler)) {
+                return CompletableFuture.failedFuture(new UStatusException(
+                    UCode.NOT_FOUND, "Handler not found"));
+            }
+            mRequestsHandlers.remove(method);
         }
+        return getTransport().unregisterListener(UriFactory.ANY, Optional.of(method), mRequestHandler);
     }
 
     /**
@@ -161,28 +283,115 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
         }
 
         // Check if the request is for one that we have registered a handler for, if not ignore it
-        final var requestHandler = mRequestsHandlers.get(requestAttributes.getSink());
-        if (requestHandler == null) {
+        final var registration = mRequestsHandlers.get(requestAttributes.getSink());
+        if (registration == null) {
             Optional.ofNullable(unexpectedMessageHandler).ifPresent(handler -> handler.accept(request));
             return;
         }
 
-        UPayload responsePayload;
-        final UMessageBuilder responseBuilder = UMessageBuilder.response(request.getAttributes());
+        // Check if we can accept another request for the method, if not reject it
+        if (!registration.tryAcquire()) {
+            sendResponse(request, null, new UStatusException(
+                UCode.RESOURCE_EXHAUSTED, MAX_CONCURRENT_REQUESTS_ERROR_MESSAGE), 0, null);
+            return;
+        }
 
+        if (handlerExecutor == null) {
+            processRequest(request, registration);
+            return;
+        }
+        try {
+            handlerExecutor.execute(() -> processRequest(request, registration));
+        } catch (RejectedExecutionException e) {
+            registration.release();
+            sendResponse(request, null, new UStatusException(
+                UCode.RESOURCE_EXHAUSTED, MAX_CONCURRENT_REQUESTS_ERROR_MESSAGE, e), 0, null);
+        }
+    }
+
+    private void processRequest(UMessage request, MethodRegistration registration) {
+        // Do not waste any resources on requests that the client has already given up on
+        if (isExpired(request.getAttributes())) {
+            registration.release();
+            expiredRequests.increment();
+            getMetrics().requestHandled(request.getAttributes().getSink(), UCode.DEADLINE_EXCEEDED, 0);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Discarding expired RPC request [id: {}, source: {}, sink: {}]",
+                    UuidSerializer.serialize(request.getAttributes().getId()),
+                    UriSerializer.serialize(request.getAttributes().getSource()),
+                    UriSerializer.serialize(request.getAttributes().getSink()));
+            }
+            return;
+        }
+
+        final RequestHandlerEvent event = RequestHandlerEvent.isRecording() ? new RequestHandlerEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        final long startNanos = System.nanoTime();
+        if (registration.handler() instanceof AsyncRequestHandler asyncHandler) {
+            CompletionStage<UPayload> result;
+            try {
+                result = Objects.requireNonNull(
+                    asyncHandler.handleRequestAsync(request),
+                    "Request handler must not return null");
+            } catch (Exception e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((responsePayload, throwable) -> {
+                registration.release();
+                sendResponse(request, responsePayload, throwable, System.nanoTime() - startNanos, event);
+            });
+            return;
+        }
+
+        UPayload responsePayload = null;
+        Throwable error = null;
+        try {
+            responsePayload = registration.handler().handleRequest(request);
+        } catch (Exception e) {
+            error = e;
+        } finally {
+            registration.release();
+        }
+        sendResponse(request, responsePayload, error, System.nanoTime() - startNanos, event);
+    }
+
+    private static boolean isExpired(UAttributes requestAttributes) {
         try {
-            responsePayload = requestHandler.handleRequest(request);
-        } catch (UStatusException e) {
+            return UAttributesValidator.getValidator(UMessageType.UMESSAGE_TYPE_REQUEST).isExpired(requestAttributes);
+        } catch (IllegalArgumentException e) {
+            // the request ID is not a uProtocol UUID, so we cannot determine the request's creation time
+            return false;
+        }
+    }
+
+    private void sendResponse(
+            UMessage request,
+            UPayload payload,
+            Throwable error,
+            long handlerNanos,
+            RequestHandlerEvent handlerEvent) {
+        if (handlerEvent != null) {
+            handlerEvent.end();
+        }
+        UPayload responsePayload = payload;
+        final UMessageBuilder responseBuilder = UMessageBuilder.response(request.getAttributes());
+
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+        if (cause instanceof UStatusException e) {
             responseBuilder.withCommStatus(e.getStatus().getCode());
             responsePayload = UPayload.pack(e.getStatus());
-        } catch (Exception e) {
+        } else if (cause != null) {
             if (LOGGER.isInfoEnabled()) {
                 LOGGER.info("""
                     RPC RequestHandler threw unexpected exception while processing RPC request \
                     [source: {}, sink: {}]: {}""",
                     UriSerializer.serialize(request.getAttributes().getSource()),
                     UriSerializer.serialize(request.getAttributes().getSink()),
-                    e.getMessage());
+                    cause.getMessage());
             }
 
             final var status = UStatus.newBuilder()
@@ -192,8 +401,16 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
             responseBuilder.withCommStatus(status.getCode());
             responsePayload = UPayload.pack(status);
         }
-        
+
         final var responseMessage = responseBuilder.build(responsePayload);
+        getMetrics().requestHandled(
+            request.getAttributes().getSink(),
+            responseMessage.getAttributes().getCommstatus(),
+            handlerNanos);
+        if (handlerEvent != null) {
+            handlerEvent.setStatus(responseMessage.getAttributes().getCommstatus());
+            handlerEvent.commit(request.getAttributes());
+        }
         getTransport().send(responseMessage)
             .whenComplete((ok, t) -> {
                 if (t != null) {
@@ -201,4 +418,31 @@ public class InMemoryRpcServer extends AbstractCommunicationLayerClient implemen
                 }
             });
     }
+
+    /**
+     * A request handler that has been registered for a method.
+     */
+    private record MethodRegistration(RequestHandler handler, int maxConcurrentRequests, AtomicInteger inFlight) {
+
+        MethodRegistration(RequestHandler handler, int maxConcurrentRequests) {
+            this(handler, maxConcurrentRequests, new AtomicInteger());
+        }
+
+        boolean tryAcquire() {
+            if (maxConcurrentRequests == UNLIMITED_CONCURRENT_REQUESTS) {
+                return true;
+            }
+            if (inFlight.incrementAndGet() > maxConcurrentRequests) {
+                inFlight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        void release() {
+            if (maxConcurrentRequests != UNLIMITED_CONCURRENT_REQUESTS) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
 }
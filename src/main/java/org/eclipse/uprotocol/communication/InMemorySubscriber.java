@@ -12,9 +12,12 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -58,6 +61,12 @@ import org.slf4j.LoggerFactory;
  * service is informed about the new subscription and a (client provided) subscription change handler is
  * registered with the listener. When a subscription change notification arrives from the USubscription
  * service, the corresponding handler is being looked up and invoked.
+ * <p>
+ * Subscriptions are reference counted per topic. Only the first client subscribing to a topic causes a
+ * subscription request to be sent to the USubscription service, subsequent clients subscribing to the same
+ * topic share the outcome of that request and only register their listener with the transport. Likewise,
+ * an unsubscribe request is only sent to the USubscription service when the last listener unsubscribes
+ * from the topic.
  */
 // [impl->dsn~communication-layer-impl-default~1]
 public final class InMemorySubscriber implements Subscriber {
@@ -66,10 +75,14 @@ public final class InMemorySubscriber implements Subscriber {
     private final UTransport transport;
     private final USubscriptionClient subscriptionClient;
     private final Notifier notifier;
+    private final UMetrics metrics;
 
     // topic URI -> subscription change notification handler
     private final Map<UUri, SubscriptionChangeHandler> subscriptionChangeHandlers = new ConcurrentHashMap<>();
 
+    // topic URI -> local subscriptions to the topic, guarded by the map's monitor
+    private final Map<UUri, TopicSubscription> subscriptions = new HashMap<>();
+
     // listener for processing subscription change notifications
     private final UListener subscriptionChangeListener = this::handleSubscriptionChangeNotification;
 
@@ -119,12 +132,35 @@ public final class InMemorySubscriber implements Subscriber {
             UTransport transport,
             USubscriptionClient subscriptionClient,
             Notifier notifier) {
+        this(transport, subscriptionClient, notifier, UMetrics.getDefault());
+    }
+
+    /**
+     * Creates a new USubscription client which records the time taken by listeners to process
+     * events in specific metrics.
+     * <p>
+     * Also registers a listener for subscription change notifications from the USubscription service
+     * instance that the given USubscription client is
+     * {@link USubscriptionClient#getSubscriptionServiceNotificationTopic() configured to use}.
+     *
+     * @param transport The transport to use for sending the notifications.
+     * @param subscriptionClient The client to use for interacting with the USubscription service.
+     * @param notifier The notifier to use for registering the notification listener.
+     * @param metrics The metrics to record the dispatching of events to listeners in.
+     */
+    public InMemorySubscriber (
+            UTransport transport,
+            USubscriptionClient subscriptionClient,
+            Notifier notifier,
+            UMetrics metrics) {
         Objects.requireNonNull(transport, "Transport missing");
         Objects.requireNonNull(subscriptionClient, "SubscriptionClient missing");
         Objects.requireNonNull(notifier, "Notifier missing");
+        Objects.requireNonNull(metrics, "Metrics missing");
         this.transport = transport;
         this.subscriptionClient = subscriptionClient;
         this.notifier = notifier;
+        this.metrics = metrics;
 
         // Register listener for receiving subscription change notifications
         notifier.registerNotificationListener(
@@ -183,6 +219,14 @@ public final class InMemorySubscriber implements Subscriber {
         return subscriptionChangeHandlers.containsKey(topic);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The USubscription service is only invoked if no other listener is subscribed to the topic yet.
+     * Otherwise, the returned stage completes with the response that the USubscription service has
+     * returned for the first subscription to the topic. A listener that is already subscribed to the topic
+     * is not registered with the transport again, so a single unsubscribe request removes it.
+     */
     @Override
     public CompletionStage<SubscriptionResponse> subscribe(
             UUri topic,
@@ -191,57 +235,138 @@ public final class InMemorySubscriber implements Subscriber {
         Objects.requireNonNull(topic, "Subscribe topic missing");
         Objects.requireNonNull(listener, "Request listener missing");
 
-        final var request = SubscriptionRequest.newBuilder().setTopic(topic).build();
+        final TopicSubscription subscription;
+        final boolean first;
+        synchronized (subscriptions) {
+            final var existing = subscriptions.get(topic);
+            first = existing == null;
+            subscription = first ? new TopicSubscription() : existing;
+            if (first) {
+                subscriptions.put(topic, subscription);
+            }
+            subscription.pending++;
+        }
+        if (first) {
+            establish(topic, subscription);
+        }
 
-        return subscriptionClient.subscribe(request)
+        final var transportListener = meteredListener(topic, listener);
+        return subscription.established
             // add the subscription change handler (if the client provided one) so the client
             // can be notified of changes to the subscription state.
             .thenApply(subscriptionResponse -> {
                 addSubscriptionChangeHandler(topic, handler);
                 return subscriptionResponse;
             })
+            .thenCompose(subscriptionResponse -> isSubscribed(subscription, transportListener)
+                ? CompletableFuture.completedStage(subscriptionResponse)
+                : registerListener(topic, transportListener, subscriptionResponse))
+            .whenComplete((subscriptionResponse, throwable) -> {
+                synchronized (subscriptions) {
+                    subscription.pending--;
+                    if (throwable == null) {
+                        subscription.listeners.add(transportListener);
+                    } else if (subscription.isUnused()) {
+                        // the next attempt to subscribe will invoke the USubscription service again
+                        subscriptions.remove(topic, subscription);
+                    }
+                }
+            });
+    }
+
+    private CompletionStage<SubscriptionResponse> registerListener(
+            UUri topic,
+            UListener transportListener,
+            SubscriptionResponse subscriptionResponse) {
+        return transport.registerListener(topic, transportListener)
+            .thenApply(ok -> subscriptionResponse)
+            .exceptionallyCompose(t -> {
+                // When registering the listener fails, we have ended up in a situation where we
+                // have successfully (logically) subscribed to the topic via the USubscription service
+                // but we have not been able to register the listener with the local transport.
+                // This means that events might start getting forwarded to the local authority which
+                // are not being consumed. Apart from this inefficiency, this does not pose a real
+                // problem and since we return a failed future, the client might be inclined to try
+                // again and (eventually) succeed in registering the listener as well.
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(
+                        "Failed to register listener for topic [{}]: {}",
+                        UriSerializer.serialize(topic), t.getMessage());
+                }
+                return CompletableFuture.failedStage(t);
+            });
+    }
+
+    private boolean isSubscribed(TopicSubscription subscription, UListener transportListener) {
+        synchronized (subscriptions) {
+            return subscription.listeners.contains(transportListener);
+        }
+    }
+
+    private void establish(UUri topic, TopicSubscription subscription) {
+        final var request = SubscriptionRequest.newBuilder().setTopic(topic).build();
+        subscriptionClient.subscribe(request)
             .thenCompose(subscriptionResponse -> {
                 switch (subscriptionResponse.getStatus().getState()) {
                     case SUBSCRIBED:
                     case SUBSCRIBE_PENDING:
-                        return transport.registerListener(topic, listener)
-                            .thenApply(ok -> subscriptionResponse)
-                            .exceptionallyCompose(t -> {
-                                // When registering the listener fails, we have ended up in a situation where we
-                                // have successfully (logically) subscribed to the topic via the USubscription service
-                                // but we have not been able to register the listener with the local transport.
-                                // This means that events might start getting forwarded to the local authority which
-                                // are not being consumed. Apart from this inefficiency, this does not pose a real
-                                // problem and since we return a failed future, the client might be inclined to try
-                                // again and (eventually) succeed in registering the listener as well.
-                                if (LOGGER.isWarnEnabled()) {
-                                    LOGGER.warn(
-                                        "Failed to register listener for topic [{}]: {}",
-                                        UriSerializer.serialize(topic), t.getMessage());
-                                }
-                                return CompletableFuture.failedStage(t);
-                            });
+                        return CompletableFuture.completedStage(subscriptionResponse);
                     default:
                         // The USubscription service should not return any other subscription state
-                        return CompletableFuture.failedStage(new UStatusException(
+                        return CompletableFuture.<SubscriptionResponse>failedStage(new UStatusException(
                             UCode.INTERNAL,
                             "Subscription request resulted in invalid state"));
                 }
+            })
+            .whenComplete((subscriptionResponse, throwable) -> {
+                if (throwable != null) {
+                    // prevent other clients from sharing the failed subscription
+                    synchronized (subscriptions) {
+                        subscriptions.remove(topic, subscription);
+                    }
+                    subscription.established.completeExceptionally(throwable);
+                } else {
+                    subscription.established.complete(subscriptionResponse);
+                }
             });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The USubscription service is only invoked if the listener is the last one subscribed to the topic,
+     * or if the topic has not been subscribed to using this subscriber. Otherwise, the listener is
+     * only unregistered from the transport and the returned stage completes with an empty response.
+     */
     @Override
     public CompletionStage<UnsubscribeResponse> unsubscribe(UUri topic, UListener listener) {
         Objects.requireNonNull(topic, "Unsubscribe topic missing");
         Objects.requireNonNull(listener, "listener missing");
 
+        final var transportListener = meteredListener(topic, listener);
+        final TopicSubscription subscription;
+        synchronized (subscriptions) {
+            subscription = subscriptions.get(topic);
+            if (subscription != null) {
+                if (!subscription.listeners.remove(transportListener)) {
+                    return CompletableFuture.failedStage(new UStatusException(
+                        UCode.NOT_FOUND, "Listener is not subscribed to topic"));
+                }
+                if (!subscription.isUnused()) {
+                    return unregisterSharedListener(topic, subscription, transportListener);
+                }
+                subscriptions.remove(topic);
+            }
+        }
+
         final var request = UnsubscribeRequest.newBuilder().setTopic(topic).build();
 
         return subscriptionClient.unsubscribe(request)
-            .thenApply(unsubscribeResponse -> {
-                // remove subscription change handler (if one had been registered)
-                subscriptionChangeHandlers.remove(topic);
-                return unsubscribeResponse;
+            .whenComplete((unsubscribeResponse, throwable) -> {
+                if (throwable != null && subscription != null) {
+                    // allow the client to try again
+                    reattach(topic, subscription, transportListener);
+                }
             })
             .thenCompose(unsubscribeResponse -> {
                 // remove subscription change handler (if one had been registered)
@@ -254,7 +379,7 @@ public final class InMemorySubscriber implements Subscriber {
                 // listener not being invoked for these events. We therefore return an error which should
                 // trigger the client to try again and (eventually) succeed in unregistering the listener
                 // as well.
-                return transport.unregisterListener(topic, listener)
+                return transport.unregisterListener(topic, transportListener)
                     .whenComplete((ok, throwable) -> {
                         if (throwable != null) {
                             LOGGER.warn("Failed to unregister listener for topic {}: {}", topic, throwable);
@@ -264,6 +389,41 @@ public final class InMemorySubscriber implements Subscriber {
             });
     }
 
+    private CompletionStage<UnsubscribeResponse> unregisterSharedListener(
+            UUri topic,
+            TopicSubscription subscription,
+            UListener transportListener) {
+        return transport.unregisterListener(topic, transportListener)
+            .whenComplete((ok, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.warn("Failed to unregister listener for topic {}: {}", topic, throwable);
+                    reattach(topic, subscription, transportListener);
+                }
+            })
+            .thenApply(ok -> UnsubscribeResponse.getDefaultInstance());
+    }
+
+    // adds back a listener that could not be unsubscribed, so that unsubscribing can be retried
+    private void reattach(UUri topic, TopicSubscription subscription, UListener transportListener) {
+        synchronized (subscriptions) {
+            final var current = subscriptions.putIfAbsent(topic, subscription);
+            (current != null ? current : subscription).listeners.add(transportListener);
+        }
+    }
+
+    /**
+     * Gets the number of local subscriptions to a topic.
+     *
+     * @param topic The topic.
+     * @return The number of listeners subscribed or being subscribed to the topic.
+     */
+    int getSubscriptionCount(UUri topic) {
+        synchronized (subscriptions) {
+            final var subscription = subscriptions.get(topic);
+            return subscription == null ? 0 : subscription.pending + subscription.listeners.size();
+        }
+    }
+
     @Override
     public CompletionStage<NotificationsResponse> registerSubscriptionChangeHandler(
             UUri topic,
@@ -294,6 +454,16 @@ public final class InMemorySubscriber implements Subscriber {
             });
     }
 
+    /**
+     * Gets the listener to register with the transport for a subscriber's listener.
+     * <p>
+     * The wrappers created for the same topic and listener are equal, so that the listener
+     * can be unregistered again.
+     */
+    private UListener meteredListener(UUri topic, UListener listener) {
+        return metrics == UMetrics.NOOP ? listener : new MeteredListener(topic, listener, metrics);
+    }
+
     /**
      * Handles incoming notifications from the USubscription service.
      * 
@@ -323,4 +493,36 @@ public final class InMemorySubscriber implements Subscriber {
                                 .ifPresent(handler -> handler.accept(message)));
             });
     }
+
+    /**
+     * The local listeners subscribed to a topic.
+     * <p>
+     * All fields except the future are guarded by the monitor of the subscriptions map.
+     */
+    private static final class TopicSubscription {
+        // completes with the USubscription service's response to the first subscription request
+        private final CompletableFuture<SubscriptionResponse> established = new CompletableFuture<>();
+        // a listener that is subscribed more than once is registered with the transport only once
+        private final Set<UListener> listeners = new HashSet<>();
+        private int pending;
+
+        boolean isUnused() {
+            return pending == 0 && listeners.isEmpty();
+        }
+    }
+
+    /**
+     * A listener that records the time taken by a subscriber's listener to process events.
+     */
+    private record MeteredListener(UUri topic, UListener delegate, UMetrics metrics) implements UListener {
+        @Override
+        public void onReceive(UMessage message) {
+            final long startNanos = System.nanoTime();
+            try {
+                delegate.onReceive(message);
+            } finally {
+                metrics.messageDispatched(topic, System.nanoTime() - startNanos);
+            }
+        }
+    }
 }
@@ -0,0 +1,341 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * {@link UMetrics} that keep all recorded values in memory.
+ * <p>
+ * Values are recorded per method or topic URI using counters and histograms which can be updated
+ * concurrently without locking. Recording a value does not allocate any memory, except for the first
+ * value recorded for a URI. The recorded values can be read at any time, e.g. in order to periodically
+ * export them to a monitoring system.
+ */
+public final class InMemoryUMetrics implements UMetrics {
+
+    private final Map<UUri, RpcStats> clientStats = new ConcurrentHashMap<>();
+    private final Map<UUri, RpcStats> serverStats = new ConcurrentHashMap<>();
+    private final Map<UUri, LongAdder> publishedMessages = new ConcurrentHashMap<>();
+    private final Map<UUri, LongAdder> sentNotifications = new ConcurrentHashMap<>();
+    private final Map<UUri, LatencyHistogram> dispatchTimes = new ConcurrentHashMap<>();
+    private final LatencyHistogram[] queueingDelays = new LatencyHistogram[UPriority.values().length];
+    private final AtomicLongArray shedTasks = new AtomicLongArray(UPriority.values().length);
+
+    /**
+     * Creates empty metrics.
+     */
+    public InMemoryUMetrics() {
+        for (int i = 0; i < queueingDelays.length; i++) {
+            queueingDelays[i] = new LatencyHistogram();
+        }
+    }
+
+    private static <V> V getOrCreate(Map<UUri, V> map, UUri key, Function<UUri, V> factory) {
+        // avoid the locking done by computeIfAbsent for keys which are already present
+        final V value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, factory);
+    }
+
+    @Override
+    public void rpcStarted(UUri method) {
+        getOrCreate(clientStats, method, k -> new RpcStats()).inFlight.increment();
+    }
+
+    @Override
+    public void rpcCompleted(UUri method, UCode status, long latencyNanos) {
+        final var stats = getOrCreate(clientStats, method, k -> new RpcStats());
+        stats.inFlight.decrement();
+        stats.record(status, latencyNanos);
+    }
+
+    @Override
+    public void requestHandled(UUri method, UCode status, long handlerNanos) {
+        getOrCreate(serverStats, method, k -> new RpcStats()).record(status, handlerNanos);
+    }
+
+    @Override
+    public void messagesPublished(UUri topic, int count) {
+        getOrCreate(publishedMessages, topic, k -> new LongAdder()).add(count);
+    }
+
+    @Override
+    public void notificationsSent(UUri topic, UUri destination, int count) {
+        getOrCreate(sentNotifications, topic, k -> new LongAdder()).add(count);
+    }
+
+    @Override
+    public void messageDispatched(UUri topic, long dispatchNanos) {
+        getOrCreate(dispatchTimes, topic, k -> new LatencyHistogram()).record(dispatchNanos);
+    }
+
+    @Override
+    public void taskDequeued(UPriority priority, long queueingNanos) {
+        final int index = indexOf(priority);
+        if (index >= 0) {
+            queueingDelays[index].record(queueingNanos);
+        }
+    }
+
+    @Override
+    public void taskShed(UPriority priority) {
+        final int index = indexOf(priority);
+        if (index >= 0) {
+            shedTasks.incrementAndGet(index);
+        }
+    }
+
+    private static int indexOf(UPriority priority) {
+        return priority == UPriority.UNRECOGNIZED ? -1 : priority.getNumber();
+    }
+
+    private static int indexOf(UCode status) {
+        return status == UCode.UNRECOGNIZED ? -1 : status.getNumber();
+    }
+
+    /**
+     * Gets the statistics of the RPC requests that have been sent to a method.
+     *
+     * @param method The method.
+     * @return The statistics or {@code Optional.empty()} if no request has been sent to the method.
+     */
+    public Optional<RpcStats> getClientStats(UUri method) {
+        return Optional.ofNullable(clientStats.get(method));
+    }
+
+    /**
+     * Gets the statistics of the RPC requests that have been received for a method.
+     *
+     * @param method The method.
+     * @return The statistics or {@code Optional.empty()} if no request has been received for the method.
+     * The latency histogram contains the time taken by the request handler.
+     */
+    public Optional<RpcStats> getServerStats(UUri method) {
+        return Optional.ofNullable(serverStats.get(method));
+    }
+
+    /**
+     * Gets the number of messages that have been published to a topic.
+     *
+     * @param topic The topic.
+     * @return The number of messages.
+     */
+    public long getPublishedMessageCount(UUri topic) {
+        return Optional.ofNullable(publishedMessages.get(topic)).map(LongAdder::sum).orElse(0L);
+    }
+
+    /**
+     * Gets the number of notifications that have been sent from a topic.
+     *
+     * @param topic The topic.
+     * @return The number of notifications.
+     */
+    public long getSentNotificationCount(UUri topic) {
+        return Optional.ofNullable(sentNotifications.get(topic)).map(LongAdder::sum).orElse(0L);
+    }
+
+    /**
+     * Gets the distribution of the time taken by listeners to process messages published to a topic.
+     *
+     * @param topic The topic.
+     * @return The histogram or {@code Optional.empty()} if no message has been dispatched for the topic.
+     */
+    public Optional<LatencyHistogram> getDispatchTimes(UUri topic) {
+        return Optional.ofNullable(dispatchTimes.get(topic));
+    }
+
+    /**
+     * Gets the distribution of the time that tasks of a priority class have spent in the queue of a
+     * {@link org.eclipse.uprotocol.transport.PriorityDispatcher}.
+     *
+     * @param priority The priority class.
+     * @return The histogram.
+     * @throws NullPointerException if priority is {@code null}.
+     * @throws IllegalArgumentException if priority is {@link UPriority#UNRECOGNIZED}.
+     */
+    public LatencyHistogram getQueueingDelays(UPriority priority) {
+        Objects.requireNonNull(priority, "Priority must not be null");
+        final int index = indexOf(priority);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unrecognized priority");
+        }
+        return queueingDelays[index];
+    }
+
+    /**
+     * Gets the number of tasks of a priority class that have been discarded by a
+     * {@link org.eclipse.uprotocol.transport.PriorityDispatcher}.
+     *
+     * @param priority The priority class.
+     * @return The number of tasks.
+     */
+    public long getShedTaskCount(UPriority priority) {
+        Objects.requireNonNull(priority, "Priority must not be null");
+        final int index = indexOf(priority);
+        return index < 0 ? 0 : shedTasks.get(index);
+    }
+
+    /**
+     * Statistics about the RPC requests for a method.
+     */
+    public static final class RpcStats {
+        private final LongAdder inFlight = new LongAdder();
+        private final AtomicLongArray statusCounts = new AtomicLongArray(UCode.values().length);
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        RpcStats() {
+        }
+
+        void record(UCode status, long nanos) {
+            final int index = indexOf(status);
+            if (index >= 0 && index < statusCounts.length()) {
+                statusCounts.incrementAndGet(index);
+            }
+            latency.record(nanos);
+        }
+
+        /**
+         * Gets the number of requests for which no outcome is known yet.
+         *
+         * @return The number of requests.
+         */
+        public long getInFlightCount() {
+            return inFlight.sum();
+        }
+
+        /**
+         * Gets the number of requests that have completed with a status.
+         *
+         * @param status The status.
+         * @return The number of requests.
+         */
+        public long getStatusCount(UCode status) {
+            Objects.requireNonNull(status);
+            final int index = indexOf(status);
+            return index >= 0 && index < statusCounts.length() ? statusCounts.get(index) : 0;
+        }
+
+        /**
+         * Gets the number of requests that have timed out.
+         *
+         * @return The number of requests that have completed with {@link UCode#DEADLINE_EXCEEDED}.
+         */
+        public long getTimeoutCount() {
+            return getStatusCount(UCode.DEADLINE_EXCEEDED);
+        }
+
+        /**
+         * Gets the distribution of the latency of the completed requests.
+         *
+         * @return The histogram.
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+    }
+
+    /**
+     * A histogram of durations using buckets with exponentially growing bounds.
+     * <p>
+     * Bucket {@code i} contains durations in range [2^(i-1), 2^i) nanoseconds,
+     * bucket 0 contains durations of 0 nanoseconds.
+     */
+    public static final class LatencyHistogram {
+        private static final int BUCKETS = Long.SIZE;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder totalNanos = new LongAdder();
+
+        LatencyHistogram() {
+        }
+
+        void record(long nanos) {
+            final long value = Math.max(0, nanos);
+            buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value));
+            totalNanos.add(value);
+        }
+
+        /**
+         * Gets the number of recorded durations.
+         *
+         * @return The number of durations.
+         */
+        public long getCount() {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += buckets.get(i);
+            }
+            return count;
+        }
+
+        /**
+         * Gets the sum of all recorded durations.
+         *
+         * @return The sum in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Gets the number of durations recorded in a bucket.
+         *
+         * @param bucket The index of the bucket.
+         * @return The number of durations.
+         * @throws IndexOutOfBoundsException if the index is not in range [0, 64).
+         */
+        public long getBucketCount(int bucket) {
+            return buckets.get(bucket);
+        }
+
+        /**
+         * Gets an estimate of a percentile of the recorded durations.
+         *
+         * @param percentile The percentile in range (0, 100].
+         * @return The upper bound of the bucket containing the percentile in nanoseconds,
+         * or 0 if no durations have been recorded.
+         * @throws IllegalArgumentException if the percentile is not in range (0, 100].
+         */
+        public long getPercentileNanos(double percentile) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentile must be in range (0, 100]");
+            }
+            final long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            final long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    // the upper bound of the last bucket overflows to Long.MAX_VALUE
+                    return i == 0 ? 0 : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -12,6 +12,9 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.uprotocol.v1.UUri;
@@ -95,6 +98,56 @@ public interface Notifier {
      */
     CompletionStage<Void> notify(int resourceId, UUri destination, CallOptions options, UPayload payload);
 
+    /**
+     * Sends multiple notifications to a uEntity.
+     * <p>
+     * This default implementation invokes {@link #notifyAll(int, UUri, CallOptions, List)} with the
+     * given resource ID, destination, payloads and {@link CallOptions#DEFAULT default options}.
+     *
+     * @param resourceId The (local) resource identifier representing the origin of the notifications.
+     * @param destination A URI representing the uEntity that the notifications should be sent to.
+     * @param payloads The payloads to send, one notification per payload.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * if any of the notifications could not be sent.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    default CompletionStage<Void> notifyAll(int resourceId, UUri destination, List<UPayload> payloads) {
+        return notifyAll(resourceId, destination, CallOptions.DEFAULT, payloads);
+    }
+
+    /**
+     * Sends multiple notifications to a uEntity.
+     * <p>
+     * The notifications are sent in the order of the payloads. Implementations can create
+     * and send all messages at once.
+     * <p>
+     * This default implementation invokes {@link #notify(int, UUri, CallOptions, UPayload)} for each
+     * of the payloads.
+     *
+     * @param resourceId The (local) resource identifier representing the origin of the notifications.
+     * @param destination A URI representing the uEntity that the notifications should be sent to.
+     * @param options Options to include in each of the notification messages. {@link CallOptions#DEFAULT} can
+     * be used for default options.
+     * @param payloads The payloads to send, one notification per payload.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * if any of the notifications could not be sent.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    default CompletionStage<Void> notifyAll(
+            int resourceId,
+            UUri destination,
+            CallOptions options,
+            List<UPayload> payloads) {
+        Objects.requireNonNull(destination);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payloads);
+        final CompletableFuture<?>[] outcomes = new CompletableFuture<?>[payloads.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = notify(resourceId, destination, options, payloads.get(i)).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(outcomes);
+    }
+
     /**
      * Starts listening to a notification topic.
      * <p>
@@ -0,0 +1,227 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Decodes payloads into protobuf messages.
+ * <p>
+ * The decoder looks up the default instance and {@link Parser} of a message type only once and caches
+ * them per Java class as well as per message type name. Payloads are parsed using
+ * a {@link CodedInputStream} that aliases the payload data, i.e. {@code bytes} fields of the decoded
+ * messages share their content with the payload instead of being copied. Payloads in format
+ * {@link UPayloadFormat#UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY} are decoded without creating
+ * an intermediary {@code Any} message.
+ * <p>
+ * Messages can also be decoded without knowing their type in advance by means of
+ * {@link #decodeAny(ByteString)}, if their type has been {@link #register(Message) registered}
+ * with the decoder or has been decoded before.
+ */
+public final class PayloadDecoder {
+    private static final int ANY_TYPE_URL_FIELD = 1;
+    private static final int ANY_VALUE_FIELD = 2;
+
+    private final ClassValue<MessageType> typesByClass = new ClassValue<>() {
+        @Override
+        protected MessageType computeValue(Class<?> type) {
+            @SuppressWarnings("unchecked")
+            final var messageType = new MessageType(Internal.getDefaultInstance((Class<? extends Message>) type));
+            typesByName.putIfAbsent(messageType.name, messageType);
+            return messageType;
+        }
+    };
+    private final Map<String, MessageType> typesByName = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the decoder that is shared by all components which do not use a decoder of their own.
+     *
+     * @return The decoder.
+     */
+    public static PayloadDecoder getDefault() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Registers a message type for being decoded by {@link #decodeAny(ByteString)}.
+     *
+     * @param defaultInstance The default instance of the message type.
+     * @throws NullPointerException if default instance is {@code null}.
+     */
+    public void register(Message defaultInstance) {
+        Objects.requireNonNull(defaultInstance, "Default instance must not be null");
+        typesByClass.get(defaultInstance.getClass());
+    }
+
+    /**
+     * Decodes a payload into a protobuf message.
+     *
+     * @param <T> The type of message.
+     * @param payload The payload to decode.
+     * @param expectedType The Java type to decode the payload to.
+     * @return The message.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     * @throws UStatusException if the payload cannot be decoded to the expected type.
+     * @see #decode(ByteString, UPayloadFormat, Class)
+     */
+    public <T extends Message> T decode(UPayload payload, Class<T> expectedType) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        return decode(payload.data(), payload.format(), expectedType);
+    }
+
+    /**
+     * Decodes a protobuf into a message.
+     *
+     * @param <T> The type of message.
+     * @param protobuf The protobuf to decode.
+     * @param format The serialization format of the protobuf.
+     * @param expectedType The Java type to decode the protobuf to.
+     * @return An instance of the expected type. The instance will be the default instance if the
+     * given protobuf is empty and the payload format is {@link UPayloadFormat#UPAYLOAD_FORMAT_PROTOBUF}.
+     * <p>
+     * <em>IMPORTANT NOTE:</em> If <em>format</em> is not
+     * {@link UPayloadFormat#UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY} then there is no guarantee
+     * that the returned instance's fields contain proper values because in the absence of a data schema
+     * it is unclear, if the protobuf actually represents an instance of the expected type.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     * @throws UStatusException if the protobuf cannot be decoded to the expected type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Message> T decode(ByteString protobuf, UPayloadFormat format, Class<T> expectedType) {
+        Objects.requireNonNull(protobuf, "data must not be null");
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(expectedType, "expectedType must not be null");
+        final var type = typesByClass.get(expectedType);
+        switch (format) {
+            case UPAYLOAD_FORMAT_UNSPECIFIED: // Default is WRAPPED_IN_ANY
+            case UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY:
+                return (T) decodeAny(protobuf, type);
+
+            case UPAYLOAD_FORMAT_PROTOBUF:
+                if (protobuf.isEmpty()) {
+                    // this can happen when trying to unpack a proto message that has no fields
+                    // and is therefore encoded as an empty byte array
+                    return (T) type.defaultInstance;
+                }
+                try {
+                    return (T) type.parse(protobuf);
+                } catch (InvalidProtocolBufferException e) {
+                    throw new UStatusException(UCode.INVALID_ARGUMENT, "Failed to unpack protobuf", e);
+                }
+
+            default:
+                throw new UStatusException(UCode.INVALID_ARGUMENT, "Unsupported payload format");
+        }
+    }
+
+    /**
+     * Decodes a serialized {@code google.protobuf.Any} into the message that it contains.
+     *
+     * @param protobuf The serialized {@code Any}.
+     * @return The message contained in the {@code Any}.
+     * @throws NullPointerException if protobuf is {@code null}.
+     * @throws UStatusException if the protobuf cannot be decoded or if the type of the contained message
+     * has neither been registered nor decoded before.
+     */
+    public Message decodeAny(ByteString protobuf) {
+        Objects.requireNonNull(protobuf, "data must not be null");
+        return decodeAny(protobuf, null);
+    }
+
+    private Message decodeAny(ByteString protobuf, MessageType expectedType) {
+        String typeUrl = "";
+        ByteString value = ByteString.EMPTY;
+        try {
+            final CodedInputStream input = newAliasingInput(protobuf);
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case ANY_TYPE_URL_FIELD -> typeUrl = input.readStringRequireUtf8();
+                    case ANY_VALUE_FIELD -> value = input.readBytes();
+                    default -> input.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw new UStatusException(UCode.INVALID_ARGUMENT, "Failed to unpack Any", e);
+        }
+
+        // the type URLs are not cached, they are received from peers and are therefore unbounded
+        final var type = lookUpType(typeUrl);
+        final var targetType = expectedType != null ? expectedType : type;
+        if (type == null || !type.name.equals(targetType.name)) {
+            throw new UStatusException(
+                UCode.INVALID_ARGUMENT,
+                "Failed to unpack Any",
+                new InvalidProtocolBufferException("Type of the Any message does not match the given class."));
+        }
+        try {
+            return targetType.parse(value);
+        } catch (InvalidProtocolBufferException e) {
+            throw new UStatusException(UCode.INVALID_ARGUMENT, "Failed to unpack Any", e);
+        }
+    }
+
+    private MessageType lookUpType(String typeUrl) {
+        // same as Any.getTypeNameFromTypeUrl(String)
+        final int pos = typeUrl.lastIndexOf('/');
+        return typesByName.get(pos == -1 ? "" : typeUrl.substring(pos + 1));
+    }
+
+    private static CodedInputStream newAliasingInput(ByteString data) {
+        final var input = data.newCodedInput();
+        input.enableAliasing(true);
+        return input;
+    }
+
+    /**
+     * The cached information about a message type.
+     */
+    private static final class MessageType {
+        private final Message defaultInstance;
+        private final Parser<? extends Message> parser;
+        private final String name;
+
+        MessageType(Message defaultInstance) {
+            this.defaultInstance = defaultInstance;
+            this.parser = defaultInstance.getParserForType();
+            this.name = defaultInstance.getDescriptorForType().getFullName();
+        }
+
+        Message parse(ByteString data) throws InvalidProtocolBufferException {
+            return parser.parseFrom(newAliasingInput(data));
+        }
+    }
+
+    /**
+     * Holds the instance returned by {@link #getDefault()}, which is only created on first use.
+     */
+    private static final class DefaultInstanceHolder {
+        static final PayloadDecoder INSTANCE = new PayloadDecoder();
+
+        private DefaultInstanceHolder() {
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.Objects;
+
+import org.eclipse.uprotocol.v1.UUID;
+
+/**
+ * A concurrent map of values keyed by request IDs.
+ * <p>
+ * The table stores the most and least significant bits of the IDs as primitive values instead of
+ * using {@link UUID} objects as keys. Looking up a value therefore neither requires computing the hash
+ * code of a protobuf message nor comparing messages for equality, and adding a value does not
+ * allocate any objects other than when the table needs to grow.
+ * <p>
+ * The table is split into a fixed number of stripes, each of which is an open addressing hash table
+ * using linear probing that is guarded by its own lock. Concurrent operations on IDs that are
+ * assigned to different stripes do not contend with each other.
+ *
+ * @param <V> The type of values.
+ */
+public final class PendingRequestTable<V> {
+    /**
+     * The default number of entries that the table can hold without growing.
+     */
+    public static final int DEFAULT_EXPECTED_SIZE = 1024;
+
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final int MIN_STRIPE_CAPACITY = 16;
+    private static final int MAX_STRIPE_CAPACITY = 1 << 30;
+
+    private final Stripe<V>[] stripes;
+    private final int initialStripeCapacity;
+
+    /**
+     * Creates a table using the default expected size.
+     */
+    public PendingRequestTable() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @param expectedSize The number of entries that the table is expected to hold.
+     * The table grows as needed if more entries are added.
+     * @throws IllegalArgumentException if expected size is negative.
+     */
+    @SuppressWarnings("unchecked")
+    public PendingRequestTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        // keep the load factor of the stripes below 0.5 for the expected number of entries
+        final long perStripe = 2L * expectedSize / STRIPES + 1;
+        this.initialStripeCapacity = (int) Math.max(MIN_STRIPE_CAPACITY,
+            Math.min(MAX_STRIPE_CAPACITY, Long.highestOneBit(perStripe - 1) << 1));
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(initialStripeCapacity);
+        }
+    }
+
+    /**
+     * Associates a value with a request ID.
+     *
+     * @param requestId The request ID.
+     * @param value The value.
+     * @return The value that had previously been associated with the ID or {@code null} if there was none.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public V put(UUID requestId, V value) {
+        Objects.requireNonNull(requestId, "Request ID must not be null");
+        return put(requestId.getMsb(), requestId.getLsb(), value);
+    }
+
+    /**
+     * Associates a value with a request ID.
+     *
+     * @param msb The most significant bits of the request ID.
+     * @param lsb The least significant bits of the request ID.
+     * @param value The value.
+     * @return The value that had previously been associated with the ID or {@code null} if there was none.
+     * @throws NullPointerException if value is {@code null}.
+     */
+    public V put(long msb, long lsb, V value) {
+        Objects.requireNonNull(value, "Value must not be null");
+        final long hash = hash(msb, lsb);
+        final var stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.put(msb, lsb, (int) hash, value);
+        }
+    }
+
+    /**
+     * Gets the value associated with a request ID.
+     *
+     * @param msb The most significant bits of the request ID.
+     * @param lsb The least significant bits of the request ID.
+     * @return The value or {@code null} if no value is associated with the ID.
+     */
+    public V get(long msb, long lsb) {
+        final long hash = hash(msb, lsb);
+        final var stripe = stripeFor(hash);
+        synchronized (stripe) {
+            final int index = stripe.indexOf(msb, lsb, (int) hash);
+            return index < 0 ? null : stripe.valueAt(index);
+        }
+    }
+
+    /**
+     * Removes the value associated with a request ID.
+     *
+     * @param requestId The request ID.
+     * @return The removed value or {@code null} if no value was associated with the ID.
+     * @throws NullPointerException if request ID is {@code null}.
+     */
+    public V remove(UUID requestId) {
+        Objects.requireNonNull(requestId, "Request ID must not be null");
+        return remove(requestId.getMsb(), requestId.getLsb());
+    }
+
+    /**
+     * Removes the value associated with a request ID.
+     *
+     * @param msb The most significant bits of the request ID.
+     * @param lsb The least significant bits of the request ID.
+     * @return The removed value or {@code null} if no value was associated with the ID.
+     */
+    public V remove(long msb, long lsb) {
+        final long hash = hash(msb, lsb);
+        final var stripe = stripeFor(hash);
+        synchronized (stripe) {
+            final int index = stripe.indexOf(msb, lsb, (int) hash);
+            return index < 0 ? null : stripe.removeAt(index);
+        }
+    }
+
+    /**
+     * Removes the value associated with a request ID, if the ID is associated with a given value.
+     *
+     * @param msb The most significant bits of the request ID.
+     * @param lsb The least significant bits of the request ID.
+     * @param value The value expected to be associated with the ID.
+     * @return {@code true} if the value has been removed.
+     */
+    public boolean remove(long msb, long lsb, V value) {
+        final long hash = hash(msb, lsb);
+        final var stripe = stripeFor(hash);
+        synchronized (stripe) {
+            final int index = stripe.indexOf(msb, lsb, (int) hash);
+            if (index < 0 || stripe.valueAt(index) != value) {
+                return false;
+            }
+            stripe.removeAt(index);
+            return true;
+        }
+    }
+
+    /**
+     * Gets the number of entries in this table.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        int size = 0;
+        for (var stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if this table is empty.
+     *
+     * @return {@code true} if the table does not contain any entries.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all entries from this table.
+     */
+    public void clear() {
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                stripe.reset(initialStripeCapacity);
+            }
+        }
+    }
+
+    // the upper bits select the stripe, the lower bits the slot within the stripe
+    private Stripe<V> stripeFor(long hash) {
+        return stripes[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    // the finalizer of MurmurHash3, the random bits of UUIDs are contained in both halves
+    static long hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * An open addressing hash table using linear probing.
+     * <p>
+     * Slots that do not hold a value are empty. Removed entries are not replaced with tombstones,
+     * instead subsequent entries of the same probe sequence are shifted back.
+     */
+    private static final class Stripe<V> {
+        private long[] msbs;
+        private long[] lsbs;
+        private Object[] values;
+        private int mask;
+        private volatile int size;
+
+        Stripe(int capacity) {
+            reset(capacity);
+        }
+
+        void reset(int capacity) {
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+            size = 0;
+        }
+
+        int indexOf(long msb, long lsb, int hash) {
+            for (int i = hash & mask;; i = (i + 1) & mask) {
+                if (values[i] == null) {
+                    return -1;
+                }
+                if (msbs[i] == msb && lsbs[i] == lsb) {
+                    return i;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) values[index];
+        }
+
+        V put(long msb, long lsb, int hash, V value) {
+            int i = hash & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (msbs[i] == msb && lsbs[i] == lsb) {
+                    final V previous = valueAt(i);
+                    values[i] = value;
+                    return previous;
+                }
+            }
+            msbs[i] = msb;
+            lsbs[i] = lsb;
+            values[i] = value;
+            size++;
+            if (size > (mask + 1) >>> 1 && mask + 1 < MAX_STRIPE_CAPACITY) {
+                resize((mask + 1) << 1);
+            }
+            return null;
+        }
+
+        V removeAt(int index) {
+            final V removed = valueAt(index);
+            int gap = index;
+            for (int i = (index + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+                final int home = (int) hash(msbs[i], lsbs[i]) & mask;
+                // move the entry into the gap unless its home slot lies cyclically within (gap, i]
+                final boolean reachableFromHome = gap <= i ? gap < home && home <= i : gap < home || home <= i;
+                if (!reachableFromHome) {
+                    msbs[gap] = msbs[i];
+                    lsbs[gap] = lsbs[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+            }
+            values[gap] = null;
+            size--;
+            return removed;
+        }
+
+        private void resize(int capacity) {
+            final long[] oldMsbs = msbs;
+            final long[] oldLsbs = lsbs;
+            final Object[] oldValues = values;
+            msbs = new long[capacity];
+            lsbs = new long[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+            for (int j = 0; j < oldValues.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = (int) hash(oldMsbs[j], oldLsbs[j]) & mask;
+                    while (values[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    msbs[i] = oldMsbs[j];
+                    lsbs[i] = oldLsbs[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+    }
+}
@@ -12,6 +12,9 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -83,4 +86,46 @@ public interface Publisher {
      * @throws NullPointerException if any of the arguments are {@code null}.
      */
     CompletionStage<Void> publish(int resourceId, CallOptions options, UPayload payload);
+
+    /**
+     * Publishes multiple messages to a topic.
+     * <p>
+     * This default implementation invokes {@link #publishAll(int, CallOptions, List)} with the
+     * given resource ID, payloads and {@link CallOptions#DEFAULT default options}.
+     *
+     * @param resourceId The (local) resource ID of the topic to publish to.
+     * @param payloads The payloads to publish, one message per payload.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * if any of the messages could not be published.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    default CompletionStage<Void> publishAll(int resourceId, List<UPayload> payloads) {
+        return publishAll(resourceId, CallOptions.DEFAULT, payloads);
+    }
+
+    /**
+     * Publishes multiple messages to a topic.
+     * <p>
+     * The messages are published in the order of the payloads. This is useful for producers that
+     * publish events at a high rate, because implementations can create and send all messages at once.
+     * <p>
+     * This default implementation invokes {@link #publish(int, CallOptions, UPayload)} for each of the payloads.
+     *
+     * @param resourceId The (local) resource ID of the topic to publish to.
+     * @param options Options to include in each of the published messages. {@link CallOptions#DEFAULT} can
+     * be used for default options.
+     * @param payloads The payloads to publish, one message per payload.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * if any of the messages could not be published.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    default CompletionStage<Void> publishAll(int resourceId, CallOptions options, List<UPayload> payloads) {
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payloads);
+        final CompletableFuture<?>[] outcomes = new CompletableFuture<?>[payloads.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = publish(resourceId, options, payloads.get(i)).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(outcomes);
+    }
 }
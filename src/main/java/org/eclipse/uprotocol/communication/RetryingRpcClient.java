@@ -0,0 +1,461 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.uprotocol.communication.InMemoryUMetrics.LatencyHistogram;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * An RPC client that retries failed requests and hedges slow requests using another client.
+ * <p>
+ * A request that fails with one of a configurable set of {@link UCode}s is retried after an
+ * exponentially growing, jittered backoff. In addition, if no response has been received after a
+ * delay that is derived from a percentile of the latency of previous successful requests to the same
+ * method, a second copy of the request is sent (hedged). The first successful response is used, while
+ * the responses to the other attempts are ignored. Hedging only starts once enough latencies have been
+ * recorded for a method.
+ * <p>
+ * All attempts of an invocation share the deadline given by the timeout of the original
+ * {@link CallOptions}, i.e. each attempt is sent with the time remaining until the deadline as its
+ * timeout, and no attempt is made once the deadline has passed.
+ * <p>
+ * Retries and hedged requests are limited by a retry budget that is shared by all invocations: each
+ * failed attempt consumes a token, each successful one adds a fraction of a token, and additional
+ * attempts are only made while more than half of the tokens are available. A failing service therefore
+ * quickly stops receiving more requests than the callers send.
+ * <p>
+ * Retries and hedged requests are sent using an {@link Executor}, so that neither the scheduler's thread
+ * nor a thread completing a failed attempt is blocked by sending the request.
+ * <p>
+ * Note that the same request may be processed by the service multiple times, so this client should only
+ * be used for invoking idempotent methods.
+ */
+public final class RetryingRpcClient implements RpcClient {
+
+    private static final int TOKEN_SCALE = 1000;
+
+    private final RpcClient delegate;
+    private final Set<UCode> retryableCodes;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double hedgePercentile;
+    private final int minHedgeSamples;
+    private final int maxTokens;
+    private final int tokensPerSuccess;
+    private final DeadlineScheduler scheduler;
+    private final Executor executor;
+
+    private final AtomicInteger tokens;
+    private final Map<UUri, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    private RetryingRpcClient(Builder builder) {
+        this.delegate = builder.delegate;
+        this.retryableCodes = EnumSet.copyOf(builder.retryableCodes);
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoffNanos = builder.initialBackoffNanos;
+        this.maxBackoffNanos = builder.maxBackoffNanos;
+        this.hedgePercentile = builder.hedgePercentile;
+        this.minHedgeSamples = builder.minHedgeSamples;
+        this.maxTokens = builder.maxTokens * TOKEN_SCALE;
+        this.tokensPerSuccess = (int) Math.round(builder.tokenRatio * TOKEN_SCALE);
+        this.scheduler = builder.scheduler;
+        this.executor = builder.executor;
+        this.tokens = new AtomicInteger(maxTokens);
+    }
+
+    /**
+     * Creates a builder for a client using default settings.
+     * <p>
+     * By default, requests failing with {@link UCode#UNAVAILABLE} are retried, up to 3 attempts are
+     * made per invocation, the backoff starts at 50 ms and is capped at 1 s, requests are hedged after
+     * the 95th percentile of the latency once 20 latencies have been recorded, and the retry budget
+     * has 10 tokens with a token ratio of 0.1.
+     *
+     * @param delegate The client to use for sending the requests.
+     * @return The builder.
+     * @throws NullPointerException if delegate is {@code null}.
+     */
+    public static Builder builder(RpcClient delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public CompletionStage<UPayload> invokeMethod(UUri methodUri, UPayload requestPayload, CallOptions options) {
+        Objects.requireNonNull(methodUri, "Method URI cannot be null");
+        Objects.requireNonNull(requestPayload, "Request payload cannot be null");
+        Objects.requireNonNull(options, "Call options cannot be null");
+        final var invocation = new Invocation(methodUri, requestPayload, options);
+        scheduleHedge(invocation);
+        startAttempt(invocation, false);
+        return invocation.result;
+    }
+
+    /**
+     * Gets the delay after which requests to a method are hedged.
+     *
+     * @param methodUri The method.
+     * @return The delay in nanoseconds or -1 if requests are not hedged (yet).
+     */
+    long getHedgeDelayNanos(UUri methodUri) {
+        if (hedgePercentile <= 0) {
+            return -1;
+        }
+        final var histogram = latencies.get(methodUri);
+        if (histogram == null || histogram.getCount() < minHedgeSamples) {
+            return -1;
+        }
+        return histogram.getPercentileNanos(hedgePercentile);
+    }
+
+    /**
+     * Gets the number of tokens available in the retry budget.
+     *
+     * @return The number of tokens.
+     */
+    double getAvailableTokens() {
+        return (double) tokens.get() / TOKEN_SCALE;
+    }
+
+    private void scheduleHedge(Invocation invocation) {
+        final long delay = getHedgeDelayNanos(invocation.method);
+        if (delay < 0 || invocation.result.isDone() || delay >= invocation.remainingNanos()) {
+            return;
+        }
+        final var hedge = scheduler.schedule(delay, TimeUnit.NANOSECONDS, () -> {
+            if (!invocation.result.isDone() && mayMakeAdditionalAttempt(invocation)) {
+                submitAttempt(invocation, true, null);
+            }
+        });
+        synchronized (invocation) {
+            invocation.hedge = hedge;
+        }
+    }
+
+    private boolean mayMakeAdditionalAttempt(Invocation invocation) {
+        synchronized (invocation) {
+            return invocation.attempts < maxAttempts && tokens.get() > maxTokens / 2;
+        }
+    }
+
+    // starts an additional attempt using the executor, the failure is used if the executor rejects a retry
+    private void submitAttempt(Invocation invocation, boolean hedged, Throwable failure) {
+        try {
+            executor.execute(() -> startAttempt(invocation, hedged));
+        } catch (RejectedExecutionException e) {
+            if (!hedged) {
+                invocation.result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    // a hedged attempt is only started while another attempt is outstanding
+    private void startAttempt(Invocation invocation, boolean hedged) {
+        final long remainingNanos = invocation.remainingNanos();
+        synchronized (invocation) {
+            if (invocation.result.isDone()
+                    || invocation.attempts >= maxAttempts
+                    || hedged && invocation.outstanding == 0) {
+                return;
+            }
+            invocation.attempts++;
+            invocation.outstanding++;
+        }
+        if (remainingNanos <= 0) {
+            onAttemptFailed(invocation, new UStatusException(UCode.DEADLINE_EXCEEDED, "Deadline has passed"));
+            return;
+        }
+        final var options = invocation.options;
+        final var attemptOptions = new CallOptions(
+            (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)),
+            options.priority(),
+            options.token());
+        final long attemptStartNanos = System.nanoTime();
+        CompletionStage<UPayload> attempt;
+        try {
+            attempt = delegate.invokeMethod(invocation.method, invocation.payload, attemptOptions);
+        } catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        attempt.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                onAttemptSucceeded(invocation, response, System.nanoTime() - attemptStartNanos);
+            } else {
+                onAttemptFailed(invocation, throwable);
+            }
+        });
+    }
+
+    private void onAttemptSucceeded(Invocation invocation, UPayload response, long latencyNanos) {
+        tokens.getAndUpdate(available -> Math.min(maxTokens, available + tokensPerSuccess));
+        // avoid the locking done by computeIfAbsent for methods which are already present
+        var histogram = latencies.get(invocation.method);
+        if (histogram == null) {
+            histogram = latencies.computeIfAbsent(invocation.method, k -> new LatencyHistogram());
+        }
+        histogram.record(latencyNanos);
+        synchronized (invocation) {
+            invocation.outstanding--;
+            invocation.cancelHedge();
+        }
+        invocation.result.complete(response);
+    }
+
+    private void onAttemptFailed(Invocation invocation, Throwable throwable) {
+        final var cause = throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause()
+            : throwable;
+        final boolean retryable = cause instanceof UStatusException e && retryableCodes.contains(e.getCode());
+        if (retryable) {
+            tokens.getAndUpdate(available -> Math.max(0, available - TOKEN_SCALE));
+        }
+        final int attempts;
+        synchronized (invocation) {
+            invocation.outstanding--;
+            // a retry replaces the hedged attempt
+            invocation.cancelHedge();
+            if (invocation.result.isDone() || invocation.outstanding > 0) {
+                // wait for the outcome of the other attempt
+                return;
+            }
+            attempts = invocation.attempts;
+        }
+        if (!retryable || !mayMakeAdditionalAttempt(invocation)) {
+            invocation.result.completeExceptionally(cause);
+            return;
+        }
+        final long backoffCap = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempts - 1, 30));
+        // use half of the backoff as fixed delay and the other half as random jitter
+        final long backoff = backoffCap / 2 + ThreadLocalRandom.current().nextLong(backoffCap / 2 + 1);
+        if (backoff >= invocation.remainingNanos()) {
+            invocation.result.completeExceptionally(cause);
+        } else if (backoff == 0) {
+            submitAttempt(invocation, false, cause);
+        } else {
+            scheduler.schedule(backoff, TimeUnit.NANOSECONDS, () -> submitAttempt(invocation, false, cause));
+        }
+    }
+
+    /**
+     * The state of an invocation, the counters and the hedge are guarded by the instance's monitor.
+     */
+    private static final class Invocation {
+        private final UUri method;
+        private final UPayload payload;
+        private final CallOptions options;
+        private final long deadlineNanos;
+        private final CompletableFuture<UPayload> result = new CompletableFuture<>();
+        private int attempts;
+        private int outstanding;
+        private DeadlineScheduler.Deadline hedge;
+
+        Invocation(UUri method, UPayload payload, CallOptions options) {
+            this.method = method;
+            this.payload = payload;
+            this.options = options;
+            this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(options.timeout());
+        }
+
+        long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+
+        void cancelHedge() {
+            if (hedge != null) {
+                hedge.cancel();
+                hedge = null;
+            }
+        }
+    }
+
+    /**
+     * A builder for {@link RetryingRpcClient}s.
+     */
+    public static final class Builder {
+        private final RpcClient delegate;
+        private Set<UCode> retryableCodes = EnumSet.of(UCode.UNAVAILABLE);
+        private int maxAttempts = 3;
+        private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(50);
+        private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(1);
+        private double hedgePercentile = 95;
+        private int minHedgeSamples = 20;
+        private int maxTokens = 10;
+        private double tokenRatio = 0.1;
+        private DeadlineScheduler scheduler = DeadlineScheduler.getDefault();
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(RpcClient delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "Delegate must not be null");
+        }
+
+        /**
+         * Sets the status codes for which failed requests are retried.
+         *
+         * @param codes The codes. If no codes are given, failed requests are not retried.
+         * @return This builder.
+         * @throws NullPointerException if codes is {@code null}.
+         */
+        public Builder withRetryableCodes(UCode... codes) {
+            Objects.requireNonNull(codes, "Codes must not be null");
+            final Set<UCode> set = EnumSet.noneOf(UCode.class);
+            for (var code : codes) {
+                set.add(Objects.requireNonNull(code, "Code must not be null"));
+            }
+            this.retryableCodes = set;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of attempts per invocation, including retries and hedged requests.
+         *
+         * @param maxAttempts The number of attempts.
+         * @return This builder.
+         * @throws IllegalArgumentException if max attempts is not positive.
+         */
+        public Builder withMaxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("Max attempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the backoff between a failed attempt and its retry.
+         * <p>
+         * The backoff doubles with each attempt, starting at the initial backoff, until it reaches the
+         * max backoff. The actual delay is chosen randomly between half of the backoff and the backoff.
+         *
+         * @param initialBackoff The backoff after the first attempt.
+         * @param maxBackoff The maximum backoff.
+         * @param unit The unit of the backoffs.
+         * @return This builder.
+         * @throws NullPointerException if unit is {@code null}.
+         * @throws IllegalArgumentException if any of the backoffs is negative or if initial backoff
+         * exceeds max backoff.
+         */
+        public Builder withBackoff(long initialBackoff, long maxBackoff, TimeUnit unit) {
+            Objects.requireNonNull(unit, "Unit must not be null");
+            if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+                throw new IllegalArgumentException("Backoffs must not be negative, initial must not exceed max");
+            }
+            this.initialBackoffNanos = unit.toNanos(initialBackoff);
+            this.maxBackoffNanos = unit.toNanos(maxBackoff);
+            return this;
+        }
+
+        /**
+         * Sets the latency percentile after which requests are hedged.
+         *
+         * @param percentile The percentile in range (0, 100].
+         * @param minSamples The number of latencies that need to be recorded for a method before
+         * requests to the method are hedged.
+         * @return This builder.
+         * @throws IllegalArgumentException if the percentile is not in range (0, 100] or min samples
+         * is not positive.
+         */
+        public Builder withHedging(double percentile, int minSamples) {
+            if (!(percentile > 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentile must be in range (0, 100]");
+            }
+            if (minSamples <= 0) {
+                throw new IllegalArgumentException("Min samples must be positive");
+            }
+            this.hedgePercentile = percentile;
+            this.minHedgeSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Disables hedging of requests.
+         *
+         * @return This builder.
+         */
+        public Builder withoutHedging() {
+            this.hedgePercentile = 0;
+            return this;
+        }
+
+        /**
+         * Sets the retry budget that is shared by all invocations.
+         *
+         * @param maxTokens The number of tokens in the budget.
+         * @param tokenRatio The fraction of a token that is added by each successful attempt.
+         * @return This builder.
+         * @throws IllegalArgumentException if max tokens is not in range [1, 1000000] or if the token ratio
+         * is not in range (0, 1].
+         */
+        public Builder withRetryBudget(int maxTokens, double tokenRatio) {
+            if (maxTokens <= 0 || maxTokens > 1_000_000) {
+                throw new IllegalArgumentException("Max tokens must be in range [1, 1000000]");
+            }
+            if (!(tokenRatio > 0 && tokenRatio <= 1)) {
+                throw new IllegalArgumentException("Token ratio must be in range (0, 1]");
+            }
+            this.maxTokens = maxTokens;
+            this.tokenRatio = tokenRatio;
+            return this;
+        }
+
+        /**
+         * Sets the scheduler to use for delaying retries and hedged requests.
+         *
+         * @param scheduler The scheduler.
+         * @return This builder.
+         * @throws NullPointerException if scheduler is {@code null}.
+         */
+        public Builder withScheduler(DeadlineScheduler scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "Scheduler must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the executor to use for sending retries and hedged requests.
+         * <p>
+         * By default, the {@link ForkJoinPool#commonPool() common pool} is used.
+         *
+         * @param executor The executor.
+         * @return This builder.
+         * @throws NullPointerException if executor is {@code null}.
+         */
+        public Builder withExecutor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+            return this;
+        }
+
+        /**
+         * Creates the client.
+         *
+         * @return The client.
+         */
+        public RetryingRpcClient build() {
+            return new RetryingRpcClient(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * A reference to a payload that is stored in a shared memory segment.
+ * <p>
+ * Large payloads, e.g. camera frames or point clouds, can be exchanged between uEntities running on the
+ * same host by writing them to a {@link SharedMemorySegment} and only sending the descriptor in a message
+ * having payload format {@link UPayloadFormat#UPAYLOAD_FORMAT_SHM}. The receiver uses the descriptor to
+ * look up the payload data in the segment.
+ * <p>
+ * The descriptor is encoded using the protobuf wire format, as if it was defined as
+ * <pre>
+ * message SharedMemoryDescriptor {
+ *   string segment = 1;
+ *   uint64 offset = 2;
+ *   uint32 length = 3;
+ *   UPayloadFormat format = 4;
+ * }
+ * </pre>
+ *
+ * @param segment The name of the segment that contains the payload data.
+ * @param offset The position of the payload data within the segment.
+ * @param length The number of bytes of payload data.
+ * @param format The format of the payload data.
+ */
+public record SharedMemoryDescriptor(String segment, long offset, int length, UPayloadFormat format) {
+
+    private static final int SEGMENT_FIELD = 1;
+    private static final int OFFSET_FIELD = 2;
+    private static final int LENGTH_FIELD = 3;
+    private static final int FORMAT_FIELD = 4;
+
+    /**
+     * Creates a descriptor.
+     *
+     * @param segment The name of the segment that contains the payload data.
+     * @param offset The position of the payload data within the segment.
+     * @param length The number of bytes of payload data.
+     * @param format The format of the payload data.
+     * @throws NullPointerException if segment or format are {@code null}.
+     * @throws IllegalArgumentException if the segment name is empty, offset or length are negative,
+     * or the format is {@link UPayloadFormat#UPAYLOAD_FORMAT_SHM}.
+     */
+    public SharedMemoryDescriptor {
+        Objects.requireNonNull(segment, "Segment must not be null");
+        Objects.requireNonNull(format, "Format must not be null");
+        if (segment.isEmpty()) {
+            throw new IllegalArgumentException("Segment must not be empty");
+        }
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length must not be negative");
+        }
+        if (format == UPayloadFormat.UPAYLOAD_FORMAT_SHM || format == UPayloadFormat.UNRECOGNIZED) {
+            throw new IllegalArgumentException("Format must be the format of the payload data");
+        }
+    }
+
+    /**
+     * Creates a payload that contains this descriptor.
+     *
+     * @return A payload having format {@link UPayloadFormat#UPAYLOAD_FORMAT_SHM}.
+     */
+    public UPayload toPayload() {
+        final int size = CodedOutputStream.computeStringSize(SEGMENT_FIELD, segment)
+            + CodedOutputStream.computeUInt64Size(OFFSET_FIELD, offset)
+            + CodedOutputStream.computeUInt32Size(LENGTH_FIELD, length)
+            + CodedOutputStream.computeEnumSize(FORMAT_FIELD, format.getNumber());
+        final byte[] data = new byte[size];
+        final var out = CodedOutputStream.newInstance(data);
+        try {
+            out.writeString(SEGMENT_FIELD, segment);
+            out.writeUInt64(OFFSET_FIELD, offset);
+            out.writeUInt32(LENGTH_FIELD, length);
+            out.writeEnum(FORMAT_FIELD, format.getNumber());
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // cannot happen when writing to an array of the computed size
+            throw new IllegalStateException(e);
+        }
+        return UPayload.pack(ByteString.copyFrom(data), UPayloadFormat.UPAYLOAD_FORMAT_SHM);
+    }
+
+    /**
+     * Gets the descriptor contained in a payload.
+     *
+     * @param payload The payload.
+     * @return The descriptor.
+     * @throws NullPointerException if payload is {@code null}.
+     * @throws UStatusException if the payload does not have format {@link UPayloadFormat#UPAYLOAD_FORMAT_SHM}
+     * or does not contain a valid descriptor.
+     */
+    public static SharedMemoryDescriptor fromPayload(UPayload payload) {
+        Objects.requireNonNull(payload, "Payload must not be null");
+        if (payload.format() != UPayloadFormat.UPAYLOAD_FORMAT_SHM) {
+            throw new UStatusException(UCode.INVALID_ARGUMENT, "Payload does not refer to shared memory");
+        }
+        String segment = "";
+        long offset = 0;
+        int length = 0;
+        int format = UPayloadFormat.UPAYLOAD_FORMAT_UNSPECIFIED_VALUE;
+        try {
+            final CodedInputStream in = payload.data().newCodedInput();
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case SEGMENT_FIELD -> segment = in.readStringRequireUtf8();
+                    case OFFSET_FIELD -> offset = in.readUInt64();
+                    case LENGTH_FIELD -> length = in.readUInt32();
+                    case FORMAT_FIELD -> format = in.readEnum();
+                    default -> in.skipField(tag);
+                }
+            }
+            final var payloadFormat = UPayloadFormat.forNumber(format);
+            if (payloadFormat == null) {
+                throw new UStatusException(UCode.INVALID_ARGUMENT, "Unknown payload format in descriptor");
+            }
+            return new SharedMemoryDescriptor(segment, offset, length, payloadFormat);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new UStatusException(UCode.INVALID_ARGUMENT, "Invalid shared memory descriptor", e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * A file backed memory region that can be shared by processes running on the same host.
+ * <p>
+ * A producer {@link #create(Path, int) creates} a segment, writes payload data to it and sends
+ * {@link SharedMemoryDescriptor descriptors} of the data instead of the data itself. A consumer
+ * {@link #open(Path) opens} the same segment and {@link #resolve(UPayload) resolves} the descriptors
+ * that it receives to payloads which are backed by the segment, i.e. the payload data is never copied
+ * onto the heap of either process. Placing the file on a memory backed file system like {@code /dev/shm}
+ * avoids any disk I/O.
+ * <p>
+ * The segment does not coordinate the use of its memory, i.e. the producer needs to make sure that it
+ * does not overwrite data that consumers have not processed yet, e.g. by using the segment as a ring
+ * buffer that is large enough to hold the data of all messages in flight.
+ * <p>
+ * Note that the memory remains mapped until the segment and all payloads created from it have been
+ * garbage collected, even after the segment has been closed.
+ */
+public final class SharedMemorySegment implements AutoCloseable {
+    private final String name;
+    private final FileChannel channel;
+    private final MappedByteBuffer memory;
+
+    private SharedMemorySegment(String name, FileChannel channel, MappedByteBuffer memory) {
+        this.name = name;
+        this.channel = channel;
+        this.memory = memory;
+    }
+
+    /**
+     * Creates a segment that can be written to.
+     * <p>
+     * The file is created if it does not exist yet, and resized to the segment's size otherwise.
+     *
+     * @param file The file backing the segment.
+     * @param size The size of the segment in bytes.
+     * @return The segment.
+     * @throws NullPointerException if file is {@code null}.
+     * @throws IllegalArgumentException if size is negative.
+     * @throws IOException if the file cannot be created or mapped.
+     */
+    public static SharedMemorySegment create(Path file, int size) throws IOException {
+        Objects.requireNonNull(file, "File must not be null");
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        final var channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            channel.truncate(size);
+            return new SharedMemorySegment(
+                nameOf(file), channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing segment for reading.
+     *
+     * @param file The file backing the segment.
+     * @return The segment.
+     * @throws NullPointerException if file is {@code null}.
+     * @throws IOException if the file cannot be opened or mapped, or is larger than 2 GiB.
+     */
+    public static SharedMemorySegment open(Path file) throws IOException {
+        Objects.requireNonNull(file, "File must not be null");
+        final var channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Segment must not be larger than 2 GiB");
+            }
+            return new SharedMemorySegment(
+                nameOf(file), channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static String nameOf(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Gets the name that descriptors use for referring to this segment.
+     *
+     * @return The absolute path of the backing file.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the size of this segment.
+     *
+     * @return The number of bytes.
+     */
+    public int size() {
+        return memory.capacity();
+    }
+
+    /**
+     * Gets a view on a region of this segment.
+     * <p>
+     * Producers can use the view for writing payload data directly into the segment.
+     *
+     * @param offset The position of the region within the segment.
+     * @param length The size of the region.
+     * @return A buffer that shares its content with the region. The buffer is read-only if
+     * the segment has been {@link #open(Path) opened} for reading.
+     * @throws IndexOutOfBoundsException if the region exceeds the segment's bounds.
+     */
+    public ByteBuffer slice(int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, memory.capacity());
+        return memory.slice(offset, length);
+    }
+
+    /**
+     * Creates a payload that refers to a region of this segment.
+     *
+     * @param offset The position of the payload data within the segment.
+     * @param length The size of the payload data.
+     * @param format The format of the payload data.
+     * @return A payload containing the {@link SharedMemoryDescriptor descriptor} of the region.
+     * @throws NullPointerException if format is {@code null}.
+     * @throws IndexOutOfBoundsException if the region exceeds the segment's bounds.
+     * @throws IllegalArgumentException if the format is {@link UPayloadFormat#UPAYLOAD_FORMAT_SHM}.
+     */
+    public UPayload describe(int offset, int length, UPayloadFormat format) {
+        Objects.checkFromIndexSize(offset, length, memory.capacity());
+        return new SharedMemoryDescriptor(name, offset, length, format).toPayload();
+    }
+
+    /**
+     * Copies payload data into this segment.
+     *
+     * @param offset The position within the segment to copy the data to.
+     * @param data The payload data.
+     * @param format The format of the payload data.
+     * @return A payload containing the {@link SharedMemoryDescriptor descriptor} of the data.
+     * @throws NullPointerException if data or format are {@code null}.
+     * @throws IndexOutOfBoundsException if the data does not fit into the segment at the given offset.
+     * @throws java.nio.ReadOnlyBufferException if the segment has been {@link #open(Path) opened} for reading.
+     */
+    public UPayload write(int offset, ByteString data, UPayloadFormat format) {
+        Objects.requireNonNull(data, "Data must not be null");
+        final var payload = describe(offset, data.size(), format);
+        data.copyTo(slice(offset, data.size()));
+        return payload;
+    }
+
+    /**
+     * Gets the payload data that a descriptor refers to.
+     *
+     * @param payload A payload containing a {@link SharedMemoryDescriptor descriptor}.
+     * @return A payload that is backed by this segment and has the format of the payload data.
+     * The returned payload's data will change if the producer overwrites the region of the segment.
+     * @throws NullPointerException if payload is {@code null}.
+     * @throws UStatusException if the payload does not contain a valid descriptor, or if the
+     * descriptor refers to a different segment or exceeds this segment's bounds.
+     */
+    public UPayload resolve(UPayload payload) {
+        final var descriptor = SharedMemoryDescriptor.fromPayload(payload);
+        if (!name.equals(descriptor.segment())) {
+            throw new UStatusException(UCode.INVALID_ARGUMENT, "Descriptor refers to a different segment");
+        }
+        // offset and length are not negative, so the subtraction cannot overflow
+        if (descriptor.offset() > memory.capacity() - descriptor.length()) {
+            throw new UStatusException(UCode.OUT_OF_RANGE, "Descriptor exceeds segment bounds");
+        }
+        return UPayload.wrap(
+            memory.slice((int) descriptor.offset(), descriptor.length()).asReadOnlyBuffer(),
+            descriptor.format());
+    }
+
+    /**
+     * Closes the file backing this segment.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
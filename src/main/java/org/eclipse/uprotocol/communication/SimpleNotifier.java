@@ -12,6 +12,8 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +25,7 @@ import org.eclipse.uprotocol.transport.UTransport;
 import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
 import org.eclipse.uprotocol.uri.validator.UriValidator;
 import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
 import org.eclipse.uprotocol.v1.UUri;
 
 /**
@@ -32,10 +35,17 @@ import org.eclipse.uprotocol.v1.UUri;
  * <em>NOTE:</em> Developers are not required to use these APIs, they can implement
  * their own or directly use the {@link UTransport} to send notifications and register
  * listeners.
+ * <p>
+ * A notifier can optionally be created with a {@link FlowController} which limits the number and size
+ * of messages that have been handed to the transport but have not been sent yet. Sending a notification
+ * is then deferred until credits are available, while
+ * {@link #tryNotify(int, UUri, CallOptions, UPayload)} fails immediately instead.
  */
 // [impl->dsn~communication-layer-impl-default~1]
 public class SimpleNotifier extends AbstractCommunicationLayerClient implements Notifier {
 
+    private final FlowController flowController;
+
     /**
      * Creates a new notifier for a transport.
      * 
@@ -43,11 +53,74 @@ public class SimpleNotifier extends AbstractCommunicationLayerClient implements
      * @param uriProvider The helper to use for creating local resource URIs.
      */
     public SimpleNotifier (UTransport transport, LocalUriProvider uriProvider) {
-        super(transport, uriProvider);
+        this(transport, uriProvider, UMetrics.getDefault(), null);
+    }
+
+    /**
+     * Creates a new notifier for a transport.
+     *
+     * @param transport The transport to use for sending the notifications.
+     * @param uriProvider The helper to use for creating local resource URIs.
+     * @param metrics The metrics to record the number of sent notifications in.
+     */
+    public SimpleNotifier(UTransport transport, LocalUriProvider uriProvider, UMetrics metrics) {
+        this(transport, uriProvider, metrics, null);
     }
 
+    /**
+     * Creates a new notifier for a transport.
+     *
+     * @param transport The transport to use for sending the notifications.
+     * @param uriProvider The helper to use for creating local resource URIs.
+     * @param metrics The metrics to record the number of sent notifications in.
+     * @param flowController The controller limiting the outstanding messages or {@code null} to
+     * hand all notifications to the transport immediately.
+     */
+    public SimpleNotifier(
+            UTransport transport,
+            LocalUriProvider uriProvider,
+            UMetrics metrics,
+            FlowController flowController) {
+        super(transport, uriProvider, metrics);
+        this.flowController = flowController;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If this notifier uses a {@link FlowController}, the notification is handed to the transport once
+     * a credit is available.
+     */
     @Override
     public CompletionStage<Void> notify(int resourceId, UUri destination, CallOptions options, UPayload payload) {
+        return notify(resourceId, destination, options, payload, true);
+    }
+
+    /**
+     * Sends a notification to a uEntity, if the notification can be handed to the transport immediately.
+     * <p>
+     * This is the same as {@link #notify(int, UUri, CallOptions, UPayload)}, except that the notification
+     * is not sent at all if this notifier uses a {@link FlowController} which has no credits available.
+     *
+     * @param resourceId The (local) resource ID of the topic to send the notification from.
+     * @param destination The destination to send the notification to.
+     * @param options Options to include in the notification message.
+     * @param payload Payload to include in the notification message.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * having code {@link UCode#RESOURCE_EXHAUSTED} if no credit is available, or with another
+     * {@link UStatusException} if the notification could not be sent.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public CompletionStage<Void> tryNotify(int resourceId, UUri destination, CallOptions options, UPayload payload) {
+        return notify(resourceId, destination, options, payload, false);
+    }
+
+    private CompletionStage<Void> notify(
+            int resourceId,
+            UUri destination,
+            CallOptions options,
+            UPayload payload,
+            boolean waitForCredits) {
         Objects.requireNonNull(destination);
         Objects.requireNonNull(options);
         Objects.requireNonNull(payload);
@@ -59,7 +132,58 @@ public class SimpleNotifier extends AbstractCommunicationLayerClient implements
         }
         UMessageBuilder builder = UMessageBuilder.notification(topic, destination);
         options.applyToMessage(builder);
-        return getTransport().send(builder.build(payload));
+        final var message = builder.build(payload);
+        if (flowController == null) {
+            return send(topic, destination, message);
+        }
+        return flowController.send(List.of(message), waitForCredits, () -> send(topic, destination, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation verifies the origin topic once, creates all messages from a single
+     * {@link org.eclipse.uprotocol.transport.builder.MessageTemplate} and then sends them using
+     * {@link UTransport#sendAll(List)}. If this notifier uses a {@link FlowController}, the messages are
+     * handed to the transport once credits for all of them are available.
+     */
+    @Override
+    public CompletionStage<Void> notifyAll(
+            int resourceId,
+            UUri destination,
+            CallOptions options,
+            List<UPayload> payloads) {
+        Objects.requireNonNull(destination);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payloads);
+        final var topic = getUriProvider().getResource(resourceId);
+        if (!UriValidator.isTopic(topic)) {
+            return CompletableFuture.failedFuture(new UStatusException(
+                UCode.INVALID_ARGUMENT,
+                "Resource ID does not map to a valid topic URI"));
+        }
+        UMessageBuilder builder = UMessageBuilder.notification(topic, destination);
+        options.applyToMessage(builder);
+        final var template = builder.toTemplate();
+        final List<UMessage> messages = new ArrayList<>(payloads.size());
+        for (var payload : payloads) {
+            Objects.requireNonNull(payload);
+            messages.add(template.build(payload));
+        }
+        if (flowController == null) {
+            return sendAll(topic, destination, messages);
+        }
+        return flowController.send(messages, true, () -> sendAll(topic, destination, messages));
+    }
+
+    private CompletionStage<Void> send(UUri topic, UUri destination, UMessage message) {
+        getMetrics().notificationsSent(topic, destination, 1);
+        return getTransport().send(message);
+    }
+
+    private CompletionStage<Void> sendAll(UUri topic, UUri destination, List<UMessage> messages) {
+        getMetrics().notificationsSent(topic, destination, messages.size());
+        return getTransport().sendAll(messages);
     }
 
 
@@ -12,6 +12,8 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -21,6 +23,8 @@ import org.eclipse.uprotocol.transport.UTransport;
 import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
 import org.eclipse.uprotocol.uri.validator.UriValidator;
 import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UUri;
 
 /**
  * A Publisher that uses the uProtocol Transport Layer API for publishing events to topics.
@@ -31,6 +35,8 @@ import org.eclipse.uprotocol.v1.UCode;
 // [impl->dsn~communication-layer-impl-default~1]
 public class SimplePublisher extends AbstractCommunicationLayerClient implements Publisher {
 
+    private final FlowController flowController;
+
     /**
      * Creates a new publisher for a transport.
      *
@@ -38,11 +44,73 @@ public class SimplePublisher extends AbstractCommunicationLayerClient implements
      * @param uriProvider the URI provider to use for creating local resource URIs
      */
     public SimplePublisher(UTransport transport, LocalUriProvider uriProvider) {
-        super(transport, uriProvider);
+        this(transport, uriProvider, UMetrics.getDefault(), null);
+    }
+
+    /**
+     * Creates a new publisher for a transport.
+     *
+     * @param transport the transport to use for sending the notifications
+     * @param uriProvider the URI provider to use for creating local resource URIs
+     * @param metrics the metrics to record the number of published messages in
+     */
+    public SimplePublisher(UTransport transport, LocalUriProvider uriProvider, UMetrics metrics) {
+        this(transport, uriProvider, metrics, null);
+    }
+
+    /**
+     * Creates a new publisher for a transport.
+     *
+     * @param transport the transport to use for sending the notifications
+     * @param uriProvider the URI provider to use for creating local resource URIs
+     * @param metrics the metrics to record the number of published messages in
+     * @param flowController the controller limiting the outstanding messages or {@code null} to
+     * hand all messages to the transport immediately
+     */
+    public SimplePublisher(
+            UTransport transport,
+            LocalUriProvider uriProvider,
+            UMetrics metrics,
+            FlowController flowController) {
+        super(transport, uriProvider, metrics);
+        this.flowController = flowController;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If this publisher uses a {@link FlowController}, the message is handed to the transport once
+     * a credit is available.
+     */
     @Override
     public CompletionStage<Void> publish(int resourceId, CallOptions options, UPayload payload) {
+        return publish(resourceId, options, payload, true);
+    }
+
+    /**
+     * Publishes a message to a topic, if the message can be handed to the transport immediately.
+     * <p>
+     * This is the same as {@link #publish(int, CallOptions, UPayload)}, except that the message is
+     * not published at all if this publisher uses a {@link FlowController} which has no credits
+     * available.
+     *
+     * @param resourceId The (local) resource ID of the topic to publish to.
+     * @param options Options to include in the published message.
+     * @param payload Payload to include in the published message.
+     * @return The outcome of the operation. The stage will be failed with a {@link UStatusException}
+     * having code {@link UCode#RESOURCE_EXHAUSTED} if no credit is available, or with another
+     * {@link UStatusException} if the message could not be published.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public CompletionStage<Void> tryPublish(int resourceId, CallOptions options, UPayload payload) {
+        return publish(resourceId, options, payload, false);
+    }
+
+    private CompletionStage<Void> publish(
+            int resourceId,
+            CallOptions options,
+            UPayload payload,
+            boolean waitForCredits) {
         Objects.requireNonNull(options);
         Objects.requireNonNull(payload);
         final var topic = getUriProvider().getResource(resourceId);
@@ -53,6 +121,52 @@ public class SimplePublisher extends AbstractCommunicationLayerClient implements
         }
         UMessageBuilder builder = UMessageBuilder.publish(topic);
         options.applyToMessage(builder);
-        return getTransport().send(builder.build(payload));
+        final var message = builder.build(payload);
+        if (flowController == null) {
+            return send(topic, message);
+        }
+        return flowController.send(List.of(message), waitForCredits, () -> send(topic, message));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation verifies the topic once, creates all messages from a single
+     * {@link org.eclipse.uprotocol.transport.builder.MessageTemplate} and then sends them using
+     * {@link UTransport#sendAll(List)}. If this publisher uses a {@link FlowController}, the messages are
+     * handed to the transport once credits for all of them are available.
+     */
+    @Override
+    public CompletionStage<Void> publishAll(int resourceId, CallOptions options, List<UPayload> payloads) {
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(payloads);
+        final var topic = getUriProvider().getResource(resourceId);
+        if (!UriValidator.isTopic(topic)) {
+            return CompletableFuture.failedFuture(new UStatusException(
+                UCode.INVALID_ARGUMENT,
+                "Resource ID does not map to a valid topic URI"));
+        }
+        UMessageBuilder builder = UMessageBuilder.publish(topic);
+        options.applyToMessage(builder);
+        final var template = builder.toTemplate();
+        final List<UMessage> messages = new ArrayList<>(payloads.size());
+        for (var payload : payloads) {
+            Objects.requireNonNull(payload);
+            messages.add(template.build(payload));
+        }
+        if (flowController == null) {
+            return sendAll(topic, messages);
+        }
+        return flowController.send(messages, true, () -> sendAll(topic, messages));
+    }
+
+    private CompletionStage<Void> send(UUri topic, UMessage message) {
+        getMetrics().messagesPublished(topic, 1);
+        return getTransport().send(message);
+    }
+
+    private CompletionStage<Void> sendAll(UUri topic, List<UMessage> messages) {
+        getMetrics().messagesPublished(topic, messages.size());
+        return getTransport().sendAll(messages);
     }
 }
@@ -12,6 +12,9 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
@@ -62,6 +65,59 @@ public interface Subscriber {
      */
     CompletionStage<UnsubscribeResponse> unsubscribe(UUri topic, UListener handler);
 
+    /**
+     * Registers a handler to invoke for messages that have been published to any of a given set of topics.
+     * <p>
+     * This default implementation invokes {@link #subscribe(UUri, UListener, Optional)} for each of the
+     * topics using {@link BulkInvoker#invokeAll(Collection, int, java.util.function.Function)}, so that
+     * at most {@code maxConcurrency} subscriptions are in progress at any time.
+     *
+     * @param topics The topics to subscribe to. The topics must not contain any wildcards.
+     * @param handler The handler to invoke for each message that has been published to any of the topics.
+     * @param subscriptionChangeHandler A handler to invoke for any subscription state changes for
+     * any of the given topics.
+     * @param maxConcurrency The maximum number of subscriptions in progress.
+     * @return The outcome of subscribing per topic, in the iteration order of the given topics.
+     * Each stage will be failed with a {@link UStatusException} if subscribing to the topic failed.
+     * @throws NullPointerException if any of the arguments or any of the topics are {@code null}.
+     * @throws IllegalArgumentException if max concurrency is not positive.
+     */
+    default Map<UUri, CompletionStage<SubscriptionResponse>> subscribeAll(
+            Collection<UUri> topics,
+            UListener handler,
+            Optional<SubscriptionChangeHandler> subscriptionChangeHandler,
+            int maxConcurrency) {
+        Objects.requireNonNull(handler, "Handler missing");
+        Objects.requireNonNull(subscriptionChangeHandler, "Subscription change handler missing");
+        return BulkInvoker.invokeAll(
+            topics,
+            maxConcurrency,
+            topic -> subscribe(topic, handler, subscriptionChangeHandler));
+    }
+
+    /**
+     * Deregisters a handler that has previously been registered for a set of topics.
+     * <p>
+     * This default implementation invokes {@link #unsubscribe(UUri, UListener)} for each of the
+     * topics using {@link BulkInvoker#invokeAll(Collection, int, java.util.function.Function)}, so that
+     * at most {@code maxConcurrency} unsubscriptions are in progress at any time.
+     *
+     * @param topics The topics that the handler had been registered for.
+     * @param handler The handler to unregister.
+     * @param maxConcurrency The maximum number of unsubscriptions in progress.
+     * @return The outcome of unsubscribing per topic, in the iteration order of the given topics.
+     * Each stage will be failed with a {@link UStatusException} if unsubscribing from the topic failed.
+     * @throws NullPointerException if any of the arguments or any of the topics are {@code null}.
+     * @throws IllegalArgumentException if max concurrency is not positive.
+     */
+    default Map<UUri, CompletionStage<UnsubscribeResponse>> unsubscribeAll(
+            Collection<UUri> topics,
+            UListener handler,
+            int maxConcurrency) {
+        Objects.requireNonNull(handler, "Handler missing");
+        return BulkInvoker.invokeAll(topics, maxConcurrency, topic -> unsubscribe(topic, handler));
+    }
+
     /**
      * Registers a handler for receiving subscription change notifications for a topic.
      * <p>
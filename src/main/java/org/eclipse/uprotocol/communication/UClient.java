@@ -12,6 +12,7 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
@@ -52,6 +53,15 @@ public final class UClient implements RpcServer, Notifier, Publisher, RpcClient
         return notifier.notify(resourceId, destination, options, payload);
     }
 
+    @Override
+    public CompletionStage<Void> notifyAll(
+            int resourceId,
+            UUri destination,
+            CallOptions options,
+            List<UPayload> payloads) {
+        return notifier.notifyAll(resourceId, destination, options, payloads);
+    }
+
     @Override
     public CompletionStage<Void> registerNotificationListener(UUri topic, UListener listener) {
         return notifier.registerNotificationListener(topic, listener);
@@ -68,6 +78,11 @@ public final class UClient implements RpcServer, Notifier, Publisher, RpcClient
         return publisher.publish(resourceId, options, payload);
     }
 
+    @Override
+    public CompletionStage<Void> publishAll(int resourceId, CallOptions options, List<UPayload> payloads) {
+        return publisher.publishAll(resourceId, options, payloads);
+    }
+
 
     @Override
     public CompletionStage<Void> registerRequestHandler(UUri originFilter, int resourceId, RequestHandler handler) {
@@ -0,0 +1,134 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import java.util.ServiceLoader;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * A sink for metrics about the operations performed by the Communication Layer API implementations.
+ * <p>
+ * The methods of this interface are invoked on the hot path of sending and receiving messages.
+ * Implementations must therefore be thread-safe, should neither block nor allocate memory, and
+ * must not throw exceptions. All methods have empty default implementations, so that implementations
+ * only need to override the methods for the metrics that they are interested in.
+ * <p>
+ * The clients use the instance returned by {@link #getDefault()}, unless a specific instance
+ * has been passed in during their creation. Implementations can be made available as default
+ * instance by means of the {@link ServiceLoader} mechanism, i.e. by registering the class in a
+ * {@code META-INF/services/org.eclipse.uprotocol.communication.UMetrics} resource file.
+ */
+public interface UMetrics {
+
+    /**
+     * Metrics that discard all recorded values.
+     */
+    UMetrics NOOP = new UMetrics() { };
+
+    /**
+     * Gets the metrics used by all clients that have not been created with a specific instance.
+     *
+     * @return The first implementation found by the {@link ServiceLoader} or {@link #NOOP}
+     * if no implementation has been registered.
+     */
+    static UMetrics getDefault() {
+        return DefaultUMetrics.INSTANCE;
+    }
+
+    /**
+     * Records that an RPC request has been sent.
+     * <p>
+     * Each invocation of this method is followed by an invocation of
+     * {@link #rpcCompleted(UUri, UCode, long)} for the same method, once the outcome of the
+     * request is known. The difference between the two is the number of requests in flight.
+     *
+     * @param method The method that has been invoked.
+     */
+    default void rpcStarted(UUri method) {
+    }
+
+    /**
+     * Records the outcome of an RPC request.
+     *
+     * @param method The method that has been invoked.
+     * @param status {@link UCode#OK} if a successful response has been received, the commstatus
+     * of the response if the service has responded with an error, or {@link UCode#DEADLINE_EXCEEDED}
+     * if no response has been received in time.
+     * @param latencyNanos The time that has passed since the request has been sent.
+     */
+    default void rpcCompleted(UUri method, UCode status, long latencyNanos) {
+    }
+
+    /**
+     * Records the processing of an incoming RPC request.
+     *
+     * @param method The method that has been invoked.
+     * @param status The status of the response. This is {@link UCode#RESOURCE_EXHAUSTED} if the request
+     * has been rejected, and {@link UCode#DEADLINE_EXCEEDED} if the request has been discarded because it
+     * had already expired.
+     * @param handlerNanos The time that the request handler has taken to process the request, or 0 if
+     * the handler has not been invoked.
+     */
+    default void requestHandled(UUri method, UCode status, long handlerNanos) {
+    }
+
+    /**
+     * Records that messages have been handed to the transport for publishing.
+     *
+     * @param topic The topic that the messages have been published to.
+     * @param count The number of messages.
+     */
+    default void messagesPublished(UUri topic, int count) {
+    }
+
+    /**
+     * Records that notifications have been handed to the transport for sending.
+     *
+     * @param topic The topic that the notifications have been sent from.
+     * @param destination The uEntity that the notifications have been sent to.
+     * @param count The number of notifications.
+     */
+    default void notificationsSent(UUri topic, UUri destination, int count) {
+    }
+
+    /**
+     * Records the delivery of a message to a subscriber's listener.
+     *
+     * @param topic The topic that the listener has subscribed to.
+     * @param dispatchNanos The time that the listener has taken to process the message.
+     */
+    default void messageDispatched(UUri topic, long dispatchNanos) {
+    }
+
+    /**
+     * Records that a task queued by a {@link org.eclipse.uprotocol.transport.PriorityDispatcher} is being run.
+     *
+     * @param priority The priority class that the task has been queued in.
+     * @param queueingNanos The time that the task has spent in the queue.
+     */
+    default void taskDequeued(UPriority priority, long queueingNanos) {
+    }
+
+    /**
+     * Records that a task has been discarded by a {@link org.eclipse.uprotocol.transport.PriorityDispatcher}
+     * because the dispatcher's queues were full.
+     *
+     * @param priority The priority class of the discarded task.
+     */
+    default void taskShed(UPriority priority) {
+    }
+}
+
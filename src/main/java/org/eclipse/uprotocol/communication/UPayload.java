@@ -12,16 +12,17 @@
  */
 package org.eclipse.uprotocol.communication;
 
-
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import java.util.Optional;
 
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 
-import org.eclipse.uprotocol.v1.UCode;
 import org.eclipse.uprotocol.v1.UMessage;
 import org.eclipse.uprotocol.v1.UPayloadFormat;
 
@@ -94,6 +95,50 @@ public record UPayload (ByteString data, UPayloadFormat format) {
     }
 
 
+    /**
+     * Build a UPayload from the remaining bytes of a buffer without copying them.
+     * <p>
+     * The payload shares its content with the buffer, which may be a heap buffer, a direct buffer
+     * or a memory mapped file region. The buffer's position and limit are not changed.
+     * <p>
+     * <em>IMPORTANT NOTE:</em> The content of the buffer must not be modified anymore after the
+     * payload has been created, because the payload's data is assumed to be immutable.
+     *
+     * @param data The buffer containing the payload data.
+     * @param format The payload format.
+     * @return The UPayload.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public static UPayload wrap(ByteBuffer data, UPayloadFormat format) {
+        Objects.requireNonNull(data);
+        Objects.requireNonNull(format);
+        return new UPayload(UnsafeByteOperations.unsafeWrap(data.slice()), format);
+    }
+
+
+    /**
+     * Build a UPayload from a region of a file by mapping the region into memory.
+     * <p>
+     * The file content is not copied onto the heap but read on demand from the page cache.
+     * Like with {@link #wrap(ByteBuffer, UPayloadFormat)}, the region must not be modified anymore
+     * after the payload has been created. The mapping remains valid after the channel has been closed.
+     *
+     * @param file The channel to map the region from. The channel must have been opened for reading.
+     * @param position The position within the file at which the region starts.
+     * @param size The size of the region.
+     * @param format The payload format.
+     * @return The UPayload.
+     * @throws NullPointerException if file or format are {@code null}.
+     * @throws IllegalArgumentException if position or size are negative.
+     * @throws IOException if the region cannot be mapped.
+     */
+    public static UPayload map(FileChannel file, long position, int size, UPayloadFormat format) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(format);
+        return wrap(file.map(FileChannel.MapMode.READ_ONLY, position, size), format);
+    }
+
+
     /**
      * Unpack a uMessage into {@link Message}.
      * 
@@ -161,7 +206,6 @@ public record UPayload (ByteString data, UPayloadFormat format) {
      * @deprecated Use {@link #unpackOrDefaultInstance(ByteString, UPayloadFormat, Class)} instead.
      */
     @Deprecated(forRemoval = true)
-    @SuppressWarnings("unchecked")
     public static <T extends Message> Optional<T> unpack(ByteString data, UPayloadFormat format, Class<T> clazz) {
         Objects.requireNonNull(clazz, "clazz must not be null");
         format = Objects.requireNonNullElse(format, UPayloadFormat.UPAYLOAD_FORMAT_UNSPECIFIED);
@@ -169,19 +213,8 @@ public record UPayload (ByteString data, UPayloadFormat format) {
             return Optional.empty();
         }
         try {
-            switch (format) {
-                case UPAYLOAD_FORMAT_UNSPECIFIED: // Default is WRAPPED_IN_ANY
-                case UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY :
-                    return Optional.of(Any.parseFrom(data).unpack(clazz));
-            
-                case UPAYLOAD_FORMAT_PROTOBUF: 
-                    T defaultInstance = com.google.protobuf.Internal.getDefaultInstance(clazz);
-                    return Optional.of((T) defaultInstance.getParserForType().parseFrom(data));
-                
-                default:
-                    return Optional.empty();
-            }
-        } catch (InvalidProtocolBufferException e) {
+            return Optional.of(PayloadDecoder.getDefault().decode(data, format, clazz));
+        } catch (UStatusException e) {
             return Optional.empty();
         }
     }
@@ -202,40 +235,10 @@ public record UPayload (ByteString data, UPayloadFormat format) {
      * @throws NullPointerException if any of the arguments are {@code null}.
      * @throws UStatusException if the protobuf cannot be unpacked to the expected type.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends Message> T unpackOrDefaultInstance(
             ByteString protobuf,
             UPayloadFormat format,
             Class<T> expectedType) {
-        Objects.requireNonNull(protobuf, "data must not be null");
-        Objects.requireNonNull(format, "format must not be null");
-        Objects.requireNonNull(expectedType, "expectedType must not be null");
-        switch (format) {
-            case UPAYLOAD_FORMAT_UNSPECIFIED: // Default is WRAPPED_IN_ANY
-            case UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY :
-                try {
-                    return Any.parseFrom(protobuf).unpack(expectedType);
-                } catch (InvalidProtocolBufferException e) {
-                    throw new UStatusException(UCode.INVALID_ARGUMENT, "Failed to unpack Any", e);
-                }
-
-            case UPAYLOAD_FORMAT_PROTOBUF:
-                T defaultInstance = com.google.protobuf.Internal.getDefaultInstance(expectedType);
-                if (protobuf.isEmpty()) {
-                    // this can happen when trying to unpack a proto message that has no fields
-                    // and is therefore encoded as an empty byte array
-                    return defaultInstance;
-                } else {
-                    try {
-                        return (T) defaultInstance.getParserForType().parseFrom(protobuf);
-                    } catch (InvalidProtocolBufferException e) {
-                        throw new UStatusException(UCode.INVALID_ARGUMENT, "Failed to unpack protobuf", e);
-                    }
-                }
-
-            default:
-                throw new UStatusException(
-                    UCode.INVALID_ARGUMENT, "Unsupported payload format");
-        }
+        return PayloadDecoder.getDefault().decode(protobuf, format, expectedType);
     }
 }
@@ -0,0 +1,40 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for delivering a message to a {@code UListener}.
+ */
+@Name("org.eclipse.uprotocol.ListenerDispatch")
+@Label("Listener Dispatch")
+@Category({ "uProtocol", "Transport" })
+@Description("Processing of a received message by a listener")
+public final class ListenerDispatchEvent extends UMessageEvent {
+
+    @Label("Listener")
+    private String listener;
+
+    /**
+     * Sets the listener that the message has been delivered to.
+     *
+     * @param listener The listener's class.
+     */
+    public void setListener(Class<?> listener) {
+        this.listener = listener.getName();
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for creating a message using a {@code UMessageBuilder}, including the validation of
+ * the message's attributes.
+ */
+@Name("org.eclipse.uprotocol.MessageBuild")
+@Label("Message Build")
+@Category({ "uProtocol", "Messages" })
+@Description("Creation and validation of a message")
+public final class MessageBuildEvent extends UMessageEvent {
+}
@@ -0,0 +1,60 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import org.eclipse.uprotocol.v1.UCode;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for processing an incoming RPC request by a {@code RequestHandler}.
+ * <p>
+ * The message fields refer to the request message.
+ * <p>
+ * For asynchronous handlers the event spans multiple threads, servers should then only create it if
+ * {@link #isRecording()} returns {@code true}.
+ */
+@Name("org.eclipse.uprotocol.RequestHandler")
+@Label("Request Handler")
+@Category({ "uProtocol", "RPC" })
+@Description("Execution of a request handler for an incoming RPC request")
+public final class RequestHandlerEvent extends UMessageEvent {
+
+    // only used for checking if the event type is enabled
+    private static final RequestHandlerEvent PROBE = new RequestHandlerEvent();
+
+    @Label("Status")
+    @Description("The status of the response sent for the request")
+    private String status;
+
+    /**
+     * Checks if the event type is enabled in any running recording.
+     *
+     * @return {@code true} if events of this type may be recorded.
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * Sets the outcome of the request.
+     *
+     * @param status The status of the response.
+     */
+    public void setStatus(UCode status) {
+        this.status = status.name();
+    }
+}
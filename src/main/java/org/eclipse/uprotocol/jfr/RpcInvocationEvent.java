@@ -0,0 +1,61 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import org.eclipse.uprotocol.v1.UCode;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for an RPC request sent by an {@code RpcClient}.
+ * <p>
+ * The event covers the time from sending the request until the response has been received or the
+ * request has timed out. The message fields refer to the request message.
+ * <p>
+ * Because the event spans multiple threads, clients should only create it if
+ * {@link #isRecording()} returns {@code true}.
+ */
+@Name("org.eclipse.uprotocol.RpcInvocation")
+@Label("RPC Invocation")
+@Category({ "uProtocol", "RPC" })
+@Description("Invocation of a service operation, from sending the request until receiving the response")
+public final class RpcInvocationEvent extends UMessageEvent {
+
+    // only used for checking if the event type is enabled
+    private static final RpcInvocationEvent PROBE = new RpcInvocationEvent();
+
+    @Label("Status")
+    @Description("The status of the response, DEADLINE_EXCEEDED if no response has been received in time")
+    private String status;
+
+    /**
+     * Checks if the event type is enabled in any running recording.
+     *
+     * @return {@code true} if events of this type may be recorded.
+     */
+    public static boolean isRecording() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * Sets the outcome of the invocation.
+     *
+     * @param status The status.
+     */
+    public void setStatus(UCode status) {
+        this.status = status.name();
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for handing a message to a {@code UTransport} for sending.
+ */
+@Name("org.eclipse.uprotocol.TransportSend")
+@Label("Transport Send")
+@Category({ "uProtocol", "Transport" })
+@Description("Sending of a message via a transport")
+public final class TransportSendEvent extends UMessageEvent {
+
+    @Label("Transport")
+    private String transport;
+
+    /**
+     * Sets the transport that the message is sent with.
+     *
+     * @param transport The transport's class.
+     */
+    public void setTransport(Class<?> transport) {
+        this.transport = transport.getName();
+    }
+}
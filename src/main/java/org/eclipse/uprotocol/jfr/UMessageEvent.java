@@ -0,0 +1,90 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import org.eclipse.uprotocol.uri.serializer.UriSerializer;
+import org.eclipse.uprotocol.uuid.serializer.UuidSerializer;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UUri;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the Java Flight Recorder events emitted for the processing of a uProtocol message.
+ * <p>
+ * The events are timed, i.e. the duration is the time between invoking {@link #begin()} and
+ * {@link #commit(UAttributes)}. The message's attributes are only converted to the event's fields
+ * if the event is actually going to be recorded, so that emitting an event has no noticeable cost
+ * if no recording is running or if the event type is disabled.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * final var event = new TransportSendEvent();
+ * event.begin();
+ * // send the message
+ * event.commit(message.getAttributes());
+ * </pre>
+ */
+@Category({ "uProtocol" })
+@StackTrace(false)
+public abstract class UMessageEvent extends Event {
+
+    @Label("Message ID")
+    protected String id;
+
+    @Label("Source")
+    protected String source;
+
+    @Label("Sink")
+    protected String sink;
+
+    @Label("Message Type")
+    protected String type;
+
+    @Label("Priority")
+    protected String priority;
+
+    UMessageEvent() {
+    }
+
+    /**
+     * Records this event for a message, if the event type is enabled and the event's duration
+     * exceeds the configured threshold.
+     *
+     * @param attributes The attributes of the message that the event is about. The message does
+     * not need to be valid.
+     */
+    public final void commit(UAttributes attributes) {
+        if (shouldCommit()) {
+            id = UuidSerializer.serialize(attributes.getId());
+            source = toString(attributes.getSource());
+            sink = attributes.hasSink() ? toString(attributes.getSink()) : null;
+            type = attributes.getType().name();
+            priority = attributes.getPriority().name();
+            commit();
+        }
+    }
+
+    // events are also recorded for invalid messages, so URIs that cannot be serialized are rendered as is
+    private static String toString(UUri uri) {
+        try {
+            return UriSerializer.serialize(uri);
+        } catch (IllegalArgumentException e) {
+            return String.format("//%s/%X/%X/%X",
+                uri.getAuthorityName(), uri.getUeId(), uri.getUeVersionMajor(), uri.getResourceId());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.jfr.ListenerDispatchEvent;
+import org.eclipse.uprotocol.jfr.TransportSendEvent;
+import org.eclipse.uprotocol.transport.validator.ValidationPolicy;
+import org.eclipse.uprotocol.uri.validator.UriFilterIndex;
+import org.eclipse.uprotocol.uri.validator.UriValidator;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.validation.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A transport that delivers messages to listeners running in the same JVM.
+ * <p>
+ * The transport can be used to connect uEntities that live in the same process, e.g. by
+ * creating {@link org.eclipse.uprotocol.communication.UClient}s and
+ * {@link org.eclipse.uprotocol.communication.InMemorySubscriber}s on top of a shared instance.
+ * It is also useful for testing components without a real middleware.
+ * <p>
+ * Listener registrations are kept in a {@link UriFilterIndex}, so that finding the listeners for a
+ * message does not require checking the message against every registered filter.
+ * <p>
+ * By default, listeners are invoked on the thread that {@link #send(UMessage) sends} the message.
+ * An {@link Executor} can be provided in order to decouple the sender from the listeners instead.
+ * <p>
+ * The attributes of sent messages are validated according to a {@link ValidationPolicy}. Because all
+ * messages originate from the same process, they are considered outbound messages. Using
+ * {@link ValidationPolicy#VALIDATE_INBOUND} or {@link ValidationPolicy#TRUSTED} therefore disables
+ * validation, which is useful if all messages are created using the
+ * {@link org.eclipse.uprotocol.transport.builder.UMessageBuilder}.
+ */
+public final class LocalUTransport implements UTransport {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalUTransport.class);
+
+    private final UriFilterIndex<UListener> listeners = new UriFilterIndex<>();
+
+    private final Executor dispatchExecutor;
+    private final ValidationPolicy validationPolicy;
+
+    /**
+     * Creates a new transport which invokes listeners on the sender's thread.
+     * <p>
+     * The transport validates all messages.
+     */
+    public LocalUTransport() {
+        this(null);
+    }
+
+    /**
+     * Creates a new transport which invokes listeners using an executor.
+     * <p>
+     * The transport validates all messages.
+     *
+     * @param dispatchExecutor The executor to use for invoking listeners or {@code null} to
+     * invoke listeners on the sender's thread.
+     */
+    public LocalUTransport(Executor dispatchExecutor) {
+        this(dispatchExecutor, ValidationPolicy.VALIDATE_ALL);
+    }
+
+    /**
+     * Creates a new transport which invokes listeners using an executor.
+     *
+     * @param dispatchExecutor The executor to use for invoking listeners or {@code null} to
+     * invoke listeners on the sender's thread.
+     * @param validationPolicy The policy determining if sent messages are validated.
+     * @throws NullPointerException if validation policy is {@code null}.
+     */
+    public LocalUTransport(Executor dispatchExecutor, ValidationPolicy validationPolicy) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.validationPolicy = Objects.requireNonNull(validationPolicy, "Validation policy must not be null");
+    }
+
+    @Override
+    public CompletionStage<Void> send(UMessage message) {
+        Objects.requireNonNull(message, "Message must not be null");
+        final var event = new TransportSendEvent();
+        event.begin();
+        try {
+            validate(message);
+            return execute(() -> deliver(message));
+        } catch (ValidationException e) {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.INVALID_ARGUMENT, "Invalid message attributes", e));
+        } finally {
+            event.setTransport(LocalUTransport.class);
+            event.commit(message.getAttributes());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation validates all messages, if required by the validation policy, before
+     * dispatching any of them. If an executor is used, all messages are dispatched by a single task.
+     */
+    @Override
+    public CompletionStage<Void> sendAll(List<UMessage> messages) {
+        Objects.requireNonNull(messages, "Messages must not be null");
+        try {
+            for (var message : messages) {
+                validate(Objects.requireNonNull(message, "Message must not be null"));
+            }
+        } catch (ValidationException e) {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.INVALID_ARGUMENT, "Invalid message attributes", e));
+        }
+        final var batch = List.copyOf(messages);
+        return execute(() -> batch.forEach(this::deliver));
+    }
+
+    @Override
+    public CompletionStage<Void> registerListener(UUri sourceFilter, Optional<UUri> sinkFilter, UListener listener) {
+        Objects.requireNonNull(listener, "Listener must not be null");
+        try {
+            UriValidator.verifyFilterCriteria(sourceFilter, sinkFilter);
+        } catch (UStatusException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        listeners.add(sourceFilter, sinkFilter, listener);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletionStage<Void> unregisterListener(
+            UUri sourceFilter,
+            Optional<UUri> sinkFilter,
+            UListener listener) {
+        Objects.requireNonNull(listener, "Listener must not be null");
+        try {
+            UriValidator.verifyFilterCriteria(sourceFilter, sinkFilter);
+        } catch (UStatusException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!listeners.remove(sourceFilter, sinkFilter, listener)) {
+            return CompletableFuture.failedFuture(
+                new UStatusException(UCode.NOT_FOUND, "No such listener registered"));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void validate(UMessage message) {
+        validationPolicy.validateOutbound(message.getAttributes());
+    }
+
+    private CompletionStage<Void> execute(Runnable task) {
+        if (dispatchExecutor == null) {
+            task.run();
+        } else {
+            try {
+                dispatchExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(
+                    new UStatusException(UCode.RESOURCE_EXHAUSTED, "Transport cannot accept message", e));
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void deliver(UMessage message) {
+        listeners.forEachMatch(message.getAttributes(), listener -> {
+            final var event = new ListenerDispatchEvent();
+            event.begin();
+            try {
+                listener.onReceive(message);
+            } catch (Exception e) {
+                LOGGER.info("Listener failed to process message", e);
+            } finally {
+                event.setListener(listener.getClass());
+                event.commit(message.getAttributes());
+            }
+        });
+    }
+}
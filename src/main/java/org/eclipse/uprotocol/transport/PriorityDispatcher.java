@@ -0,0 +1,362 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.uprotocol.communication.UMetrics;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+
+/**
+ * Runs tasks on an executor in the order of their {@link UPriority}.
+ * <p>
+ * Tasks are kept in one FIFO queue per priority class (CS0 to CS6) until they are run by one of a
+ * configurable number of drain loops executing on the executor. Tasks with priority
+ * {@link UPriority#UPRIORITY_UNSPECIFIED} are treated as {@link UPriority#UPRIORITY_CS1}, which is the
+ * default priority defined by the uProtocol specification. The order in which the queues are drained
+ * is determined by a {@link SchedulingPolicy}.
+ * <p>
+ * The total number of queued tasks is bounded. If a task is submitted while all queues are full, the
+ * oldest task of the lowest non-empty priority class is discarded to make room for it, provided that
+ * this class is lower than the priority of the new task. Otherwise, the new task is rejected.
+ * <p>
+ * Transport implementations can use a dispatcher for invoking listeners in the order of the priority
+ * of the received messages, while application code can {@link #wrap(UListener) wrap} its listeners in
+ * order to decouple their processing from the transport's threads. The time that tasks spend in the
+ * queues and the number of discarded tasks are reported to {@link UMetrics} per priority class.
+ */
+public final class PriorityDispatcher {
+    /**
+     * The default maximum number of queued tasks.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final UPriority[] CLASSES = {
+        UPriority.UPRIORITY_CS0,
+        UPriority.UPRIORITY_CS1,
+        UPriority.UPRIORITY_CS2,
+        UPriority.UPRIORITY_CS3,
+        UPriority.UPRIORITY_CS4,
+        UPriority.UPRIORITY_CS5,
+        UPriority.UPRIORITY_CS6
+    };
+
+    private final Executor executor;
+    private final int parallelism;
+    private final int capacity;
+    private final int[] weights;
+    private final UMetrics metrics;
+
+    // all of the following fields are guarded by the queues array's monitor
+    private final ArrayDeque<Task>[] queues;
+    private final int[] credits;
+    private int size;
+    private int activeDrains;
+
+    /**
+     * Creates a dispatcher that runs tasks one at a time in strict priority order.
+     * <p>
+     * The dispatcher uses the {@link #DEFAULT_CAPACITY default capacity} and the
+     * {@link UMetrics#getDefault() default metrics}.
+     *
+     * @param executor The executor to run the tasks on.
+     * @throws NullPointerException if executor is {@code null}.
+     */
+    public PriorityDispatcher(Executor executor) {
+        this(executor, 1, DEFAULT_CAPACITY, SchedulingPolicy.strict(), UMetrics.getDefault());
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param executor The executor to run the tasks on.
+     * @param parallelism The maximum number of tasks to run concurrently. Tasks of the same priority class
+     * are only guaranteed to be run in the order of their submission if this is 1.
+     * @param capacity The maximum number of queued tasks.
+     * @param policy The policy determining the order in which the queues are drained.
+     * @param metrics The metrics to report queueing delays and discarded tasks to.
+     * @throws NullPointerException if executor, policy or metrics are {@code null}.
+     * @throws IllegalArgumentException if parallelism or capacity are not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityDispatcher(
+            Executor executor,
+            int parallelism,
+            int capacity,
+            SchedulingPolicy policy,
+            UMetrics metrics) {
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        Objects.requireNonNull(policy, "Policy must not be null");
+        this.metrics = Objects.requireNonNull(metrics, "Metrics must not be null");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.parallelism = parallelism;
+        this.capacity = capacity;
+        this.weights = policy.weights;
+        this.credits = weights == null ? null : weights.clone();
+        this.queues = new ArrayDeque[CLASSES.length];
+        for (int i = 0; i < CLASSES.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Submits a task for execution.
+     *
+     * @param priority The priority of the task.
+     * @param task The task to run.
+     * @return The outcome of running the task. The stage fails with a {@link UStatusException} having
+     * code {@link UCode#RESOURCE_EXHAUSTED} if the task has been rejected or has been discarded in favor
+     * of a task with higher priority, and with the exception thrown by the task, if any.
+     * @throws NullPointerException if priority or task are {@code null}.
+     */
+    public CompletionStage<Void> submit(UPriority priority, Runnable task) {
+        Objects.requireNonNull(priority, "Priority must not be null");
+        Objects.requireNonNull(task, "Task must not be null");
+        final var entry = new Task(classOf(priority), task, System.nanoTime());
+        Task shed = null;
+        boolean startDrain = false;
+        synchronized (queues) {
+            if (size == capacity) {
+                final int lowest = lowestNonEmptyClass();
+                if (lowest >= entry.priorityClass) {
+                    metrics.taskShed(CLASSES[entry.priorityClass]);
+                    return CompletableFuture.failedFuture(
+                        new UStatusException(UCode.RESOURCE_EXHAUSTED, "Dispatcher queues are full"));
+                }
+                shed = queues[lowest].poll();
+                size--;
+            }
+            queues[entry.priorityClass].add(entry);
+            size++;
+            if (activeDrains < parallelism) {
+                activeDrains++;
+                startDrain = true;
+            }
+        }
+        if (shed != null) {
+            metrics.taskShed(CLASSES[shed.priorityClass]);
+            shed.result.completeExceptionally(
+                new UStatusException(UCode.RESOURCE_EXHAUSTED, "Task discarded in favor of higher priority task"));
+        }
+        if (startDrain) {
+            startDrain(entry);
+        }
+        return entry.result;
+    }
+
+    /**
+     * Creates a listener that processes messages using this dispatcher.
+     * <p>
+     * The returned listener submits each received message to this dispatcher, using the priority
+     * contained in the message's attributes, and returns immediately. Messages that are discarded
+     * because the queues are full are not passed to the given listener.
+     * <p>
+     * Note that the returned listener needs to be used for unregistering the listener from a transport.
+     *
+     * @param listener The listener to invoke.
+     * @return The listener to register with a transport.
+     * @throws NullPointerException if listener is {@code null}.
+     */
+    public UListener wrap(UListener listener) {
+        Objects.requireNonNull(listener, "Listener must not be null");
+        return message -> submit(message.getAttributes().getPriority(), () -> listener.onReceive(message));
+    }
+
+    /**
+     * Gets the number of queued tasks of a priority class.
+     *
+     * @param priority The priority class.
+     * @return The number of tasks that have been submitted but have not been started yet.
+     * @throws NullPointerException if priority is {@code null}.
+     */
+    public int getQueuedCount(UPriority priority) {
+        Objects.requireNonNull(priority, "Priority must not be null");
+        synchronized (queues) {
+            return queues[classOf(priority)].size();
+        }
+    }
+
+    /**
+     * Gets the total number of queued tasks.
+     *
+     * @return The number of tasks that have been submitted but have not been started yet.
+     */
+    public int size() {
+        synchronized (queues) {
+            return size;
+        }
+    }
+
+    private static int classOf(UPriority priority) {
+        return switch (priority) {
+            case UPRIORITY_CS0 -> 0;
+            case UPRIORITY_CS2 -> 2;
+            case UPRIORITY_CS3 -> 3;
+            case UPRIORITY_CS4 -> 4;
+            case UPRIORITY_CS5 -> 5;
+            case UPRIORITY_CS6 -> 6;
+            default -> 1;
+        };
+    }
+
+    private void startDrain(Task entry) {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            final boolean removed;
+            synchronized (queues) {
+                activeDrains--;
+                removed = queues[entry.priorityClass].removeLastOccurrence(entry);
+                if (removed) {
+                    size--;
+                }
+            }
+            if (removed) {
+                entry.result.completeExceptionally(
+                    new UStatusException(UCode.RESOURCE_EXHAUSTED, "Executor cannot accept task", e));
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Task task;
+            synchronized (queues) {
+                final int next = nextClass();
+                if (next < 0) {
+                    activeDrains--;
+                    return;
+                }
+                task = queues[next].poll();
+                size--;
+            }
+            metrics.taskDequeued(CLASSES[task.priorityClass], System.nanoTime() - task.submittedNanos);
+            try {
+                task.runnable.run();
+                task.result.complete(null);
+            } catch (Throwable t) {
+                // also catch errors, the drain would never be restarted otherwise
+                task.result.completeExceptionally(t);
+            }
+        }
+    }
+
+    private int lowestNonEmptyClass() {
+        for (int i = 0; i < queues.length; i++) {
+            if (!queues[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int highestNonEmptyClass() {
+        for (int i = queues.length - 1; i >= 0; i--) {
+            if (!queues[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int nextClass() {
+        if (weights == null) {
+            return highestNonEmptyClass();
+        }
+        // each round, a class may be served as many times as its weight, higher classes first
+        for (int round = 0; round < 2; round++) {
+            for (int i = queues.length - 1; i >= 0; i--) {
+                if (credits[i] > 0 && !queues[i].isEmpty()) {
+                    credits[i]--;
+                    return i;
+                }
+            }
+            System.arraycopy(weights, 0, credits, 0, weights.length);
+        }
+        return -1;
+    }
+
+    private static final class Task {
+        private final int priorityClass;
+        private final Runnable runnable;
+        private final long submittedNanos;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Task(int priorityClass, Runnable runnable, long submittedNanos) {
+            this.priorityClass = priorityClass;
+            this.runnable = runnable;
+            this.submittedNanos = submittedNanos;
+        }
+    }
+
+    /**
+     * Determines the order in which the queues of a dispatcher are drained.
+     */
+    public static final class SchedulingPolicy {
+        private static final SchedulingPolicy STRICT = new SchedulingPolicy(null);
+
+        private final int[] weights;
+
+        private SchedulingPolicy(int[] weights) {
+            this.weights = weights;
+        }
+
+        /**
+         * Gets a policy that always runs a task of the highest non-empty priority class.
+         * <p>
+         * Tasks of lower priority classes are not run for as long as there are tasks of a higher class.
+         *
+         * @return The policy.
+         */
+        public static SchedulingPolicy strict() {
+            return STRICT;
+        }
+
+        /**
+         * Gets a policy that shares the executor between the priority classes according to weights.
+         * <p>
+         * The queues are drained in rounds. In each round, a priority class is served at most as many
+         * times as its weight, with higher classes being served first. A round ends once all non-empty
+         * classes have been served as often as their weight permits. Lower priority classes therefore
+         * cannot be starved by a steady stream of higher priority tasks.
+         *
+         * @param weights The weights of the priority classes CS0 to CS6.
+         * @return The policy.
+         * @throws NullPointerException if weights is {@code null}.
+         * @throws IllegalArgumentException if the number of weights is not 7 or if any weight is not positive.
+         */
+        public static SchedulingPolicy weighted(int... weights) {
+            Objects.requireNonNull(weights, "Weights must not be null");
+            if (weights.length != CLASSES.length) {
+                throw new IllegalArgumentException("A weight is required for each of the priority classes CS0 to CS6");
+            }
+            if (Arrays.stream(weights).anyMatch(weight -> weight <= 0)) {
+                throw new IllegalArgumentException("Weights must be positive");
+            }
+            return new SchedulingPolicy(weights.clone());
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.uprotocol.transport;
 
 import java.util.Objects;
 
+import org.eclipse.uprotocol.uri.factory.UriInterner;
 import org.eclipse.uprotocol.uri.validator.UriValidator;
 import org.eclipse.uprotocol.v1.UUri;
 
@@ -72,8 +73,6 @@ public final class StaticUriProvider implements LocalUriProvider {
 
     @Override
     public UUri getResource(int id) {
-        return UUri.newBuilder(localUri)
-            .setResourceId(id)
-            .build();
+        return UriInterner.getDefault().intern(localUri, id);
     }
 }
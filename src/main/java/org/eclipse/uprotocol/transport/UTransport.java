@@ -12,7 +12,10 @@
  */
 package org.eclipse.uprotocol.transport;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.uprotocol.communication.UStatusException;
@@ -43,6 +46,29 @@ public interface UTransport {
      */
     CompletionStage<Void> send(UMessage message);
 
+    /**
+     * Sends multiple messages using this transport's message exchange mechanism.
+     * <p>
+     * The messages are sent in the order of the list. Transports that can send multiple messages
+     * at once, e.g. by writing all frames using a single system call, should override this method.
+     * <p>
+     * This default implementation invokes {@link #send(UMessage)} for each of the messages.
+     *
+     * @param messages The messages to send.
+     * @return The outcome of the operation. The stage will be completed with a {@link UStatusException} if
+     * any of the messages could not be sent.
+     * @throws NullPointerException if the list or any of its elements is {@code null}.
+     */
+    default CompletionStage<Void> sendAll(List<UMessage> messages) {
+        Objects.requireNonNull(messages, "Messages must not be null");
+        messages.forEach(message -> Objects.requireNonNull(message, "Message must not be null"));
+        final CompletableFuture<?>[] outcomes = new CompletableFuture<?>[messages.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = send(messages.get(i)).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(outcomes);
+    }
+
     /**
      * Registers a listener to be called for messages.
      * <p>
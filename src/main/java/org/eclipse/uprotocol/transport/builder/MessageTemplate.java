@@ -0,0 +1,115 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport.builder;
+
+import java.util.Objects;
+
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.jfr.MessageBuildEvent;
+import org.eclipse.uprotocol.transport.validator.UAttributesValidator;
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UMessageType;
+import org.eclipse.uprotocol.validation.ValidationException;
+
+/**
+ * A factory for messages that share the same attributes except for their ID and payload.
+ * <p>
+ * The template's attributes are validated once when the template is created. Creating a message
+ * from the template then only requires assigning a new ID and setting the payload, i.e. the attributes
+ * are neither assembled from individual values nor validated again. This makes templates suitable for
+ * components that send messages of the same shape at a high rate, e.g. a publisher that periodically
+ * publishes sensor readings to a topic.
+ * <p>
+ * Templates are immutable and can be shared between threads.
+ * RPC response messages cannot be created from templates, because each response needs to refer to
+ * a different request.
+ */
+public final class MessageTemplate {
+
+    private final UAttributes attributes;
+
+    private MessageTemplate(UAttributes attributes) {
+        this.attributes = attributes;
+    }
+
+    /**
+     * Creates a template for messages having given attributes.
+     *
+     * @param attributes The attributes of the messages to create. The ID and payload format
+     * will be replaced in each message created from the template.
+     * @return The template.
+     * @throws NullPointerException if attributes is {@code null}.
+     * @throws IllegalArgumentException if the attributes are those of an RPC response message.
+     * @throws ValidationException if the attributes are invalid according to the
+     * {@link UAttributesValidator} for the message type.
+     */
+    public static MessageTemplate of(UAttributes attributes) {
+        Objects.requireNonNull(attributes, "attributes cannot be null.");
+        if (attributes.getType() == UMessageType.UMESSAGE_TYPE_RESPONSE) {
+            throw new IllegalArgumentException("Templates cannot be used for RPC response messages.");
+        }
+        UAttributesValidator.getValidator(attributes).validate(attributes);
+        return new MessageTemplate(attributes.toBuilder().clearPayloadFormat().build());
+    }
+
+    /**
+     * Gets the attributes shared by all messages created from this template.
+     *
+     * @return The attributes, containing the ID of the message that the template has been created from.
+     */
+    public UAttributes getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Creates a message without payload.
+     *
+     * @return A new message with a freshly generated ID.
+     */
+    public UMessage build() {
+        final var event = new MessageBuildEvent();
+        event.begin();
+        final var messageAttributes = attributes.toBuilder()
+            .setId(UuidFactory.create()) // [impl->dsn~up-attributes-id~1]
+            .build();
+        final var message = UMessage.newBuilder().setAttributes(messageAttributes).build();
+        event.commit(messageAttributes);
+        return message;
+    }
+
+    /**
+     * Creates a message with a payload.
+     *
+     * @param payload The payload to be packed into the message.
+     * @return A new message with a freshly generated ID, containing the payload and its format.
+     * @throws NullPointerException if the payload is {@code null}.
+     */
+    public UMessage build(UPayload payload) {
+        Objects.requireNonNull(payload, "payload cannot be null.");
+        final var event = new MessageBuildEvent();
+        event.begin();
+        final var messageAttributes = attributes.toBuilder()
+            .setId(UuidFactory.create()) // [impl->dsn~up-attributes-id~1]
+            // [impl->dsn~up-attributes-payload-format~1]
+            .setPayloadFormat(payload.format())
+            .build();
+        final var message = UMessage.newBuilder()
+            .setAttributes(messageAttributes)
+            .setPayload(payload.data())
+            .build();
+        event.commit(messageAttributes);
+        return message;
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.uprotocol.v1.UUID;
 import com.google.protobuf.ByteString;
 
 import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.jfr.MessageBuildEvent;
 import org.eclipse.uprotocol.transport.validator.UAttributesValidator;
 import org.eclipse.uprotocol.uuid.factory.UuidFactory;
 import org.eclipse.uprotocol.uuid.factory.UuidUtils;
@@ -340,6 +341,26 @@ public final class UMessageBuilder {
         return this;
     }
 
+    /**
+     * Creates a template for messages having the attributes configured on this builder.
+     * <p>
+     * This is useful for sending many messages that only differ in their payload, because the
+     * attributes are validated only once when the template is created. The ID and payload configured
+     * on this builder are not used by the messages created from the template.
+     *
+     * @return The template.
+     * @throws IllegalStateException if this builder is used for creating an RPC response message.
+     * @throws ValidationException if the properties set on the builder do not represent a
+     * consistent set of attributes as determined by {@link UAttributesValidator#validate(UAttributes)}.
+     * @see MessageTemplate
+     */
+    public MessageTemplate toTemplate() {
+        if (type == UMessageType.UMESSAGE_TYPE_RESPONSE) {
+            throw new IllegalStateException("Templates cannot be used for RPC response messages.");
+        }
+        return MessageTemplate.of(buildAttributes(null));
+    }
+
     /**
      * Build a message with the passed {@link UPayload}.
      * 
@@ -364,6 +385,19 @@ public final class UMessageBuilder {
      * consistent set of attributes as determined by {@link UAttributesValidator#validate(UAttributes)}.
      */
     public UMessage build() {
+        final var event = new MessageBuildEvent();
+        event.begin();
+        final var attributes = buildAttributes(format);
+        UAttributesValidator.getValidator(attributes).validate(attributes);
+
+        UMessage.Builder messageBuilder = UMessage.newBuilder();
+        Optional.ofNullable(payload).ifPresent(messageBuilder::setPayload);
+        final var message = messageBuilder.setAttributes(attributes).build();
+        event.commit(attributes);
+        return message;
+    }
+
+    private UAttributes buildAttributes(UPayloadFormat payloadFormat) {
         UAttributes.Builder attributesBuilder = UAttributes.newBuilder()
                 .setSource(source)
                 .setId(id)
@@ -377,13 +411,7 @@ public final class UMessageBuilder {
         Optional.ofNullable(reqid).ifPresent(attributesBuilder::setReqid);
         Optional.ofNullable(token).ifPresent(attributesBuilder::setToken);
         Optional.ofNullable(traceparent).ifPresent(attributesBuilder::setTraceparent);
-        Optional.ofNullable(format).ifPresent(attributesBuilder::setPayloadFormat);
-
-        final var attributes = attributesBuilder.build();
-        UAttributesValidator.getValidator(attributes).validate(attributes);
-
-        UMessage.Builder messageBuilder = UMessage.newBuilder();
-        Optional.ofNullable(payload).ifPresent(messageBuilder::setPayload);
-        return messageBuilder.setAttributes(attributes).build();
+        Optional.ofNullable(payloadFormat).ifPresent(attributesBuilder::setPayloadFormat);
+        return attributesBuilder.build();
     }
 }
@@ -37,9 +37,48 @@ import org.eclipse.uprotocol.validation.ValidationUtils;
  * <p>
  * {@code UAttributesValidator} is a base class that contains the functionality
  * shared by all type specific validators.
+ * <p>
+ * Besides {@link #validate(UAttributes)}, which reports all violations by means of a
+ * {@link ValidationException}, each validator provides {@link #check(UAttributes)}, which only performs
+ * simple comparisons and returns a bit mask of the {@code INVALID_*} flags indicating the violated rules.
+ * The latter is useful on hot paths that only need to know whether attributes are valid. {@code validate}
+ * itself uses {@code check} first and only collects the detailed errors if any rule is violated.
  */
 public abstract class UAttributesValidator {
 
+    /**
+     * Flag indicating that the attributes are not of the validator's message type.
+     */
+    public static final int INVALID_TYPE = 1;
+    /**
+     * Flag indicating that the message ID is missing or is not a uProtocol UUID.
+     */
+    public static final int INVALID_ID = 1 << 1;
+    /**
+     * Flag indicating that the source URI is missing or is not appropriate for the message type.
+     */
+    public static final int INVALID_SOURCE = 1 << 2;
+    /**
+     * Flag indicating that the sink URI is missing, not appropriate for the message type or must not be set.
+     */
+    public static final int INVALID_SINK = 1 << 3;
+    /**
+     * Flag indicating that the priority is not supported or is not appropriate for the message type.
+     */
+    public static final int INVALID_PRIORITY = 1 << 4;
+    /**
+     * Flag indicating that the time-to-live of an RPC message is missing or 0.
+     */
+    public static final int INVALID_TTL = 1 << 5;
+    /**
+     * Flag indicating that the request ID of an RPC response message is missing or is not a uProtocol UUID.
+     */
+    public static final int INVALID_REQID = 1 << 6;
+    /**
+     * Flag indicating that the communication status of an RPC response message is not supported.
+     */
+    public static final int INVALID_COMMSTATUS = 1 << 7;
+
     /**
      * Gets a validator that can be used to check a given set of attributes..
      *
@@ -168,6 +207,40 @@ public abstract class UAttributesValidator {
         return Integer.compareUnsigned(ttl, 0) > 0 && UuidUtils.isExpired(attributes.getId(), ttl, Instant.now());
     }
 
+    /**
+     * Checks if a given set of attributes complies with the rules specified for
+     * the type of message they describe.
+     *
+     * @param attributes The attributes to check.
+     * @return {@code true} if the attributes are valid.
+     */
+    public final boolean isValid(UAttributes attributes) {
+        return check(attributes) == 0;
+    }
+
+    // the following helpers mirror the validateXXX methods without throwing any exceptions
+
+    final int checkType(UAttributes attributes) {
+        return attributes.getType() == messageType() ? 0 : INVALID_TYPE;
+    }
+
+    static int checkId(UAttributes attributes) {
+        return attributes.hasId() && UuidUtils.isUProtocol(attributes.getId()) ? 0 : INVALID_ID;
+    }
+
+    static int checkPriority(UAttributes attributes) {
+        return attributes.getPriority() == UPriority.UNRECOGNIZED ? INVALID_PRIORITY : 0;
+    }
+
+    static int checkRpcPriority(UAttributes attributes) {
+        return attributes.getPriority() == UPriority.UNRECOGNIZED
+            || attributes.getPriorityValue() < UPriority.UPRIORITY_CS4_VALUE ? INVALID_PRIORITY : 0;
+    }
+
+    static int checkRpcTtl(UAttributes attributes) {
+        return attributes.hasTtl() && attributes.getTtl() != 0 ? 0 : INVALID_TTL;
+    }
+
     /*
      * Gets the type of message that this validator can be used with.
      *
@@ -202,6 +275,20 @@ public abstract class UAttributesValidator {
      */
     public abstract void validate(UAttributes attributes);
 
+    /**
+     * Checks if a given set of attributes complies with the rules specified for
+     * the type of message they describe, without creating any error descriptions.
+     * <p>
+     * This method performs the same checks as {@link #validate(UAttributes)}, but does not
+     * throw any exceptions and does not allocate any objects.
+     *
+     * @param attributes The attributes to check.
+     * @return A bit mask of the {@code INVALID_*} flags of the violated rules,
+     * or 0 if the attributes are valid.
+     * @throws NullPointerException if attributes is {@code null}.
+     */
+    public abstract int check(UAttributes attributes);
+
     /**
      * Validators for the message types defined by uProtocol.
      */
@@ -274,8 +361,25 @@ public abstract class UAttributesValidator {
             }
         }
 
+        @Override
+        public int check(UAttributes attributes) {
+            int violations = checkType(attributes) | checkId(attributes) | checkPriority(attributes);
+            if (!attributes.hasSource()
+                || UriValidator.hasWildcard(attributes.getSource())
+                || !UriValidator.isTopic(attributes.getSource())) {
+                violations |= INVALID_SOURCE;
+            }
+            if (attributes.hasSink()) {
+                violations |= INVALID_SINK;
+            }
+            return violations;
+        }
+
         @Override
         public void validate(UAttributes attributes) {
+            if (check(attributes) == 0) {
+                return;
+            }
             final var errors = ValidationUtils.collectErrors(attributes, 
                     this::validateType,
                     this::validateId,
@@ -345,8 +449,27 @@ public abstract class UAttributesValidator {
             }
         }
 
+        @Override
+        public int check(UAttributes attributes) {
+            int violations = checkType(attributes) | checkId(attributes) | checkPriority(attributes);
+            if (!attributes.hasSource()
+                || UriValidator.hasWildcard(attributes.getSource())
+                || !UriValidator.isTopic(attributes.getSource())) {
+                violations |= INVALID_SOURCE;
+            }
+            if (!attributes.hasSink()
+                || UriValidator.hasWildcard(attributes.getSink())
+                || !UriValidator.isNotificationDestination(attributes.getSink())) {
+                violations |= INVALID_SINK;
+            }
+            return violations;
+        }
+
         @Override
         public void validate(UAttributes attributes) {
+            if (check(attributes) == 0) {
+                return;
+            }
             final var errors = ValidationUtils.collectErrors(attributes, 
                     this::validateType,
                     this::validateId,
@@ -420,8 +543,28 @@ public abstract class UAttributesValidator {
             }
         }
 
+        @Override
+        public int check(UAttributes attributes) {
+            int violations = checkType(attributes) | checkId(attributes)
+                | checkRpcTtl(attributes) | checkRpcPriority(attributes);
+            if (!attributes.hasSource()
+                || UriValidator.hasWildcard(attributes.getSource())
+                || !UriValidator.isRpcResponse(attributes.getSource())) {
+                violations |= INVALID_SOURCE;
+            }
+            if (!attributes.hasSink()
+                || UriValidator.hasWildcard(attributes.getSink())
+                || !UriValidator.isRpcMethod(attributes.getSink())) {
+                violations |= INVALID_SINK;
+            }
+            return violations;
+        }
+
         @Override
         public void validate(UAttributes attributes) {
+            if (check(attributes) == 0) {
+                return;
+            }
             final var errors = ValidationUtils.collectErrors(attributes, 
                     this::validateType,
                     this::validateId,
@@ -530,8 +673,34 @@ public abstract class UAttributesValidator {
             }
         }
 
+        @Override
+        public int check(UAttributes attributes) {
+            int violations = checkType(attributes) | checkId(attributes)
+                | checkRpcTtl(attributes) | checkRpcPriority(attributes);
+            if (!attributes.hasSource()
+                || UriValidator.hasWildcard(attributes.getSource())
+                || !UriValidator.isRpcMethod(attributes.getSource())) {
+                violations |= INVALID_SOURCE;
+            }
+            if (!attributes.hasSink()
+                || UriValidator.hasWildcard(attributes.getSink())
+                || !UriValidator.isRpcResponse(attributes.getSink())) {
+                violations |= INVALID_SINK;
+            }
+            if (!attributes.hasReqid() || !UuidUtils.isUProtocol(attributes.getReqid())) {
+                violations |= INVALID_REQID;
+            }
+            if (attributes.hasCommstatus() && attributes.getCommstatus() == UCode.UNRECOGNIZED) {
+                violations |= INVALID_COMMSTATUS;
+            }
+            return violations;
+        }
+
         @Override
         public void validate(UAttributes attributes) {
+            if (check(attributes) == 0) {
+                return;
+            }
             final var errors = ValidationUtils.collectErrors(attributes, 
                     this::validateType,
                     this::validateId,
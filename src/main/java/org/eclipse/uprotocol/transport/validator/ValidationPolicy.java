@@ -0,0 +1,97 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport.validator;
+
+import java.util.Objects;
+
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.validation.ValidationException;
+
+/**
+ * Determines which messages a transport validates using the {@link UAttributesValidator}s.
+ * <p>
+ * Validating the attributes of messages that have been created using the
+ * {@link org.eclipse.uprotocol.transport.builder.UMessageBuilder} or a
+ * {@link org.eclipse.uprotocol.transport.builder.MessageTemplate} is redundant, because these
+ * have already been validated during creation. Transports can therefore be configured to only validate
+ * the messages that they receive from other processes, or to not validate any messages at all if
+ * all communication partners are trusted to only send valid messages.
+ */
+public enum ValidationPolicy {
+    /**
+     * Validate all messages, regardless of their origin.
+     */
+    VALIDATE_ALL(true, true),
+    /**
+     * Only validate messages that have been received from outside of the process.
+     */
+    VALIDATE_INBOUND(false, true),
+    /**
+     * Do not validate any messages.
+     */
+    TRUSTED(false, false);
+
+    private final boolean outbound;
+    private final boolean inbound;
+
+    ValidationPolicy(boolean outbound, boolean inbound) {
+        this.outbound = outbound;
+        this.inbound = inbound;
+    }
+
+    /**
+     * Checks if messages that are sent by uEntities in the local process are validated.
+     *
+     * @return {@code true} if outbound messages are validated.
+     */
+    public boolean validatesOutbound() {
+        return outbound;
+    }
+
+    /**
+     * Checks if messages that have been received from outside of the process are validated.
+     *
+     * @return {@code true} if inbound messages are validated.
+     */
+    public boolean validatesInbound() {
+        return inbound;
+    }
+
+    /**
+     * Validates the attributes of a message that is about to be sent, if required by this policy.
+     *
+     * @param attributes The attributes to validate.
+     * @throws NullPointerException if attributes is {@code null}.
+     * @throws ValidationException if outbound messages are validated and the attributes are invalid.
+     */
+    public void validateOutbound(UAttributes attributes) {
+        Objects.requireNonNull(attributes, "Attributes must not be null");
+        if (outbound) {
+            UAttributesValidator.getValidator(attributes).validate(attributes);
+        }
+    }
+
+    /**
+     * Validates the attributes of a message that has been received, if required by this policy.
+     *
+     * @param attributes The attributes to validate.
+     * @throws NullPointerException if attributes is {@code null}.
+     * @throws ValidationException if inbound messages are validated and the attributes are invalid.
+     */
+    public void validateInbound(UAttributes attributes) {
+        Objects.requireNonNull(attributes, "Attributes must not be null");
+        if (inbound) {
+            UAttributesValidator.getValidator(attributes).validate(attributes);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.factory;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * A bounded pool of canonical {@link UUri} instances.
+ * <p>
+ * Code that repeatedly creates the same URIs, e.g. the URI of a method that is invoked for every
+ * request, can use the pool to obtain a shared instance instead of building a new one each time.
+ * Besides saving allocations, this allows consumers to benefit from the hash code that protobuf
+ * messages compute only once, and from the identity check performed by {@link UUri#equals(Object)}.
+ * <p>
+ * The pool is a fixed size table that is indexed by a hash of the authority name, entity ID,
+ * entity version and resource ID. Looking up a URI does not require any locking and does not
+ * allocate any objects if the URI is already contained in the pool. If two URIs map to the same
+ * slot, the URI that has been interned last replaces the other one. Callers therefore cannot rely on
+ * getting the same instance for equal URIs, only on getting an instance that is equal to the
+ * requested URI.
+ * <p>
+ * Note that the URIs are not validated.
+ */
+public final class UriInterner {
+    /**
+     * The default number of URIs that can be held by a pool.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final AtomicReferenceArray<UUri> table;
+    private final int mask;
+
+    /**
+     * Creates a pool using the default size.
+     */
+    public UriInterner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param maxSize The maximum number of URIs to hold. This will be rounded up to the next power of two.
+     * @throws IllegalArgumentException if the size is not in range [1, 2^30].
+     */
+    public UriInterner(int maxSize) {
+        if (maxSize <= 0 || maxSize > 1 << 30) {
+            throw new IllegalArgumentException("Max size must be in range [1, 2^30]");
+        }
+        int size = Integer.highestOneBit(maxSize);
+        if (size < maxSize) {
+            size <<= 1;
+        }
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the pool that is shared by all components which do not use a pool of their own.
+     *
+     * @return The pool.
+     */
+    public static UriInterner getDefault() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the canonical instance of a URI.
+     *
+     * @param uri The URI.
+     * @return An instance that is equal to the given URI. This is the given instance itself,
+     * if the pool did not contain an equal instance yet.
+     * @throws NullPointerException if uri is {@code null}.
+     */
+    public UUri intern(UUri uri) {
+        Objects.requireNonNull(uri, "URI must not be null");
+        final int index = index(uri.getAuthorityName(), uri.getUeId(), uri.getUeVersionMajor(), uri.getResourceId());
+        final UUri existing = table.get(index);
+        if (existing != null && existing.equals(uri)) {
+            return existing;
+        }
+        table.set(index, uri);
+        return uri;
+    }
+
+    /**
+     * Gets the canonical instance of a URI.
+     *
+     * @param authorityName The authority name.
+     * @param entityId The entity ID.
+     * @param majorVersion The entity's major version.
+     * @param resourceId The resource ID.
+     * @return A URI having the given properties.
+     * @throws NullPointerException if authority name is {@code null}.
+     */
+    public UUri intern(String authorityName, int entityId, int majorVersion, int resourceId) {
+        Objects.requireNonNull(authorityName, "Authority name must not be null");
+        final int index = index(authorityName, entityId, majorVersion, resourceId);
+        final UUri existing = table.get(index);
+        if (existing != null
+                && existing.getUeId() == entityId
+                && existing.getUeVersionMajor() == majorVersion
+                && existing.getResourceId() == resourceId
+                && existing.getAuthorityName().equals(authorityName)) {
+            return existing;
+        }
+        final var uri = UUri.newBuilder()
+            .setAuthorityName(authorityName)
+            .setUeId(entityId)
+            .setUeVersionMajor(majorVersion)
+            .setResourceId(resourceId)
+            .build();
+        table.set(index, uri);
+        return uri;
+    }
+
+    /**
+     * Gets the canonical instance of the URI of one of a uEntity's resources.
+     *
+     * @param entityUri A URI of the uEntity. The resource ID of this URI is ignored.
+     * @param resourceId The resource ID.
+     * @return A URI having the authority name, entity ID and major version of the given URI and
+     * the given resource ID.
+     * @throws NullPointerException if entity URI is {@code null}.
+     */
+    public UUri intern(UUri entityUri, int resourceId) {
+        Objects.requireNonNull(entityUri, "Entity URI must not be null");
+        return intern(entityUri.getAuthorityName(), entityUri.getUeId(), entityUri.getUeVersionMajor(), resourceId);
+    }
+
+    /**
+     * Removes all URIs from this pool.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    private int index(String authorityName, int entityId, int majorVersion, int resourceId) {
+        int hash = authorityName.hashCode();
+        hash = 31 * hash + entityId;
+        hash = 31 * hash + majorVersion;
+        hash = 31 * hash + resourceId;
+        // spread higher bits so that URIs which differ in their entity ID only do not collide
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+
+    /**
+     * Holds the instance returned by {@link #getDefault()}, which is only created on first use.
+     */
+    private static final class DefaultInstanceHolder {
+        static final UriInterner INSTANCE = new UriInterner();
+
+        private DefaultInstanceHolder() {
+        }
+    }
+}
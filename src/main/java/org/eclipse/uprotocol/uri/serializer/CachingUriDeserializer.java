@@ -0,0 +1,145 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.serializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.uprotocol.uri.factory.UriInterner;
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * Deserializes URIs using {@link UriSerializer#deserialize(String)} and keeps the most recently
+ * used results in a bounded cache.
+ * <p>
+ * This is useful for components that repeatedly deserialize the same (small) set of URIs, e.g.
+ * from configuration or from the headers of messages received via a transport that uses the
+ * URI representation on the wire. Deserialized URIs are also interned using a {@link UriInterner},
+ * so that URIs which are equal but have been serialized differently (e.g. using lower case and
+ * upper case hex digits) are represented by the same instance.
+ * <p>
+ * The cache is split into segments, each of which evicts its least recently used entry once it
+ * has reached its capacity. Lookups of URIs in different segments do not contend with each other.
+ * URIs that cannot be deserialized are not cached.
+ */
+public final class CachingUriDeserializer {
+    /**
+     * The default maximum number of cached URIs.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final UriInterner interner;
+
+    /**
+     * Creates a deserializer using the default cache size and the {@link UriInterner#getDefault() default}
+     * URI pool.
+     */
+    public CachingUriDeserializer() {
+        this(DEFAULT_MAX_SIZE, UriInterner.getDefault());
+    }
+
+    /**
+     * Creates a deserializer.
+     *
+     * @param maxSize The maximum number of URIs to cache.
+     * @param interner The pool to obtain canonical URI instances from.
+     * @throws NullPointerException if interner is {@code null}.
+     * @throws IllegalArgumentException if max size is not positive.
+     */
+    public CachingUriDeserializer(int maxSize, UriInterner interner) {
+        Objects.requireNonNull(interner, "Interner must not be null");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.interner = interner;
+        final int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    /**
+     * Deserializes a URI into a UUri.
+     *
+     * @param uProtocolUri The URI to deserialize.
+     * @return The UUri.
+     * @throws NullPointerException if the URI is null.
+     * @throws IllegalArgumentException if the URI is invalid.
+     * @see UriSerializer#deserialize(String)
+     */
+    public UUri deserialize(String uProtocolUri) {
+        Objects.requireNonNull(uProtocolUri);
+        final int hash = uProtocolUri.hashCode();
+        final var segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+        UUri uri;
+        synchronized (segment) {
+            uri = segment.get(uProtocolUri);
+        }
+        if (uri == null) {
+            // deserialize outside of the lock, concurrent misses for the same URI are harmless
+            uri = interner.intern(UriSerializer.deserialize(uProtocolUri));
+            synchronized (segment) {
+                segment.put(uProtocolUri, uri);
+            }
+        }
+        return uri;
+    }
+
+    /**
+     * Gets the number of cached URIs.
+     *
+     * @return The number of URIs.
+     */
+    public int size() {
+        int size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all URIs from the cache.
+     */
+    public void clear() {
+        for (var segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * A map in access order which removes its eldest entry once it exceeds its capacity.
+     */
+    private static final class Segment extends LinkedHashMap<String, UUri> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, UUri> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.uprotocol.uri.serializer;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,6 +34,11 @@ public final class UriSerializer {
      */
     public static final String SCHEME_UP = "up";
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final int PATH_SEGMENTS = 3;
+    // "/" + 8 hex digits + "/" + 2 hex digits + "/" + 4 hex digits
+    private static final int MAX_PATH_LENGTH = 17;
+
     private UriSerializer() {
         // prevent instantiation
     }
@@ -73,24 +79,53 @@ public final class UriSerializer {
     // [impl->req~uri-serialization~1]
     public static String serialize(UUri uuri, boolean includeScheme) {
         Objects.requireNonNull(uuri);
+        final var sb = new StringBuilder(MAX_PATH_LENGTH + 5 + uuri.getAuthorityName().length());
+        return serialize(uuri, includeScheme, sb).toString();
+    }
+
+    /**
+     * Serializes a {@link UUri} into its URI representation and appends it to a builder.
+     * <p>
+     * This method can be used to avoid allocating intermediate strings, e.g. by reusing the same
+     * builder for serializing multiple URIs.
+     *
+     * @param uuri The UUri to be serialized.
+     * @param includeScheme Whether to include the "up:" scheme in the serialized URI.
+     * @param target The builder to append the URI to.
+     * @return The builder.
+     * @throws NullPointerException if the UUri or the builder is null.
+     * @throws IllegalArgumentException if the UUri does not comply with the UUri specification.
+     */
+    // [impl->dsn~uri-authority-mapping~1]
+    // [impl->dsn~uri-path-mapping~2]
+    // [impl->req~uri-serialization~1]
+    public static StringBuilder serialize(UUri uuri, boolean includeScheme, StringBuilder target) {
+        Objects.requireNonNull(uuri);
+        Objects.requireNonNull(target);
         UriValidator.validate(uuri);
-        StringBuilder sb = new StringBuilder();
 
         if (includeScheme) {
-            sb.append(SCHEME_UP).append(":");
+            target.append(SCHEME_UP).append(':');
         }
-        if (!uuri.getAuthorityName().isBlank()) {
-            sb.append("//");
-            sb.append(uuri.getAuthorityName());
+        final String authority = uuri.getAuthorityName();
+        if (!authority.isBlank()) {
+            target.append("//").append(authority);
         }
+        target.append('/');
+        appendHex(target, uuri.getUeId());
+        target.append('/');
+        appendHex(target, uuri.getUeVersionMajor());
+        target.append('/');
+        appendHex(target, uuri.getResourceId());
+        return target;
+    }
 
-        sb.append("/");
-        final var pathSegments = String.format("%X/%X/%X",
-                uuri.getUeId(),
-                uuri.getUeVersionMajor(),
-                uuri.getResourceId());
-        sb.append(pathSegments);
-        return sb.toString();
+    // appends the upper case hex representation of an unsigned int without leading zeros
+    private static void appendHex(StringBuilder target, int value) {
+        int shift = Math.max(0, (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value)) & ~3);
+        for (; shift >= 0; shift -= 4) {
+            target.append(HEX_DIGITS[(value >>> shift) & 0xF]);
+        }
     }
 
     /**
@@ -106,9 +141,78 @@ public final class UriSerializer {
     // [impl->req~uri-serialization~1]
     // [impl->dsn~uri-authority-mapping~1]
     public static UUri deserialize(String uProtocolUri) {
+        return deserialize((CharSequence) uProtocolUri);
+    }
+
+    /**
+     * Deserializes the UTF-8 encoded representation of a URI into a UUri.
+     * <p>
+     * The URI is read from the buffer's remaining bytes. The buffer's position is not changed.
+     *
+     * @param uProtocolUri The buffer containing the URI to deserialize.
+     * @return The UUri.
+     * @throws NullPointerException if the buffer is null.
+     * @throws IllegalArgumentException if the URI is invalid.
+     */
+    // [impl->dsn~uri-scheme~1]
+    // [impl->dsn~uri-path-mapping~2]
+    // [impl->req~uri-serialization~1]
+    // [impl->dsn~uri-authority-mapping~1]
+    public static UUri deserialize(ByteBuffer uProtocolUri) {
         Objects.requireNonNull(uProtocolUri);
-        final var parsedUri = URI.create(uProtocolUri);
-        return deserialize(parsedUri);
+        return deserialize(new AsciiCharSequence(uProtocolUri, uProtocolUri.position(), uProtocolUri.remaining()));
+    }
+
+    /**
+     * Deserializes a URI into a UUri.
+     * <p>
+     * The URI is parsed in a single pass without creating an intermediate {@link URI}.
+     * 
+     * @param uProtocolUri The URI to deserialize.
+     * @return The UUri.
+     * @throws NullPointerException if the URI is null.
+     * @throws IllegalArgumentException if the URI is invalid.
+     */
+    // [impl->dsn~uri-scheme~1]
+    // [impl->dsn~uri-path-mapping~2]
+    // [impl->req~uri-serialization~1]
+    // [impl->dsn~uri-authority-mapping~1]
+    public static UUri deserialize(CharSequence uProtocolUri) {
+        Objects.requireNonNull(uProtocolUri);
+        final int length = uProtocolUri.length();
+
+        int pos = 0;
+        final int schemeEnd = indexOfSchemeDelimiter(uProtocolUri);
+        if (schemeEnd >= 0) {
+            if (schemeEnd != SCHEME_UP.length() || !startsWith(uProtocolUri, 0, SCHEME_UP)) {
+                throw new IllegalArgumentException("uProtocol URI must use '%s' scheme".formatted(SCHEME_UP));
+            }
+            pos = schemeEnd + 1;
+        }
+        for (int i = pos; i < length; i++) {
+            final char c = uProtocolUri.charAt(i);
+            if (c == '?') {
+                throw new IllegalArgumentException("uProtocol URI must not contain query");
+            }
+            if (c == '#') {
+                throw new IllegalArgumentException("uProtocol URI must not contain fragment");
+            }
+        }
+
+        final var builder = UUri.newBuilder();
+        if (startsWith(uProtocolUri, pos, "//")) {
+            final int authorityStart = pos + 2;
+            pos = authorityStart;
+            while (pos < length && uProtocolUri.charAt(pos) != '/') {
+                pos++;
+            }
+            if (pos > authorityStart) {
+                builder.setAuthorityName(
+                    UriValidator.validateAuthorityName(uProtocolUri.subSequence(authorityStart, pos)));
+            }
+        }
+        parsePath(uProtocolUri, pos, length, builder);
+        return builder.build();
     }
 
     /**
@@ -137,44 +241,150 @@ public final class UriSerializer {
         }
         String authority = UriValidator.validateAuthority(uProtocolUri);
 
-        final var pathSegments = uProtocolUri.getPath().split("/");
-        if (pathSegments.length != 4) {
-            throw new IllegalArgumentException("uProtocol URI must have exactly 3 path segments");
-        }
-
         final var builder = UUri.newBuilder();
         Optional.ofNullable(authority).ifPresent(builder::setAuthorityName);
+        final String path = Optional.ofNullable(uProtocolUri.getPath()).orElse("");
+        parsePath(path, 0, path.length(), builder);
+        return builder.build();
+    }
+
+    // returns the index of the colon terminating the scheme or -1 if the URI does not start with a scheme
+    private static int indexOfSchemeDelimiter(CharSequence uri) {
+        final int length = uri.length();
+        for (int i = 0; i < length; i++) {
+            final char c = uri.charAt(i);
+            if (c == ':') {
+                return i > 0 ? i : -1;
+            }
+            final boolean isAlpha = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+            if (!isAlpha && (i == 0 || !(c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.'))) {
+                return -1;
+            }
+        }
+        return -1;
+    }
 
-        if (pathSegments[1].isEmpty()) {
+    private static boolean startsWith(CharSequence s, int offset, String prefix) {
+        if (s.length() - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // parses a path of the form "/ue_id/ue_version_major/resource_id"
+    private static void parsePath(CharSequence uri, int start, int end, UUri.Builder builder) {
+        // trailing slashes have always been ignored, so keep on doing that
+        while (end > start && uri.charAt(end - 1) == '/') {
+            end--;
+        }
+        // the path must start with a slash followed by exactly three slash-separated segments
+        int versionStart = -1;
+        int resourceIdStart = -1;
+        int slashes = 0;
+        for (int i = start; i < end; i++) {
+            if (uri.charAt(i) == '/') {
+                slashes++;
+                if (slashes == 2) {
+                    versionStart = i + 1;
+                } else if (slashes == 3) {
+                    resourceIdStart = i + 1;
+                }
+            }
+        }
+        if (slashes != PATH_SEGMENTS || end == start || uri.charAt(start) != '/') {
+            throw new IllegalArgumentException("uProtocol URI must have exactly 3 path segments");
+        }
+
+        if (versionStart == start + 2) {
             throw new IllegalArgumentException("URI must contain non-empty entity ID");
         }
-        try {
-            builder.setUeId(Integer.parseUnsignedInt(pathSegments[1], 16));
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("URI must contain 32 bit hex-encoded entity ID", e);
+        final long ueId = parseHex(uri, start + 1, versionStart - 1);
+        if (ueId < 0) {
+            throw new IllegalArgumentException("URI must contain 32 bit hex-encoded entity ID");
         }
+        builder.setUeId((int) ueId);
 
-        if (pathSegments[2].isEmpty()) {
+        if (resourceIdStart == versionStart + 1) {
             throw new IllegalArgumentException("URI must contain non-empty entity version");
         }
-        try {
-            int versionMajor = Integer.parseUnsignedInt(pathSegments[2], 16);
-            UriValidator.validateVersionMajor(versionMajor);
-            builder.setUeVersionMajor(versionMajor);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("URI must contain 8 bit hex-encoded entity version", e);
+        final long versionMajor = parseHex(uri, versionStart, resourceIdStart - 1);
+        if (versionMajor < 0) {
+            throw new IllegalArgumentException("URI must contain 8 bit hex-encoded entity version");
         }
+        UriValidator.validateVersionMajor((int) versionMajor);
+        builder.setUeVersionMajor((int) versionMajor);
 
-        // the fourth path segment can not be empty because the String.split() method excludes
-        // trailing empty strings from the resulting array
-        // it is therefore safe to simply parse it as an unsigned integer
-        try {
-            int resourceId = Integer.parseUnsignedInt(pathSegments[3], 16);
-            UriValidator.validateResourceId(resourceId);
-            builder.setResourceId(resourceId);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("URI must contain 16 bit hex-encoded resource ID", e);
+        // the resource ID can not be empty because trailing slashes have been removed
+        final long resourceId = parseHex(uri, resourceIdStart, end);
+        if (resourceId < 0) {
+            throw new IllegalArgumentException("URI must contain 16 bit hex-encoded resource ID");
+        }
+        UriValidator.validateResourceId((int) resourceId);
+        builder.setResourceId((int) resourceId);
+    }
+
+    // returns the value of a hex-encoded unsigned 32 bit integer, or -1 if the characters are not a valid encoding
+    private static long parseHex(CharSequence s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(s.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+            if (value > 0xFFFF_FFFFL) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * A read-only view on US-ASCII characters contained in a buffer.
+     * <p>
+     * Valid uProtocol URIs only contain US-ASCII characters, which are encoded as single bytes in UTF-8.
+     * Any other byte is mapped to a (non-ASCII) character which fails validation.
+     */
+    private static final class AsciiCharSequence implements CharSequence {
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        AsciiCharSequence(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new AsciiCharSequence(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            final var chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
         }
-        return builder.build();
     }
 }
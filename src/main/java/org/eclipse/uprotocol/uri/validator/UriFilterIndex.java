@@ -0,0 +1,313 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UUri;
+
+/**
+ * An index of values that have been registered for source and sink filter criteria.
+ * <p>
+ * The index can be used to efficiently determine all values (e.g. listeners) that have been
+ * registered for filters that match a given message's source and sink URIs. Filters are stored
+ * in tries that are keyed on the authority name, entity type ID, entity instance ID, entity version
+ * and resource ID of the pattern URIs, with a dedicated branch for wildcard values on each level.
+ * The cost of a lookup therefore depends on the number of wildcard branches that need to be followed
+ * but not on the overall number of registered filters.
+ * <p>
+ * The semantics of matching correspond to {@link UriValidator#matches(UUri, UUri)}:
+ * <ul>
+ * <li>A value registered with an empty sink filter matches messages that do not have a sink.</li>
+ * <li>A value registered with a sink filter matches messages that have a sink matching the filter.
+ * If the sink filter is {@link UriFactory#ANY}, messages that do not have a sink are matched as well.</li>
+ * </ul>
+ * <p>
+ * Lookups may be performed concurrently with adding and removing values. They do not block and
+ * reflect the state of the index at some point during the lookup.
+ *
+ * @param <T> The type of values stored in the index.
+ */
+public final class UriFilterIndex<T> {
+
+    private final PatternTrie<SinkFilters<T>> sourceFilters = new PatternTrie<>();
+    private volatile int size;
+
+    /**
+     * Adds a value for filter criteria.
+     *
+     * @param sourceFilter The source address pattern.
+     * @param sinkFilter The sink address pattern or {@code Optional.empty()} if the value should
+     * only match messages that do not have a sink.
+     * @param value The value to add.
+     * @return {@code true} if the value has been added, or {@code false} if the value had already
+     * been registered for the same filter criteria.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public synchronized boolean add(UUri sourceFilter, Optional<UUri> sinkFilter, T value) {
+        Objects.requireNonNull(sourceFilter, "Source filter must not be null");
+        Objects.requireNonNull(sinkFilter, "Sink filter must not be null");
+        Objects.requireNonNull(value, "Value must not be null");
+
+        final var sinks = sourceFilters.computeIfAbsent(sourceFilter, SinkFilters::new);
+        final boolean added = sinkFilter
+            .map(filter -> sinks.withSink.computeIfAbsent(filter, CopyOnWriteArraySet::new).add(value))
+            .orElseGet(() -> sinks.withoutSink.add(value));
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Removes a value for filter criteria.
+     *
+     * @param sourceFilter The source address pattern that the value has been added for.
+     * @param sinkFilter The sink address pattern that the value has been added for.
+     * @param value The value to remove.
+     * @return {@code true} if the value has been removed, or {@code false} if the value
+     * had not been registered for the filter criteria.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public synchronized boolean remove(UUri sourceFilter, Optional<UUri> sinkFilter, T value) {
+        Objects.requireNonNull(sourceFilter, "Source filter must not be null");
+        Objects.requireNonNull(sinkFilter, "Sink filter must not be null");
+        Objects.requireNonNull(value, "Value must not be null");
+
+        final var sinks = sourceFilters.get(sourceFilter);
+        if (sinks == null) {
+            return false;
+        }
+        final boolean removed;
+        if (sinkFilter.isPresent()) {
+            final var values = sinks.withSink.get(sinkFilter.get());
+            removed = values != null && values.remove(value);
+            if (removed && values.isEmpty()) {
+                sinks.withSink.remove(sinkFilter.get());
+            }
+        } else {
+            removed = sinks.withoutSink.remove(value);
+        }
+        if (removed) {
+            size--;
+            if (sinks.isEmpty()) {
+                sourceFilters.remove(sourceFilter);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Performs an action for each value that has been added for filter criteria matching
+     * the source and sink of a message.
+     * <p>
+     * A value that has been added for multiple filter criteria which all match the message
+     * is passed to the action once for each of them.
+     *
+     * @param attributes The attributes of the message.
+     * @param action The action to perform.
+     * @throws NullPointerException if any of the arguments are {@code null}.
+     */
+    public void forEachMatch(UAttributes attributes, Consumer<? super T> action) {
+        Objects.requireNonNull(attributes, "Attributes must not be null");
+        Objects.requireNonNull(action, "Action must not be null");
+        if (size == 0) {
+            return;
+        }
+        sourceFilters.forEachMatch(attributes.getSource(), sinks -> {
+            if (attributes.hasSink()) {
+                sinks.withSink.forEachMatch(attributes.getSink(), values -> values.forEach(action));
+            } else {
+                sinks.withoutSink.forEach(action);
+                Optional.ofNullable(sinks.withSink.get(UriFactory.ANY)).ifPresent(values -> values.forEach(action));
+            }
+        });
+    }
+
+    /**
+     * Gets all values that have been added for filter criteria matching the source and sink of a message.
+     *
+     * @param attributes The attributes of the message.
+     * @return The matching values.
+     * @throws NullPointerException if attributes is {@code null}.
+     */
+    public List<T> getMatches(UAttributes attributes) {
+        final List<T> matches = new ArrayList<>();
+        forEachMatch(attributes, matches::add);
+        return matches;
+    }
+
+    /**
+     * Gets the number of values in this index.
+     *
+     * @return The number of (filter criteria, value) pairs that have been added.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this index is empty.
+     *
+     * @return {@code true} if no values have been added.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The values that have been registered for the same source filter.
+     */
+    private static final class SinkFilters<T> {
+        private final Set<T> withoutSink = new CopyOnWriteArraySet<>();
+        private final PatternTrie<Set<T>> withSink = new PatternTrie<>();
+
+        boolean isEmpty() {
+            return withoutSink.isEmpty() && withSink.isEmpty();
+        }
+    }
+
+    /**
+     * A trie which maps URI patterns to values.
+     * <p>
+     * Each level of the trie corresponds to one of the components of a URI. The trie is
+     * only modified while holding the lock on the enclosing index but can be read concurrently.
+     */
+    private static final class PatternTrie<V> {
+        private static final int AUTHORITY = 0;
+        private static final int ENTITY_TYPE_ID = 1;
+        private static final int ENTITY_INSTANCE_ID = 2;
+        private static final int ENTITY_VERSION = 3;
+        private static final int RESOURCE_ID = 4;
+        private static final int DEPTH = RESOURCE_ID + 1;
+
+        private final Node<V> root = new Node<>();
+
+        private static Object key(UUri uri, int level) {
+            return switch (level) {
+                case AUTHORITY -> uri.getAuthorityName();
+                case ENTITY_TYPE_ID -> uri.getUeId() & UriFactory.WILDCARD_ENTITY_TYPE_ID;
+                case ENTITY_INSTANCE_ID -> uri.getUeId() & UriFactory.WILDCARD_ENTITY_INSTANCE_ID;
+                case ENTITY_VERSION -> uri.getUeVersionMajor();
+                default -> uri.getResourceId();
+            };
+        }
+
+        private static boolean isWildcard(UUri pattern, int level) {
+            return switch (level) {
+                case AUTHORITY -> UriValidator.hasWildcardAuthority(pattern);
+                case ENTITY_TYPE_ID -> UriValidator.hasWildcardEntityTypeId(pattern);
+                case ENTITY_INSTANCE_ID -> UriValidator.hasWildcardEntityInstanceId(pattern);
+                case ENTITY_VERSION -> UriValidator.hasWildcardEntityVersion(pattern);
+                default -> UriValidator.hasWildcardResourceId(pattern);
+            };
+        }
+
+        boolean isEmpty() {
+            return root.isEmpty();
+        }
+
+        V get(UUri pattern) {
+            Node<V> node = root;
+            for (int level = 0; level < DEPTH && node != null; level++) {
+                node = isWildcard(pattern, level) ? node.wildcardChild : node.children.get(key(pattern, level));
+            }
+            return node == null ? null : node.value;
+        }
+
+        V computeIfAbsent(UUri pattern, Supplier<V> valueFactory) {
+            Node<V> node = root;
+            for (int level = 0; level < DEPTH; level++) {
+                if (isWildcard(pattern, level)) {
+                    if (node.wildcardChild == null) {
+                        node.wildcardChild = new Node<>();
+                    }
+                    node = node.wildcardChild;
+                } else {
+                    node = node.children.computeIfAbsent(key(pattern, level), k -> new Node<>());
+                }
+            }
+            if (node.value == null) {
+                node.value = valueFactory.get();
+            }
+            return node.value;
+        }
+
+        void remove(UUri pattern) {
+            remove(root, pattern, 0);
+        }
+
+        // returns true if the node has become empty and can be removed from its parent
+        private boolean remove(Node<V> node, UUri pattern, int level) {
+            if (level == DEPTH) {
+                node.value = null;
+                return true;
+            }
+            if (isWildcard(pattern, level)) {
+                if (node.wildcardChild != null && remove(node.wildcardChild, pattern, level + 1)) {
+                    node.wildcardChild = null;
+                }
+            } else {
+                final Object key = key(pattern, level);
+                final var child = node.children.get(key);
+                if (child != null && remove(child, pattern, level + 1)) {
+                    node.children.remove(key);
+                }
+            }
+            return node.isEmpty();
+        }
+
+        void forEachMatch(UUri uri, Consumer<V> action) {
+            forEachMatch(root, uri, 0, action);
+        }
+
+        private static <V> void forEachMatch(Node<V> node, UUri uri, int level, Consumer<V> action) {
+            if (level == DEPTH) {
+                final var value = node.value;
+                if (value != null) {
+                    action.accept(value);
+                }
+                return;
+            }
+            final var exactMatch = node.children.get(key(uri, level));
+            if (exactMatch != null) {
+                forEachMatch(exactMatch, uri, level + 1, action);
+            }
+            final var wildcardMatch = node.wildcardChild;
+            if (wildcardMatch != null) {
+                forEachMatch(wildcardMatch, uri, level + 1, action);
+            }
+        }
+    }
+
+    private static final class Node<V> {
+        private final Map<Object, Node<V>> children = new ConcurrentHashMap<>();
+        private volatile Node<V> wildcardChild;
+        private volatile V value;
+
+        boolean isEmpty() {
+            return value == null && wildcardChild == null && children.isEmpty();
+        }
+    }
+}
@@ -13,10 +13,8 @@
 package org.eclipse.uprotocol.uri.validator;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.uprotocol.communication.UStatusException;
 import org.eclipse.uprotocol.transport.UTransport;
@@ -34,8 +32,6 @@ public final class UriValidator {
      */
     public static final int AUTHORITY_NAME_MAX_LENGTH = 128;
 
-    private static final Pattern AUTHORITY_PATTERN = Pattern.compile("^[a-z0-9-._~]*$");
-
     private UriValidator() {
         // prevent instantiation
     }
@@ -60,16 +56,10 @@ public final class UriValidator {
     public static void validate(UUri uuri) {
         Objects.requireNonNull(uuri, "URI must not be null");
 
-        Optional.ofNullable(uuri.getAuthorityName())
-            .filter(s -> !s.isEmpty())
-            .ifPresent(name -> {
-                try {
-                    var uri = new URI(null, name, null, null, null);
-                    validateAuthority(uri);
-                } catch (URISyntaxException e) {
-                    throw new IllegalArgumentException("Invalid authority name", e);
-                }
-            });
+        final String authorityName = uuri.getAuthorityName();
+        if (!authorityName.isEmpty()) {
+            validateAuthorityName(authorityName);
+        }
 
         // no need to check uEntity ID which is of Java primitive type (signed) int but actually represents
         // an unsigned 32 bit integer, thus any value is valid
@@ -105,37 +95,104 @@ public final class UriValidator {
     // [impl->dsn~uri-host-only~2]
     public static String validateAuthority(URI uri) {
         Objects.requireNonNull(uri, "URI must not be null");
+        final String authority = uri.getAuthority();
+        return authority == null ? null : validateAuthorityName(authority);
+    }
 
-        String authority;
-        try {
-            // this should work if authority is server-based, i.e. contains a host, literal IP or IPv4 address
-            var uriWithServerAuthority = uri.parseServerAuthority();
-            if (uriWithServerAuthority.getPort() != -1) {
-                throw new IllegalArgumentException("uProtocol URI must not contain port");
-            }
-            if (uriWithServerAuthority.getUserInfo() != null) {
+    /**
+     * Verifies that the authority part of a uProtocol URI complies with the uProtocol specification.
+     * <p>
+     * The authority is checked in a single pass without creating any intermediate objects. An empty
+     * port is tolerated and removed from the returned authority name.
+     *
+     * @param authority The authority part of the URI, i.e. the characters between the leading {@code //}
+     *                  and the first {@code /} of the path.
+     * @throws NullPointerException if authority is {@code null}.
+     * @throws IllegalArgumentException if the authority does not comply with the uProtocol specification.
+     * @return The validated authority name.
+     */
+    // [impl->dsn~uri-authority-name-length~1]
+    // [impl->dsn~uri-host-only~2]
+    public static String validateAuthorityName(CharSequence authority) {
+        Objects.requireNonNull(authority, "Authority must not be null");
+
+        final int length = authority.length();
+        if (length == 1 && authority.charAt(0) == '*') {
+            return "*";
+        }
+        if (length > 0 && authority.charAt(0) == '[') {
+            return validateIpv6Literal(authority);
+        }
+        int hostEnd = length;
+        for (int i = 0; i < length; i++) {
+            final char c = authority.charAt(i);
+            if (c == '@') {
                 throw new IllegalArgumentException("uProtocol URI must not contain user info");
             }
-            authority = uriWithServerAuthority.getHost();
-            if (authority != null && authority.startsWith("[") && authority.endsWith("]")) {
-                // this is an IPv6 literal address
-                return authority;
+            if (c == ':') {
+                validateEmptyPort(authority, i);
+                hostEnd = i;
+                break;
+            }
+            if (!isAuthorityNameChar(c)) {
+                throw new IllegalArgumentException("uProtocol URI authority contains invalid characters");
             }
-        } catch (URISyntaxException e) {
-            // the authority is not server-based but might still be valid according to the UUri spec,
-            authority = uri.getAuthority();
-        }
-        // make sure that authority name either is the wildcard authority or contains allowed characters only
-        if (authority != null && !"*".equals(authority) && !AUTHORITY_PATTERN.matcher(authority).matches()) {
-            throw new IllegalArgumentException("uProtocol URI authority contains invalid characters");
         }
-        // and does not exceed maximum length
-        if (authority != null && authority.length() > AUTHORITY_NAME_MAX_LENGTH) {
+        if (hostEnd > AUTHORITY_NAME_MAX_LENGTH) {
             throw new IllegalArgumentException("uProtocol URI authority must not exceed %d characters"
                 .formatted(AUTHORITY_NAME_MAX_LENGTH));
         }
+        return authority.subSequence(0, hostEnd).toString();
+    }
+
+    private static String validateIpv6Literal(CharSequence authority) {
+        final int length = authority.length();
+        boolean containsColon = false;
+        boolean inZoneId = false;
+        for (int i = 1; i < length; i++) {
+            final char c = authority.charAt(i);
+            if (c == ']') {
+                if (i == 1 || !containsColon) {
+                    break;
+                }
+                if (i + 1 < length) {
+                    if (authority.charAt(i + 1) != ':') {
+                        break;
+                    }
+                    validateEmptyPort(authority, i + 1);
+                }
+                return authority.subSequence(0, i + 1).toString();
+            }
+            if (c == ':' && !inZoneId) {
+                containsColon = true;
+            } else if (c == '%') {
+                inZoneId = true;
+            } else if (!(inZoneId ? isAuthorityNameChar(c) || c >= 'A' && c <= 'Z' : isHexDigit(c) || c == '.')) {
+                break;
+            }
+        }
+        throw new IllegalArgumentException("uProtocol URI authority contains invalid characters");
+    }
+
+    private static void validateEmptyPort(CharSequence authority, int colonIndex) {
+        final int length = authority.length();
+        for (int i = colonIndex + 1; i < length; i++) {
+            if (authority.charAt(i) < '0' || authority.charAt(i) > '9') {
+                throw new IllegalArgumentException("uProtocol URI authority contains invalid characters");
+            }
+        }
+        if (colonIndex + 1 < length) {
+            throw new IllegalArgumentException("uProtocol URI must not contain port");
+        }
+    }
+
+    // corresponds to the character class [a-z0-9-._~]
+    private static boolean isAuthorityNameChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_' || c == '~';
+    }
 
-        return authority;
+    private static boolean isHexDigit(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
     }
 
     /**
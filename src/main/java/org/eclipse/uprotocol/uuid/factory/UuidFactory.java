@@ -15,11 +15,18 @@ package org.eclipse.uprotocol.uuid.factory;
 import org.eclipse.uprotocol.v1.UUID;
 
 import java.time.Instant;
-import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A factory for creating uProtocol UUIDs.
+ * <p>
+ * UUIDs created for the current system time contain a 12 bit counter in the {@code rand_a} field
+ * which is incremented for each UUID that is created by the same thread within the same millisecond
+ * (see <a href="https://www.rfc-editor.org/rfc/rfc9562.html#section-6.2">RFC 9562, Section 6.2, Method 1</a>).
+ * UUIDs created by the same thread are therefore strictly increasing in the order of their creation.
+ * The counter is initialized with a random value at the start of each millisecond. If it overflows,
+ * the timestamp is advanced by one millisecond. Random bits are taken from the calling thread's
+ * {@link ThreadLocalRandom}, so creating UUIDs concurrently does not require any synchronization.
  *
  * @see <a href="https://github.com/eclipse-uprotocol/up-spec/blob/v1.6.0-alpha.7/basics/uuid.adoc">
  * uProtocol UUID Specification</a>
@@ -27,17 +34,30 @@ import java.util.Random;
 // [impl->dsn~uuid-spec~1]
 public final class UuidFactory {
 
+    private static final long VERSION_7 = 0b0111L << 12;
+    private static final long VARIANT_RFC4122 = 0b10L << 62;
+    private static final int RAND_A_MASK = 0x0fff;
+    private static final long RAND_B_MASK = 0x3fffffffffffffffL;
+    // initial counter values leave room for at least 2048 UUIDs per millisecond before the counter overflows
+    private static final int COUNTER_SEED_MASK = 0x07ff;
+
+    private static final ThreadLocal<MonotonicCounter> COUNTER = ThreadLocal.withInitial(MonotonicCounter::new);
+
     private UuidFactory() {
         // utility class
     }
 
     /**
      * Creates a UUID based on the current system time.
+     * <p>
+     * UUIDs created by the same thread are strictly increasing.
      *
      * @return The UUID.
      */
     public static UUID create() {
-        return create(Instant.now());
+        final MonotonicCounter counter = COUNTER.get();
+        counter.next(System.currentTimeMillis());
+        return build(counter.timestamp, counter.value);
     }
 
     /**
@@ -47,14 +67,39 @@ public final class UuidFactory {
      * @return The UUID.
      */
     public static UUID create(Instant instant) {
-        final long time = Objects.requireNonNullElse(instant, Instant.now()).toEpochMilli();
-
-        final int randA = new Random().nextInt() & 0x0fff; // keep 4 msb clear for version
-        final long randB = new Random().nextLong() & 0x3fffffffffffffffL; // keep 2 msb clear for variant
+        if (instant == null) {
+            return create();
+        }
+        return build(instant.toEpochMilli(), ThreadLocalRandom.current().nextInt() & RAND_A_MASK);
+    }
 
+    private static UUID build(long time, int randA) {
+        final long randB = ThreadLocalRandom.current().nextLong() & RAND_B_MASK; // keep 2 msb clear for variant
         return UUID.newBuilder()
-            .setMsb((time << 16) | 0b0111L << 12 | randA) // version 7
-            .setLsb(randB | 0b10L << 62) // variant RFC 4122
+            .setMsb((time << 16) | VERSION_7 | randA) // keep 4 msb of rand_a clear for version
+            .setLsb(randB | VARIANT_RFC4122)
             .build();
     }
+
+    /**
+     * The timestamp and counter of the UUIDs created by a thread.
+     */
+    private static final class MonotonicCounter {
+        private long timestamp = Long.MIN_VALUE;
+        private int value;
+
+        void next(long now) {
+            if (now > timestamp) {
+                timestamp = now;
+                value = ThreadLocalRandom.current().nextInt() & COUNTER_SEED_MASK;
+            } else if (value < RAND_A_MASK) {
+                // same millisecond or clock has been set back
+                value++;
+            } else {
+                // counter overflow, borrow from the next millisecond
+                timestamp++;
+                value = 0;
+            }
+        }
+    }
 }
@@ -16,7 +16,6 @@ import org.eclipse.uprotocol.v1.UUID;
 
 import java.time.Instant;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Utility methods for uProtocol UUIDs.
@@ -44,10 +43,7 @@ public final class UuidUtils {
      * @return {@code true} if the UUID is in the RFC 9562 variant, {@code false} if uuid is {@code null}.
      */
     private static boolean isRfc9562Variant(UUID uuid) {
-        return Optional.ofNullable(uuid)
-            .map(id -> (byte) (id.getLsb() >>> 62))
-            .map(variant -> variant == VARIANT_RFC_9562)
-            .orElse(false);
+        return uuid != null && (uuid.getLsb() >>> 62) == VARIANT_RFC_9562;
     }
 
     /**
@@ -61,11 +57,8 @@ public final class UuidUtils {
      * uProtocol UUID specification</a>
      */
     public static boolean isUProtocol(UUID uuid) {
-        return Optional.ofNullable(uuid)
-                .filter(UuidUtils::isRfc9562Variant)
-                .map(UuidUtils::getVersion)
-                .map(version -> version == VERSION_UPROTOCOL)
-                .orElse(false);
+        // invoked for every message that is validated, so avoid allocating any Optionals
+        return isRfc9562Variant(uuid) && getVersion(uuid) == VERSION_UPROTOCOL;
     }
 
     /**
@@ -12,6 +12,7 @@
  */
 package org.eclipse.uprotocol.client.usubscription.v3;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
@@ -105,6 +107,35 @@ class RpcClientBasedUSubscriptionClientTest {
         assertEquals(response, actualResponse);
     }
 
+    @Test
+    @DisplayName("Test subscribeAll and unsubscribeAll send one request per topic")
+    void testBulkOperationsInvokeRpcClientPerTopic() {
+        var otherTopic = UUri.newBuilder(TOPIC).setResourceId(0x8001).build();
+        when(rpcClient.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(UPayload.pack(SubscriptionResponse.getDefaultInstance())));
+
+        var subscriptions = subscriptionClient.subscribeAll(
+            List.of(
+                SubscriptionRequest.newBuilder().setTopic(TOPIC).build(),
+                SubscriptionRequest.newBuilder().setTopic(otherTopic).build(),
+                SubscriptionRequest.newBuilder().setTopic(TOPIC).build()),
+            2);
+        assertEquals(List.of(TOPIC, otherTopic), List.copyOf(subscriptions.keySet()));
+        subscriptions.values().forEach(stage -> stage.toCompletableFuture().join());
+        verify(rpcClient, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), eq(callOptions));
+
+        when(rpcClient.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(UPayload.pack(UnsubscribeResponse.getDefaultInstance())));
+        var unsubscriptions = subscriptionClient.unsubscribeAll(
+            List.of(
+                UnsubscribeRequest.newBuilder().setTopic(TOPIC).build(),
+                UnsubscribeRequest.newBuilder().setTopic(otherTopic).build()),
+            1);
+        assertEquals(List.of(TOPIC, otherTopic), List.copyOf(unsubscriptions.keySet()));
+        unsubscriptions.values().forEach(stage -> stage.toCompletableFuture().join());
+        verify(rpcClient, times(4)).invokeMethod(any(UUri.class), any(UPayload.class), eq(callOptions));
+    }
+
     @Test
     void testFetchSubscribersInvokesRpcClient() {
         var request = FetchSubscribersRequest.newBuilder().setTopic(TOPIC).build();
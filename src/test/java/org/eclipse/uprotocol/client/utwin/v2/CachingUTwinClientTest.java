@@ -0,0 +1,186 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.client.utwin.v2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.core.utwin.v2.GetLastMessagesResponse;
+import org.eclipse.uprotocol.core.utwin.v2.MessageResponse;
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UStatus;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.v1.UUriBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUTwinClientTest {
+
+    private static final UUri TOPIC = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x0003)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x8000)
+        .build();
+    private static final UUri OTHER_TOPIC = UUri.newBuilder(TOPIC).setResourceId(0x8001).build();
+
+    @Mock
+    private UTwinClient delegate;
+    private CachingUTwinClient twinClient;
+
+    @BeforeEach
+    void setUp() {
+        twinClient = new CachingUTwinClient(delegate);
+    }
+
+    @Test
+    @DisplayName("Test constructor rejects invalid arguments")
+    void testConstructorRejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new CachingUTwinClient(null));
+        assertThrows(IllegalArgumentException.class, () -> new CachingUTwinClient(delegate, 0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new CachingUTwinClient(delegate, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Test cached topics are answered locally")
+    void testCachedTopicsAreAnsweredLocally() {
+        final var message = UMessageBuilder.publish(TOPIC).build();
+        twinClient.getListener().onReceive(message);
+
+        final var response = twinClient.getLastMessages(UUriBatch.newBuilder().addUris(TOPIC).build())
+            .toCompletableFuture().join();
+
+        assertEquals(1, response.getResponsesCount());
+        assertEquals(TOPIC, response.getResponses(0).getTopic());
+        assertEquals(UCode.OK, response.getResponses(0).getStatus().getCode());
+        assertEquals(message, response.getResponses(0).getMessage());
+        verify(delegate, never()).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test only uncached topics are requested from the delegate")
+    void testOnlyMissingTopicsAreRequested() {
+        final var cachedMessage = UMessageBuilder.publish(TOPIC).build();
+        twinClient.update(cachedMessage);
+        final var fetchedResponse = MessageResponse.newBuilder()
+            .setTopic(OTHER_TOPIC)
+            .setStatus(UStatus.newBuilder().setCode(UCode.NOT_FOUND))
+            .build();
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                GetLastMessagesResponse.newBuilder().addResponses(fetchedResponse).build()));
+
+        final var response = twinClient.getLastMessages(
+                UUriBatch.newBuilder().addUris(OTHER_TOPIC).addUris(TOPIC).addUris(OTHER_TOPIC).build())
+            .toCompletableFuture().join();
+
+        verify(delegate).getLastMessages(
+            eq(UUriBatch.newBuilder().addUris(OTHER_TOPIC).build()), eq(CallOptions.DEFAULT));
+        assertEquals(2, response.getResponsesCount());
+        assertEquals(fetchedResponse, response.getResponses(0));
+        assertEquals(cachedMessage, response.getResponses(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Test expired messages are evicted")
+    void testExpiredMessagesAreEvicted() {
+        final var expiredMessage = UMessageBuilder.publish(TOPIC)
+            .withMessageId(UuidFactory.create(Instant.now().minusSeconds(10)))
+            .withTtl(1000)
+            .build();
+        twinClient.update(expiredMessage);
+        assertEquals(1, twinClient.size());
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(GetLastMessagesResponse.getDefaultInstance()));
+
+        final var response = twinClient.getLastMessages(UUriBatch.newBuilder().addUris(TOPIC).build())
+            .toCompletableFuture().join();
+
+        assertEquals(0, response.getResponsesCount());
+        assertEquals(0, twinClient.size());
+        verify(delegate).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test cache is bounded by number of entries and size")
+    void testCacheIsBounded() {
+        final var message = UMessageBuilder.publish(TOPIC).build();
+        final int size = message.getSerializedSize();
+
+        final var byEntries = new CachingUTwinClient(delegate, 2, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            byEntries.update(UMessageBuilder.publish(UUri.newBuilder(TOPIC).setResourceId(0x8000 + i).build())
+                .build());
+        }
+        assertEquals(2, byEntries.size());
+
+        final var bySize = new CachingUTwinClient(delegate, 100, 2L * size + 1);
+        for (int i = 0; i < 5; i++) {
+            bySize.update(UMessageBuilder.publish(UUri.newBuilder(TOPIC).setResourceId(0x8000 + i).build())
+                .build());
+        }
+        assertEquals(2, bySize.size());
+
+        // messages exceeding the limit on their own are not cached
+        final var tooSmall = new CachingUTwinClient(delegate, 100, size - 1);
+        tooSmall.update(message);
+        assertEquals(0, tooSmall.size());
+
+        bySize.clear();
+        assertEquals(0, bySize.size());
+    }
+
+    @Test
+    @DisplayName("Test non-publish messages and wildcard topics are not served from the cache")
+    void testIgnoresNonPublishMessagesAndWildcards() {
+        twinClient.update(UMessageBuilder.notification(TOPIC, UUri.newBuilder(TOPIC).setResourceId(0).build())
+            .build());
+        assertEquals(0, twinClient.size());
+
+        twinClient.update(UMessageBuilder.publish(TOPIC).build());
+        final var wildcard = UUri.newBuilder(TOPIC).setResourceId(0xFFFF).build();
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(GetLastMessagesResponse.getDefaultInstance()));
+        twinClient.getLastMessages(UUriBatch.newBuilder().addAllUris(List.of(wildcard)).build())
+            .toCompletableFuture().join();
+        verify(delegate).getLastMessages(eq(UUriBatch.newBuilder().addUris(wildcard).build()), any());
+    }
+
+    @Test
+    @DisplayName("Test getLastMessages fails for empty topics")
+    void testGetLastMessagesFailsForEmptyTopics() {
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> twinClient.getLastMessages(UUriBatch.getDefaultInstance()).toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.client.utwin.v2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.DeadlineScheduler;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.core.utwin.v2.GetLastMessagesResponse;
+import org.eclipse.uprotocol.core.utwin.v2.MessageResponse;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UStatus;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.v1.UUriBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUTwinClientTest {
+
+    private static final UUri TOPIC = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x0003)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x8000)
+        .build();
+    private static final UUri OTHER_TOPIC = UUri.newBuilder(TOPIC).setResourceId(0x8001).build();
+    private static final UUri THIRD_TOPIC = UUri.newBuilder(TOPIC).setResourceId(0x8002).build();
+
+    @Mock
+    private UTwinClient delegate;
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private final List<Runnable> submittedSends = new ArrayList<>();
+    private CoalescingUTwinClient twinClient;
+
+    @BeforeEach
+    void setUp() {
+        final DeadlineScheduler scheduler = (timeout, unit, action) -> {
+            scheduledFlushes.add(action);
+            return new DeadlineScheduler.Deadline() {
+                @Override
+                public boolean cancel() {
+                    return scheduledFlushes.remove(action);
+                }
+
+                @Override
+                public boolean isExpired() {
+                    return false;
+                }
+            };
+        };
+        twinClient = new CoalescingUTwinClient(
+            delegate, 20, TimeUnit.MILLISECONDS, 3, scheduler, submittedSends::add);
+    }
+
+    private void expireWindows() {
+        final var actions = List.copyOf(scheduledFlushes);
+        scheduledFlushes.clear();
+        actions.forEach(Runnable::run);
+        final var sends = List.copyOf(submittedSends);
+        submittedSends.clear();
+        sends.forEach(Runnable::run);
+    }
+
+    private static UUriBatch batch(UUri... topics) {
+        return UUriBatch.newBuilder().addAllUris(List.of(topics)).build();
+    }
+
+    private static GetLastMessagesResponse responseFor(UUri... topics) {
+        final var response = GetLastMessagesResponse.newBuilder();
+        for (var topic : topics) {
+            response.addResponses(MessageResponse.newBuilder()
+                .setTopic(topic)
+                .setStatus(UStatus.newBuilder().setCode(UCode.OK)));
+        }
+        return response.build();
+    }
+
+    private static List<UUri> topicsOf(GetLastMessagesResponse response) {
+        return response.getResponsesList().stream().map(MessageResponse::getTopic).toList();
+    }
+
+    @Test
+    @DisplayName("Test constructor rejects invalid arguments")
+    void testConstructorRejectsInvalidArguments() {
+        assertThrows(NullPointerException.class,
+            () -> new CoalescingUTwinClient(null, 10, TimeUnit.MILLISECONDS, 10));
+        assertThrows(NullPointerException.class, () -> new CoalescingUTwinClient(delegate, 10, null, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingUTwinClient(delegate, -1, TimeUnit.MILLISECONDS, 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CoalescingUTwinClient(delegate, 10, TimeUnit.MILLISECONDS, 0));
+        assertThrows(NullPointerException.class,
+            () -> new CoalescingUTwinClient(delegate, 10, TimeUnit.MILLISECONDS, 10, (t, u, a) -> null, null));
+    }
+
+    @Test
+    @DisplayName("Test a batch whose window has elapsed is sent using the executor")
+    void testExpiredBatchIsSentUsingExecutor() {
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(responseFor(TOPIC)));
+
+        final var result = twinClient.getLastMessages(batch(TOPIC)).toCompletableFuture();
+        final var actions = List.copyOf(scheduledFlushes);
+        scheduledFlushes.clear();
+        actions.forEach(Runnable::run);
+
+        // the scheduler's thread must not be used for sending the request
+        verify(delegate, never()).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+        assertEquals(1, submittedSends.size());
+
+        submittedSends.remove(0).run();
+        verify(delegate).getLastMessages(batch(TOPIC), CallOptions.DEFAULT);
+        assertEquals(List.of(TOPIC), topicsOf(result.join()));
+    }
+
+    @Test
+    @DisplayName("Test a batch fails if the executor rejects sending it")
+    void testRejectedBatchFails() {
+        final DeadlineScheduler scheduler = (timeout, unit, action) -> {
+            scheduledFlushes.add(action);
+            return null;
+        };
+        final var client = new CoalescingUTwinClient(delegate, 20, TimeUnit.MILLISECONDS, 3, scheduler, task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+
+        final var result = client.getLastMessages(batch(TOPIC)).toCompletableFuture();
+        expireWindows();
+
+        final var exception = assertThrows(CompletionException.class, result::join);
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        verify(delegate, never()).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test requests within the window are sent as a single de-duplicated request")
+    void testRequestsWithinWindowAreCombined() {
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(responseFor(TOPIC, OTHER_TOPIC)));
+
+        final var first = twinClient.getLastMessages(batch(TOPIC)).toCompletableFuture();
+        final var second = twinClient.getLastMessages(batch(TOPIC, OTHER_TOPIC)).toCompletableFuture();
+        assertFalse(first.isDone());
+        verify(delegate, never()).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+
+        expireWindows();
+
+        verify(delegate).getLastMessages(batch(TOPIC, OTHER_TOPIC), CallOptions.DEFAULT);
+        assertEquals(List.of(TOPIC), topicsOf(first.join()));
+        assertEquals(List.of(TOPIC, OTHER_TOPIC), topicsOf(second.join()));
+    }
+
+    @Test
+    @DisplayName("Test a batch is sent immediately once it reaches the max batch size")
+    void testFullBatchIsSentImmediately() {
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(responseFor(TOPIC, OTHER_TOPIC, THIRD_TOPIC)));
+
+        final var first = twinClient.getLastMessages(batch(TOPIC, OTHER_TOPIC)).toCompletableFuture();
+        final var second = twinClient.getLastMessages(batch(THIRD_TOPIC)).toCompletableFuture();
+
+        verify(delegate).getLastMessages(batch(TOPIC, OTHER_TOPIC, THIRD_TOPIC), CallOptions.DEFAULT);
+        assertTrue(scheduledFlushes.isEmpty());
+        assertEquals(List.of(TOPIC, OTHER_TOPIC), topicsOf(first.join()));
+        assertEquals(List.of(THIRD_TOPIC), topicsOf(second.join()));
+
+        // a late expiry of the window of the already sent batch must not send it again
+        expireWindows();
+        verify(delegate, times(1)).getLastMessages(any(UUriBatch.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test requests using different call options are not combined")
+    void testRequestsWithDifferentOptionsAreNotCombined() {
+        final var otherOptions = new CallOptions(1000, UPriority.UPRIORITY_CS5);
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(responseFor(TOPIC)));
+
+        final var first = twinClient.getLastMessages(batch(TOPIC)).toCompletableFuture();
+        final var second = twinClient.getLastMessages(batch(TOPIC), otherOptions).toCompletableFuture();
+        expireWindows();
+
+        verify(delegate).getLastMessages(batch(TOPIC), CallOptions.DEFAULT);
+        verify(delegate).getLastMessages(batch(TOPIC), otherOptions);
+        assertEquals(List.of(TOPIC), topicsOf(first.join()));
+        assertEquals(List.of(TOPIC), topicsOf(second.join()));
+    }
+
+    @Test
+    @DisplayName("Test responses for wildcard topics are returned to the callers whose topics match")
+    void testWildcardResponsesAreSplit() {
+        final var wildcard = UUri.newBuilder(TOPIC).setResourceId(0xFFFF).build();
+        when(delegate.getLastMessages(any(UUriBatch.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(responseFor(TOPIC, OTHER_TOPIC)));
+
+        final var first = twinClient.getLastMessages(batch(wildcard)).toCompletableFuture();
+        final var second = twinClient.getLastMessages(batch(OTHER_TOPIC)).toCompletableFuture();
+        expireWindows();
+
+        assertEquals(List.of(TOPIC, OTHER_TOPIC), topicsOf(first.join()));
+        assertEquals(List.of(OTHER_TOPIC), topicsOf(second.join()));
+    }
+
+    @Test
+    @DisplayName("Test a failed request fails all requests of the batch")
+    void testFailureIsPropagatedToAllCallers() {
+        when(delegate.getLastMessages(any(UUriBatch.class), eq(CallOptions.DEFAULT)))
+            .thenReturn(CompletableFuture.failedFuture(new UStatusException(UCode.UNAVAILABLE, "down")));
+
+        final var first = twinClient.getLastMessages(batch(TOPIC)).toCompletableFuture();
+        final var second = twinClient.getLastMessages(batch(OTHER_TOPIC)).toCompletableFuture();
+        expireWindows();
+
+        for (var result : List.of(first, second)) {
+            final var exception = assertThrows(CompletionException.class, result::join);
+            assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Test requests without topics are rejected")
+    void testEmptyRequestIsRejected() {
+        final var exception = assertThrows(CompletionException.class,
+            () -> twinClient.getLastMessages(UUriBatch.getDefaultInstance()).toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+        assertTrue(scheduledFlushes.isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AsyncRequestHandlerTest {
+
+    @Test
+    @DisplayName("Test blocking handleRequest returns the outcome of the asynchronous processing")
+    void testHandleRequestReturnsPayload() {
+        final AsyncRequestHandler handler = request -> CompletableFuture.completedFuture(UPayload.EMPTY);
+        assertEquals(UPayload.EMPTY, handler.handleRequest(UMessage.getDefaultInstance()));
+    }
+
+    @Test
+    @DisplayName("Test blocking handleRequest throws UStatusException of failed asynchronous processing")
+    void testHandleRequestThrowsUStatusException() {
+        final AsyncRequestHandler handler = request -> CompletableFuture.failedFuture(
+            new UStatusException(UCode.NOT_FOUND, "no such resource"));
+        final var exception = assertThrows(
+            UStatusException.class,
+            () -> handler.handleRequest(UMessage.getDefaultInstance()));
+        assertEquals(UCode.NOT_FOUND, exception.getCode());
+    }
+
+    @Test
+    @DisplayName("Test blocking handleRequest propagates other errors of asynchronous processing")
+    void testHandleRequestPropagatesOtherErrors() {
+        final AsyncRequestHandler handler = request -> CompletableFuture.failedFuture(
+            new IllegalStateException("not ready"));
+        assertThrows(CompletionException.class, () -> handler.handleRequest(UMessage.getDefaultInstance()));
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkInvokerTest {
+
+    @Test
+    @DisplayName("Test invokeAll limits the number of operations in progress")
+    void testInvokeAllLimitsConcurrency() {
+        final List<CompletableFuture<Integer>> started = new ArrayList<>();
+        final var outcomes = BulkInvoker.invokeAll(
+            List.of(1, 2, 3, 4, 5),
+            2,
+            key -> {
+                final var future = new CompletableFuture<Integer>();
+                started.add(future);
+                return future;
+            });
+
+        assertEquals(List.of(1, 2, 3, 4, 5), new ArrayList<>(outcomes.keySet()));
+        assertEquals(2, started.size());
+
+        started.get(1).complete(20);
+        assertEquals(3, started.size());
+        assertEquals(20, outcomes.get(2).toCompletableFuture().join());
+        assertFalse(outcomes.get(1).toCompletableFuture().isDone());
+
+        started.get(0).complete(10);
+        started.get(2).complete(30);
+        assertEquals(5, started.size());
+        started.get(3).complete(40);
+        started.get(4).complete(50);
+
+        for (int key = 1; key <= 5; key++) {
+            assertEquals(key * 10, outcomes.get(key).toCompletableFuture().join());
+        }
+    }
+
+    @Test
+    @DisplayName("Test invokeAll reports failures per key")
+    void testInvokeAllReportsFailuresPerKey() {
+        final var outcomes = BulkInvoker.invokeAll(
+            List.of("ok", "failed", "thrown", "ok"),
+            1,
+            key -> {
+                switch (key) {
+                    case "failed":
+                        return CompletableFuture.<String>failedFuture(
+                            new UStatusException(UCode.UNAVAILABLE, "not connected"));
+                    case "thrown":
+                        throw new IllegalStateException("cannot perform operation");
+                    default:
+                        return CompletableFuture.completedFuture(key);
+                }
+            });
+
+        // duplicate keys are ignored
+        assertEquals(3, outcomes.size());
+        assertEquals("ok", outcomes.get("ok").toCompletableFuture().join());
+        var exception = assertThrows(
+            CompletionException.class,
+            () -> outcomes.get("failed").toCompletableFuture().join());
+        assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+        exception = assertThrows(
+            CompletionException.class,
+            () -> outcomes.get("thrown").toCompletableFuture().join());
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("Test invokeAll does not overflow the stack for operations completing immediately")
+    void testInvokeAllSupportsSynchronousOperations() {
+        final var keys = IntStream.range(0, 100_000).boxed().toList();
+        final var outcomes = BulkInvoker.invokeAll(keys, 4, CompletableFuture::completedFuture);
+
+        assertEquals(keys.size(), outcomes.size());
+        assertTrue(outcomes.values().stream()
+            .map(CompletionStage::toCompletableFuture)
+            .allMatch(CompletableFuture::isDone));
+    }
+
+    @Test
+    @DisplayName("Test invokeAll rejects invalid arguments")
+    void testInvokeAllRejectsInvalidArguments() {
+        assertThrows(
+            NullPointerException.class,
+            () -> BulkInvoker.invokeAll(null, 1, CompletableFuture::completedFuture));
+        assertThrows(
+            NullPointerException.class,
+            () -> BulkInvoker.invokeAll(List.of(1), 1, null));
+        assertThrows(
+            NullPointerException.class,
+            () -> BulkInvoker.invokeAll(Arrays.asList(1, null), 1, CompletableFuture::completedFuture));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BulkInvoker.invokeAll(List.of(1), 0, CompletableFuture::completedFuture));
+    }
+}
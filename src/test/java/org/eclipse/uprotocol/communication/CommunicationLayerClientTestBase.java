@@ -15,6 +15,7 @@ package org.eclipse.uprotocol.communication;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -64,6 +65,8 @@ class CommunicationLayerClientTestBase {
             .thenReturn(CompletableFuture.completedFuture(null));
         Mockito.lenient().when(transport.send(any(UMessage.class)))
             .thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.lenient().when(transport.sendAll(any(List.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
         uriProvider = StaticUriProvider.of(TRANSPORT_SOURCE);
         responseListener = ArgumentCaptor.forClass(UListener.class);
         requestMessage = ArgumentCaptor.forClass(UMessage.class);
@@ -0,0 +1,185 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.google.protobuf.Int32Value;
+
+@ExtendWith(MockitoExtension.class)
+class ConflatingPublisherTest {
+    private static final int SPEED = 0x8001;
+    private static final int BATTERY = 0x8002;
+
+    @Mock
+    private Publisher delegate;
+    private final List<Runnable> scheduledActions = new ArrayList<>();
+    private final DeadlineScheduler scheduler = (timeout, unit, action) -> {
+        scheduledActions.add(action);
+        return null;
+    };
+
+    private static UPayload value(int value) {
+        return UPayload.pack(Int32Value.of(value));
+    }
+
+    private void runScheduledActions() {
+        final var actions = List.copyOf(scheduledActions);
+        scheduledActions.clear();
+        actions.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Test constructor rejects invalid arguments")
+    void testConstructorRejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ConflatingPublisher(null));
+        assertThrows(NullPointerException.class, () -> new ConflatingPublisher(delegate, 10, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ConflatingPublisher(delegate, -1, TimeUnit.MILLISECONDS));
+        assertThrows(NullPointerException.class,
+            () -> new ConflatingPublisher(delegate, 10, TimeUnit.MILLISECONDS, scheduler, null));
+    }
+
+    @Test
+    @DisplayName("Test pending payload is replaced while the previous message is outstanding")
+    void testPayloadIsReplacedWhileOutstanding() {
+        final var firstSent = new CompletableFuture<Void>();
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(firstSent, CompletableFuture.completedFuture(null));
+        final var publisher = new ConflatingPublisher(delegate);
+
+        final var first = publisher.publish(SPEED, value(1)).toCompletableFuture();
+        final var second = publisher.publish(SPEED, value(2)).toCompletableFuture();
+        final var third = publisher.publish(SPEED, value(3)).toCompletableFuture();
+        verify(delegate).publish(SPEED, CallOptions.DEFAULT, value(1));
+        // both callers are waiting for the same pending value
+        assertSame(second, third);
+        assertFalse(second.isDone());
+
+        firstSent.complete(null);
+        assertTrue(first.isDone());
+        assertTrue(third.isDone());
+        verify(delegate).publish(SPEED, CallOptions.DEFAULT, value(3));
+        verify(delegate, never()).publish(SPEED, CallOptions.DEFAULT, value(2));
+    }
+
+    @Test
+    @DisplayName("Test topics are conflated independently of each other")
+    void testTopicsAreIndependent() {
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(new CompletableFuture<>());
+        final var publisher = new ConflatingPublisher(delegate);
+
+        publisher.publish(SPEED, value(1));
+        publisher.publish(BATTERY, value(80));
+
+        verify(delegate).publish(SPEED, CallOptions.DEFAULT, value(1));
+        verify(delegate).publish(BATTERY, CallOptions.DEFAULT, value(80));
+    }
+
+    @Test
+    @DisplayName("Test messages of a topic are published no more often than the min interval permits")
+    void testMinInterval() {
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        final var submittedTasks = new ArrayList<Runnable>();
+        final var publisher = new ConflatingPublisher(delegate, 1, TimeUnit.HOURS, scheduler, submittedTasks::add);
+
+        publisher.publish(SPEED, value(1)).toCompletableFuture().join();
+        final var second = publisher.publish(SPEED, value(2)).toCompletableFuture();
+        publisher.publish(SPEED, value(3));
+        verify(delegate, times(1)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+        assertEquals(1, scheduledActions.size());
+
+        runScheduledActions();
+        // the scheduler's thread must not be used for publishing the deferred payload
+        verify(delegate, times(1)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+        assertEquals(1, submittedTasks.size());
+        // the payload is still deferred while waiting for the executor
+        publisher.publish(SPEED, value(4));
+        verify(delegate, times(1)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+
+        submittedTasks.remove(0).run();
+        verify(delegate).publish(SPEED, CallOptions.DEFAULT, value(4));
+        assertTrue(second.isDone());
+        verify(delegate, times(2)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+    }
+
+    @Test
+    @DisplayName("Test deferred payload fails if the executor rejects publishing it")
+    void testRejectedDeferredPayloadFails() {
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        final var publisher = new ConflatingPublisher(delegate, 1, TimeUnit.HOURS, scheduler, task -> {
+            throw new RejectedExecutionException("shut down");
+        });
+
+        publisher.publish(SPEED, value(1)).toCompletableFuture().join();
+        final var second = publisher.publish(SPEED, value(2)).toCompletableFuture();
+        runScheduledActions();
+
+        final var exception = assertThrows(CompletionException.class, second::join);
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        verify(delegate, times(1)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+    }
+
+    @Test
+    @DisplayName("Test failure of the delegate is reported to the callers of the pending payload")
+    void testFailureIsPropagated() {
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(CompletableFuture.failedFuture(new UStatusException(UCode.UNAVAILABLE, "offline")));
+        final var publisher = new ConflatingPublisher(delegate);
+
+        final var result = publisher.publish(SPEED, value(1)).toCompletableFuture();
+        final var exception = assertThrows(CompletionException.class, result::join);
+        assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test publishAll only publishes the last payload")
+    void testPublishAllPublishesLastPayload() {
+        when(delegate.publish(anyInt(), any(CallOptions.class), any(UPayload.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        final var publisher = new ConflatingPublisher(delegate);
+
+        publisher.publishAll(SPEED, List.of(value(1), value(2))).toCompletableFuture().join();
+        publisher.publishAll(SPEED, List.of()).toCompletableFuture().join();
+
+        verify(delegate).publish(SPEED, CallOptions.DEFAULT, value(2));
+        verify(delegate, times(1)).publish(anyInt(), any(CallOptions.class), any(UPayload.class));
+    }
+}
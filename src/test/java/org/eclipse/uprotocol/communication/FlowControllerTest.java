@@ -0,0 +1,93 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FlowControllerTest {
+
+    @Test
+    @DisplayName("Test constructor rejects invalid limits")
+    void testConstructorRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(0));
+        assertThrows(IllegalArgumentException.class, () -> new FlowController(10, 0));
+    }
+
+    @Test
+    @DisplayName("Test credits are granted up to the message limit")
+    void testMessageLimit() {
+        final var controller = new FlowController(2);
+        assertTrue(controller.tryAcquire(1, 100));
+        assertTrue(controller.acquire(1, 100).toCompletableFuture().isDone());
+        assertFalse(controller.tryAcquire(1, 100));
+
+        final var waiting = controller.acquire(1, 100).toCompletableFuture();
+        assertFalse(waiting.isDone());
+        assertEquals(1, controller.getWaitingCount());
+
+        controller.release(1, 100);
+        assertTrue(waiting.isDone());
+        assertEquals(2, controller.getOutstandingMessages());
+        assertEquals(200, controller.getOutstandingBytes());
+        assertEquals(0, controller.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("Test credits are granted up to the byte limit in the order of the requests")
+    void testByteLimitIsFair() {
+        final var controller = new FlowController(100, 1000);
+        assertTrue(controller.tryAcquire(1, 800));
+        final var large = controller.acquire(1, 500).toCompletableFuture();
+        // must not overtake the waiting request, even though it would fit
+        assertFalse(controller.tryAcquire(1, 100));
+        final var small = controller.acquire(1, 100).toCompletableFuture();
+        assertFalse(large.isDone());
+        assertFalse(small.isDone());
+
+        controller.release(1, 800);
+        assertTrue(large.isDone());
+        assertTrue(small.isDone());
+        assertEquals(600, controller.getOutstandingBytes());
+    }
+
+    @Test
+    @DisplayName("Test request exceeding the limits is granted once nothing else is outstanding")
+    void testOversizedRequest() {
+        final var controller = new FlowController(10, 1000);
+        assertTrue(controller.tryAcquire(1, 10));
+        final var oversized = controller.acquire(20, 5000).toCompletableFuture();
+        assertFalse(oversized.isDone());
+
+        controller.release(1, 10);
+        assertTrue(oversized.isDone());
+        assertFalse(controller.tryAcquire(1, 1));
+
+        controller.release(20, 5000);
+        assertTrue(controller.tryAcquire(1, 1));
+    }
+
+    @Test
+    @DisplayName("Test negative amounts are rejected")
+    void testNegativeAmountsAreRejected() {
+        final var controller = new FlowController(10);
+        assertThrows(IllegalArgumentException.class, () -> controller.acquire(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> controller.tryAcquire(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> controller.release(-1, 0));
+    }
+}
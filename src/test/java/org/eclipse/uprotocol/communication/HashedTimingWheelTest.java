@@ -0,0 +1,111 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // use a small wheel so that deadlines span multiple rounds
+        scheduler = new HashedTimingWheel(5, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    @DisplayName("Test action is performed once its deadline has expired")
+    void testActionIsPerformedAfterDeadline() throws InterruptedException {
+        final var expired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final var deadline = scheduler.schedule(100, TimeUnit.MILLISECONDS, expired::countDown);
+
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        assertTrue(deadline.isExpired());
+        assertFalse(deadline.cancel());
+    }
+
+    @Test
+    @DisplayName("Test action of cancelled deadline is not performed")
+    void testCancelledActionIsNotPerformed() throws InterruptedException {
+        final var performed = new AtomicInteger();
+        final var cancelled = scheduler.schedule(20, TimeUnit.MILLISECONDS, performed::incrementAndGet);
+        final var expired = new CountDownLatch(1);
+        scheduler.schedule(60, TimeUnit.MILLISECONDS, expired::countDown);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+        assertEquals(0, performed.get());
+        assertFalse(cancelled.isExpired());
+    }
+
+    @Test
+    @DisplayName("Test expiring many deadlines in bulk")
+    void testManyDeadlinesExpire() throws InterruptedException {
+        final int count = 10_000;
+        final var expired = new CountDownLatch(count / 2);
+        for (int i = 0; i < count; i++) {
+            final var deadline = scheduler.schedule(i % 50, TimeUnit.MILLISECONDS, expired::countDown);
+            if (i % 2 == 1) {
+                deadline.cancel();
+            }
+        }
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Test failing action does not affect other actions")
+    void testFailingActionDoesNotStopScheduler() throws InterruptedException {
+        scheduler.schedule(10, TimeUnit.MILLISECONDS, () -> {
+            throw new IllegalStateException("failed");
+        });
+        final var expired = new CountDownLatch(1);
+        scheduler.schedule(30, TimeUnit.MILLISECONDS, expired::countDown);
+        assertTrue(expired.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Test scheduling deadline fails after scheduler has been closed")
+    void testScheduleFailsWhenClosed() {
+        scheduler.close();
+        assertThrows(IllegalStateException.class, () -> scheduler.schedule(10, TimeUnit.MILLISECONDS, () -> { }));
+    }
+
+    @Test
+    @DisplayName("Test creating scheduler with invalid arguments")
+    void testConstructorFailsForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel(0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 0));
+        assertThrows(NullPointerException.class, () -> new HashedTimingWheel(10, null, 8));
+    }
+}
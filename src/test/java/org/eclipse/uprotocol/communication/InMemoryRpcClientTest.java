@@ -17,13 +17,16 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.concurrent.CompletableFuture;
@@ -41,6 +44,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 
 import com.google.common.truth.Truth;
 import com.google.protobuf.ByteString;
@@ -115,6 +119,43 @@ class InMemoryRpcClientTest extends CommunicationLayerClientTestBase {
         );
     }
 
+    @Test
+    @DisplayName("Test request is failed by deadline scheduler and its deadline is cancelled on response")
+    @SuppressWarnings("unchecked")
+    void testInvokeMethodUsesDeadlineScheduler() {
+        final DeadlineScheduler scheduler = mock(DeadlineScheduler.class);
+        final DeadlineScheduler.Deadline deadline = mock(DeadlineScheduler.Deadline.class);
+        final ArgumentCaptor<Runnable> expiryAction = ArgumentCaptor.forClass(Runnable.class);
+        when(scheduler.schedule(anyLong(), eq(TimeUnit.MILLISECONDS), expiryAction.capture())).thenReturn(deadline);
+        final CallOptions options = new CallOptions(3000, UPriority.UPRIORITY_CS5, null);
+
+        RpcClient rpcClient = new InMemoryRpcClient(transport, uriProvider, scheduler);
+        verify(transport).registerListener(any(UUri.class), any(Optional.class), responseListener.capture());
+
+        // the first request times out
+        var timedOutResponse = rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, options);
+        verify(scheduler).schedule(eq(3000L), eq(TimeUnit.MILLISECONDS), any(Runnable.class));
+        verify(transport).send(requestMessage.capture());
+        expiryAction.getValue().run();
+        var exception = assertThrows(ExecutionException.class, () -> timedOutResponse.toCompletableFuture().get());
+        assertEquals(UCode.DEADLINE_EXCEEDED, ((UStatusException) exception.getCause()).getCode());
+
+        // a response arriving after the deadline has expired is unexpected
+        final Consumer<UMessage> unexpectedMessageHandler = mock(Consumer.class);
+        ((InMemoryRpcClient) rpcClient).setUnexpectedMessageHandler(unexpectedMessageHandler);
+        var lateResponse = UMessageBuilder.response(requestMessage.getValue().getAttributes()).build();
+        responseListener.getValue().onReceive(lateResponse);
+        verify(unexpectedMessageHandler).accept(lateResponse);
+
+        // the second request's deadline is cancelled when the response arrives
+        var response = rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, options);
+        verify(transport, times(2)).send(requestMessage.capture());
+        responseListener.getValue().onReceive(
+            UMessageBuilder.response(requestMessage.getValue().getAttributes()).build());
+        assertDoesNotThrow(() -> response.toCompletableFuture().get());
+        verify(deadline).cancel();
+    }
+
     @Test
     @DisplayName("Test invoking method fails for transport error")
     void testInvokeMethodFailsForTransportError() {
@@ -161,6 +202,89 @@ class InMemoryRpcClientTest extends CommunicationLayerClientTestBase {
         );
     }
 
+    @Test
+    @DisplayName("Test RPC client records outcome and latency of requests in metrics")
+    @SuppressWarnings("unchecked")
+    void testInvokeMethodRecordsMetrics() {
+        final var metrics = new InMemoryUMetrics();
+        RpcClient rpcClient = new InMemoryRpcClient(transport, uriProvider, DeadlineScheduler.getDefault(), metrics);
+        verify(transport).registerListener(any(UUri.class), any(Optional.class), responseListener.capture());
+
+        rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, CallOptions.DEFAULT);
+        rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, CallOptions.DEFAULT);
+        verify(transport, times(2)).send(requestMessage.capture());
+        final var stats = metrics.getClientStats(METHOD_URI).orElseThrow();
+        assertEquals(2, stats.getInFlightCount());
+
+        responseListener.getValue().onReceive(
+            UMessageBuilder.response(requestMessage.getAllValues().get(0).getAttributes()).build());
+        responseListener.getValue().onReceive(
+            UMessageBuilder.response(requestMessage.getAllValues().get(1).getAttributes())
+                .withCommStatus(UCode.UNAVAILABLE)
+                .build());
+
+        assertEquals(0, stats.getInFlightCount());
+        assertEquals(1, stats.getStatusCount(UCode.OK));
+        assertEquals(1, stats.getStatusCount(UCode.UNAVAILABLE));
+        assertEquals(2, stats.getLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("Test RPC client records timed out requests in metrics")
+    void testInvokeMethodRecordsTimeoutInMetrics() {
+        final var metrics = new InMemoryUMetrics();
+        RpcClient rpcClient = new InMemoryRpcClient(transport, uriProvider, DeadlineScheduler.getDefault(), metrics);
+
+        final var response = rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, new CallOptions(50));
+        assertThrows(ExecutionException.class, () -> response.toCompletableFuture().get());
+
+        final var stats = metrics.getClientStats(METHOD_URI).orElseThrow();
+        assertEquals(0, stats.getInFlightCount());
+        assertEquals(1, stats.getTimeoutCount());
+    }
+
+    @Test
+    @DisplayName("Test RPC client completes a response with an unrecognized commstatus")
+    @SuppressWarnings("unchecked")
+    void testInvokeMethodWithUnrecognizedCommStatus() {
+        final var metrics = new InMemoryUMetrics();
+        RpcClient rpcClient = new InMemoryRpcClient(transport, uriProvider, DeadlineScheduler.getDefault(), metrics);
+        verify(transport).registerListener(any(UUri.class), any(Optional.class), responseListener.capture());
+
+        final var response = rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, CallOptions.DEFAULT);
+        verify(transport).send(requestMessage.capture());
+        final var responseMessage = UMessageBuilder.response(requestMessage.getValue().getAttributes()).build();
+        responseListener.getValue().onReceive(responseMessage.toBuilder()
+            .setAttributes(responseMessage.getAttributes().toBuilder().setCommstatusValue(999))
+            .build());
+
+        var exception = assertThrows(ExecutionException.class, () -> response.toCompletableFuture().get());
+        Truth.assertThat(exception).hasCauseThat().isInstanceOf(UStatusException.class);
+        assertEquals(999, ((UStatusException) exception.getCause()).getStatus().getCodeValue());
+        assertEquals(0, metrics.getClientStats(METHOD_URI).orElseThrow().getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Test RPC client completes a response if recording metrics fails")
+    @SuppressWarnings("unchecked")
+    void testInvokeMethodWithFailingMetrics() {
+        final var metrics = new UMetrics() {
+            @Override
+            public void rpcCompleted(UUri method, UCode status, long latencyNanos) {
+                throw new IllegalStateException("metrics failure");
+            }
+        };
+        RpcClient rpcClient = new InMemoryRpcClient(transport, uriProvider, DeadlineScheduler.getDefault(), metrics);
+        verify(transport).registerListener(any(UUri.class), any(Optional.class), responseListener.capture());
+
+        final var response = rpcClient.invokeMethod(METHOD_URI, UPayload.EMPTY, CallOptions.DEFAULT);
+        verify(transport).send(requestMessage.capture());
+        responseListener.getValue().onReceive(
+            UMessageBuilder.response(requestMessage.getValue().getAttributes()).build());
+
+        assertDoesNotThrow(() -> response.toCompletableFuture().get(1, TimeUnit.SECONDS));
+    }
+
     static Stream<Arguments> unexpectedMessageHandlerProvider() {
         return Stream.of(
             Arguments.of((Consumer<UMessage>) null),
@@ -22,15 +22,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.eclipse.uprotocol.transport.UListener;
 import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
 import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
 import org.eclipse.uprotocol.v1.UAttributes;
 import org.eclipse.uprotocol.v1.UCode;
 import org.eclipse.uprotocol.v1.UMessage;
@@ -362,4 +367,177 @@ class InMemoryRpcServerTest extends CommunicationLayerClientTestBase {
         assertEquals(UCode.OK, responseMessage.getValue().getAttributes().getCommstatus());
         assertEquals(responsePayload.data(), responseMessage.getValue().getPayload());
     }
+
+    private UListener registerRequestListener(InMemoryRpcServer server, RequestHandler requestHandler, int limit) {
+        server.registerRequestHandler(UriFactory.ANY, METHOD_URI.getResourceId(), requestHandler, limit)
+            .toCompletableFuture().join();
+        final ArgumentCaptor<UListener> requestListener = ArgumentCaptor.forClass(UListener.class);
+        verify(transport).registerListener(eq(UriFactory.ANY), eq(Optional.of(METHOD_URI)), requestListener.capture());
+        return requestListener.getValue();
+    }
+
+    @Test
+    @DisplayName("Test response is sent when the stage returned by an asynchronous handler completes")
+    void testHandleRequestWithAsyncHandler() {
+        final var responsePayload = UPayload.pack(
+            ByteString.copyFromUtf8("Hello again"),
+            UPayloadFormat.UPAYLOAD_FORMAT_TEXT);
+        final var result = new CompletableFuture<UPayload>();
+        final AsyncRequestHandler asyncHandler = request -> result;
+
+        var server = new InMemoryRpcServer(transport, uriProvider);
+        final var requestListener = registerRequestListener(
+            server, asyncHandler, InMemoryRpcServer.UNLIMITED_CONCURRENT_REQUESTS);
+
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        verify(transport, never()).send(any(UMessage.class));
+
+        result.complete(responsePayload);
+        final ArgumentCaptor<UMessage> responseMessage = ArgumentCaptor.forClass(UMessage.class);
+        verify(transport).send(responseMessage.capture());
+        assertEquals(UCode.OK, responseMessage.getValue().getAttributes().getCommstatus());
+        assertEquals(responsePayload.data(), responseMessage.getValue().getPayload());
+    }
+
+    @Test
+    @DisplayName("Test error response is sent when the stage returned by an asynchronous handler fails")
+    void testHandleRequestWithFailingAsyncHandler() {
+        final AsyncRequestHandler asyncHandler = request -> CompletableFuture.failedFuture(
+            new UStatusException(UCode.UNAVAILABLE, "backend unavailable"));
+
+        var server = new InMemoryRpcServer(transport, uriProvider);
+        final var requestListener = registerRequestListener(
+            server, asyncHandler, InMemoryRpcServer.UNLIMITED_CONCURRENT_REQUESTS);
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+
+        final ArgumentCaptor<UMessage> responseMessage = ArgumentCaptor.forClass(UMessage.class);
+        verify(transport).send(responseMessage.capture());
+        assertEquals(UCode.UNAVAILABLE, responseMessage.getValue().getAttributes().getCommstatus());
+        assertEquals("backend unavailable", UPayload.unpack(responseMessage.getValue(), UStatus.class)
+            .get().getMessage());
+    }
+
+    @Test
+    @DisplayName("Test requests exceeding the maximum number of concurrent requests are rejected")
+    void testHandleRequestRejectsRequestsExceedingLimit() {
+        final var pendingResult = new CompletableFuture<UPayload>();
+        final AsyncRequestHandler asyncHandler = request -> pendingResult;
+
+        var server = new InMemoryRpcServer(transport, uriProvider);
+        final var requestListener = registerRequestListener(server, asyncHandler, 1);
+
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+
+        final ArgumentCaptor<UMessage> responseMessage = ArgumentCaptor.forClass(UMessage.class);
+        verify(transport).send(responseMessage.capture());
+        assertEquals(UCode.RESOURCE_EXHAUSTED, responseMessage.getValue().getAttributes().getCommstatus());
+
+        // once the first request has been processed, the next one is accepted again
+        pendingResult.complete(UPayload.EMPTY);
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        final ArgumentCaptor<UMessage> responseMessages = ArgumentCaptor.forClass(UMessage.class);
+        verify(transport, times(3)).send(responseMessages.capture());
+        assertEquals(UCode.OK, responseMessages.getAllValues().get(1).getAttributes().getCommstatus());
+        assertEquals(UCode.OK, responseMessages.getAllValues().get(2).getAttributes().getCommstatus());
+    }
+
+    @Test
+    @DisplayName("Test request handlers are invoked using the configured executor")
+    void testHandleRequestUsesExecutor() {
+        final List<Runnable> tasks = new ArrayList<>();
+        when(handler.handleRequest(any(UMessage.class))).thenReturn(UPayload.EMPTY);
+
+        var server = new InMemoryRpcServer(transport, uriProvider, tasks::add, 10);
+        final var requestListener = registerRequestListener(server, handler, 10);
+        final var request = UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build();
+        requestListener.onReceive(request);
+        verify(handler, never()).handleRequest(any(UMessage.class));
+
+        tasks.forEach(Runnable::run);
+        verify(handler).handleRequest(request);
+        verify(transport).send(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test requests are rejected if the executor does not accept any more tasks")
+    void testHandleRequestRejectsRequestIfExecutorIsSaturated() {
+        var server = new InMemoryRpcServer(
+            transport,
+            uriProvider,
+            task -> {
+                throw new RejectedExecutionException("queue full");
+            },
+            InMemoryRpcServer.UNLIMITED_CONCURRENT_REQUESTS);
+        final var requestListener = registerRequestListener(server, handler, 10);
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+
+        verify(handler, never()).handleRequest(any(UMessage.class));
+        final ArgumentCaptor<UMessage> responseMessage = ArgumentCaptor.forClass(UMessage.class);
+        verify(transport).send(responseMessage.capture());
+        assertEquals(UCode.RESOURCE_EXHAUSTED, responseMessage.getValue().getAttributes().getCommstatus());
+    }
+
+    @Test
+    @DisplayName("Test registering a handler fails for invalid concurrency limit")
+    void testRegisterRequestHandlerFailsForInvalidLimit() {
+        var server = new InMemoryRpcServer(transport, uriProvider);
+        assertThrows(IllegalArgumentException.class, () -> server.registerRequestHandler(
+            UriFactory.ANY, METHOD_URI.getResourceId(), handler, 0));
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryRpcServer(transport, uriProvider, null, -1));
+    }
+
+    @Test
+    @DisplayName("Test expired requests are discarded without invoking the handler")
+    void testHandleRequestDiscardsExpiredRequests() {
+        final List<Runnable> tasks = new ArrayList<>();
+        var server = new InMemoryRpcServer(transport, uriProvider, tasks::add, 10);
+        final var requestListener = registerRequestListener(server, handler, 1);
+
+        final var expiredRequest = UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 1000).build();
+        final var expiredAttributes = UAttributes.newBuilder(expiredRequest.getAttributes())
+            .setId(UuidFactory.create(Instant.now().minusSeconds(2)))
+            .build();
+        requestListener.onReceive(UMessage.newBuilder(expiredRequest).setAttributes(expiredAttributes).build());
+        tasks.forEach(Runnable::run);
+
+        verify(handler, never()).handleRequest(any(UMessage.class));
+        verify(transport, never()).send(any(UMessage.class));
+        assertEquals(1, server.getExpiredRequestCount());
+
+        // the discarded request must not count against the concurrency limit
+        when(handler.handleRequest(any(UMessage.class))).thenReturn(UPayload.EMPTY);
+        tasks.clear();
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        tasks.forEach(Runnable::run);
+        verify(handler).handleRequest(any(UMessage.class));
+        verify(transport).send(any(UMessage.class));
+        assertEquals(1, server.getExpiredRequestCount());
+    }
+
+    @Test
+    @DisplayName("Test server records outcome and handler execution time of requests in metrics")
+    void testHandleRequestRecordsMetrics() {
+        final var metrics = new InMemoryUMetrics();
+        final var pendingResult = new CompletableFuture<UPayload>();
+        final AsyncRequestHandler asyncHandler = request -> pendingResult;
+
+        var server = new InMemoryRpcServer(
+            transport,
+            uriProvider,
+            null,
+            InMemoryRpcServer.UNLIMITED_CONCURRENT_REQUESTS,
+            metrics);
+        final var requestListener = registerRequestListener(server, asyncHandler, 1);
+
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        requestListener.onReceive(UMessageBuilder.request(uriProvider.getSource(), METHOD_URI, 5000).build());
+        final var stats = metrics.getServerStats(METHOD_URI).orElseThrow();
+        assertEquals(1, stats.getStatusCount(UCode.RESOURCE_EXHAUSTED));
+        assertEquals(0, stats.getStatusCount(UCode.OK));
+
+        pendingResult.completeExceptionally(new UStatusException(UCode.UNAVAILABLE, "backend unavailable"));
+        assertEquals(1, stats.getStatusCount(UCode.UNAVAILABLE));
+        assertEquals(2, stats.getLatency().getCount());
+    }
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -670,4 +672,219 @@ class InMemorySubscriberTest {
         notificationListener.getValue().onReceive(notificationMessage);
         verify(subscriptionChangeHandler, never()).handleSubscriptionChange(eq(TOPIC), any(SubscriptionStatus.class));
     }
+
+    @Test
+    @DisplayName("Test listeners subscribing to the same topic share a single subscription")
+    void testListenersShareSubscription() {
+        // GIVEN a USubscription client that succeeds to subscribe and unsubscribe
+        // but only responds to the subscription request once triggered
+        final var subscriptionResponse = new CompletableFuture<SubscriptionResponse>();
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class))).thenReturn(subscriptionResponse);
+        when(subscriptionClient.unsubscribe(any(UnsubscribeRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UnsubscribeResponse.newBuilder().build()));
+        // AND a Subscriber using that USubscription client
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier);
+        final var otherListener = mock(UListener.class);
+
+        // WHEN two listeners subscribe to the same topic concurrently
+        var firstAttempt = subscriber.subscribe(TOPIC, listener, Optional.of(subscriptionChangeHandler));
+        var secondAttempt = subscriber.subscribe(TOPIC, otherListener, Optional.of(subscriptionChangeHandler));
+        assertEquals(2, subscriber.getSubscriptionCount(TOPIC));
+        final var response = SubscriptionResponse.newBuilder()
+            .setTopic(TOPIC)
+            .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+            .build();
+        subscriptionResponse.complete(response);
+
+        // THEN both attempts succeed with the response to a single subscription request
+        assertEquals(response, firstAttempt.toCompletableFuture().join());
+        assertEquals(response, secondAttempt.toCompletableFuture().join());
+        verify(subscriptionClient, times(1)).subscribe(any(SubscriptionRequest.class));
+        // AND both listeners have been registered with the transport
+        verify(transport).registerListener(TOPIC, listener);
+        verify(transport).registerListener(TOPIC, otherListener);
+
+        // WHEN the first listener unsubscribes
+        subscriber.unsubscribe(TOPIC, listener).toCompletableFuture().join();
+
+        // THEN only the listener is unregistered from the transport
+        verify(transport).unregisterListener(TOPIC, listener);
+        verify(subscriptionClient, never()).unsubscribe(any(UnsubscribeRequest.class));
+        assertTrue(subscriber.hasSubscriptionChangeHandler(TOPIC));
+
+        // AND WHEN the last listener unsubscribes
+        subscriber.unsubscribe(TOPIC, otherListener).toCompletableFuture().join();
+
+        // THEN the USubscription service is informed
+        verify(transport).unregisterListener(TOPIC, otherListener);
+        verify(subscriptionClient, times(1)).unsubscribe(argThat(req -> req.getTopic().equals(TOPIC)));
+        assertFalse(subscriber.hasSubscriptionChangeHandler(TOPIC));
+        assertEquals(0, subscriber.getSubscriptionCount(TOPIC));
+    }
+
+    @Test
+    @DisplayName("Test subscribing the same listener twice registers it only once")
+    void testSubscribingSameListenerTwice() {
+        // GIVEN a USubscription client that succeeds to subscribe and unsubscribe
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SubscriptionResponse.newBuilder()
+                .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+                .build()));
+        when(subscriptionClient.unsubscribe(any(UnsubscribeRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UnsubscribeResponse.newBuilder().build()));
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier);
+
+        // WHEN the same listener subscribes to a topic twice
+        subscriber.subscribe(TOPIC, listener, Optional.empty()).toCompletableFuture().join();
+        subscriber.subscribe(TOPIC, listener, Optional.empty()).toCompletableFuture().join();
+
+        // THEN the listener is registered with the transport only once
+        verify(transport, times(1)).registerListener(TOPIC, listener);
+        assertEquals(1, subscriber.getSubscriptionCount(TOPIC));
+
+        // AND a single unsubscribe removes the subscription
+        subscriber.unsubscribe(TOPIC, listener).toCompletableFuture().join();
+        verify(transport, times(1)).unregisterListener(TOPIC, listener);
+        verify(subscriptionClient, times(1)).unsubscribe(argThat(req -> req.getTopic().equals(TOPIC)));
+        assertEquals(0, subscriber.getSubscriptionCount(TOPIC));
+    }
+
+    @Test
+    @DisplayName("Test unsubscribing a listener that is not subscribed to a shared topic fails")
+    void testUnsubscribeFailsForListenerNotSubscribedToSharedTopic() {
+        // GIVEN a Subscriber having a listener subscribed to a topic
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SubscriptionResponse.newBuilder()
+                .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+                .build()));
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier);
+        subscriber.subscribe(TOPIC, listener, Optional.empty()).toCompletableFuture().join();
+
+        // WHEN a different listener unsubscribes from the topic
+        var attempt = subscriber.unsubscribe(TOPIC, mock(UListener.class));
+
+        // THEN the attempt fails
+        var exception = assertThrows(CompletionException.class, () -> attempt.toCompletableFuture().join());
+        assertEquals(UCode.NOT_FOUND, ((UStatusException) exception.getCause()).getCode());
+        // AND the subscription is kept
+        verify(subscriptionClient, never()).unsubscribe(any(UnsubscribeRequest.class));
+        assertEquals(1, subscriber.getSubscriptionCount(TOPIC));
+    }
+
+    @Test
+    @DisplayName("Test the last listener can unsubscribe again after the USubscription service has failed")
+    void testUnsubscribeOfLastListenerCanBeRetried() {
+        // GIVEN a Subscriber having a listener subscribed to a topic
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SubscriptionResponse.newBuilder()
+                .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+                .build()));
+        // AND a USubscription client that fails to unsubscribe on the first attempt only
+        when(subscriptionClient.unsubscribe(any(UnsubscribeRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new UStatusException(UCode.UNAVAILABLE, "not connected")))
+            .thenReturn(CompletableFuture.completedFuture(UnsubscribeResponse.newBuilder().build()));
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier);
+        subscriber.subscribe(TOPIC, listener, Optional.empty()).toCompletableFuture().join();
+
+        // WHEN the listener unsubscribes
+        var attempt = subscriber.unsubscribe(TOPIC, listener);
+
+        // THEN the first attempt fails
+        var exception = assertThrows(CompletionException.class, () -> attempt.toCompletableFuture().join());
+        assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+        assertEquals(1, subscriber.getSubscriptionCount(TOPIC));
+        verify(transport, never()).unregisterListener(TOPIC, listener);
+
+        // AND the second attempt succeeds
+        subscriber.unsubscribe(TOPIC, listener).toCompletableFuture().join();
+        verify(subscriptionClient, times(2)).unsubscribe(any(UnsubscribeRequest.class));
+        verify(transport).unregisterListener(TOPIC, listener);
+        assertEquals(0, subscriber.getSubscriptionCount(TOPIC));
+    }
+
+    @Test
+    @DisplayName("Test subscribing to many topics limits the number of concurrent subscription requests")
+    void testSubscribeAllLimitsConcurrentRequests() {
+        // GIVEN a USubscription client which only responds to requests once triggered
+        final List<CompletableFuture<SubscriptionResponse>> requests = new ArrayList<>();
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class))).thenAnswer(invocation -> {
+            final var response = new CompletableFuture<SubscriptionResponse>();
+            requests.add(response);
+            return response;
+        });
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier);
+        final var topics = List.of(
+            TOPIC,
+            UUri.newBuilder(TOPIC).setResourceId(0x8001).build(),
+            UUri.newBuilder(TOPIC).setResourceId(0x8002).build());
+
+        // WHEN subscribing to three topics with at most two requests in flight
+        var outcomes = subscriber.subscribeAll(topics, listener, Optional.empty(), 2);
+
+        // THEN only two requests are sent
+        assertEquals(2, requests.size());
+        // AND the third one is sent once a response has been received
+        requests.get(0).complete(SubscriptionResponse.newBuilder()
+            .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+            .build());
+        assertEquals(3, requests.size());
+        requests.get(1).completeExceptionally(new UStatusException(UCode.UNAVAILABLE, "not connected"));
+        requests.get(2).complete(SubscriptionResponse.newBuilder()
+            .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBE_PENDING))
+            .build());
+
+        // AND the outcome is reported per topic
+        assertEquals(topics, List.copyOf(outcomes.keySet()));
+        outcomes.get(topics.get(0)).toCompletableFuture().join();
+        var exception = assertThrows(
+            CompletionException.class,
+            () -> outcomes.get(topics.get(1)).toCompletableFuture().join());
+        assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+        outcomes.get(topics.get(2)).toCompletableFuture().join();
+        verify(transport).registerListener(topics.get(0), listener);
+        verify(transport, never()).registerListener(topics.get(1), listener);
+        verify(transport).registerListener(topics.get(2), listener);
+
+        // AND WHEN unsubscribing from all topics
+        when(subscriptionClient.unsubscribe(any(UnsubscribeRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UnsubscribeResponse.newBuilder().build()));
+        var unsubscribed = subscriber.unsubscribeAll(List.of(topics.get(0), topics.get(2)), listener, 2);
+
+        // THEN the listener is unregistered for each topic
+        unsubscribed.values().forEach(stage -> stage.toCompletableFuture().join());
+        verify(subscriptionClient, times(2)).unsubscribe(any(UnsubscribeRequest.class));
+        verify(transport).unregisterListener(topics.get(0), listener);
+        verify(transport).unregisterListener(topics.get(2), listener);
+    }
+
+    @Test
+    @DisplayName("Test subscriber records the time taken by listeners to process events in metrics")
+    void testSubscribeRecordsDispatchTimes() {
+        // GIVEN a USubscription client that succeeds to subscribe and unsubscribe
+        when(subscriptionClient.subscribe(any(SubscriptionRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SubscriptionResponse.newBuilder()
+                .setStatus(SubscriptionStatus.newBuilder().setState(State.SUBSCRIBED))
+                .build()));
+        when(subscriptionClient.unsubscribe(any(UnsubscribeRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(UnsubscribeResponse.newBuilder().build()));
+        // AND a Subscriber recording metrics
+        final var metrics = new InMemoryUMetrics();
+        var subscriber = new InMemorySubscriber(transport, subscriptionClient, notifier, metrics);
+
+        // WHEN subscribing to a topic
+        subscriber.subscribe(TOPIC, listener, Optional.empty()).toCompletableFuture().join();
+        final ArgumentCaptor<UListener> registeredListener = ArgumentCaptor.forClass(UListener.class);
+        verify(transport).registerListener(eq(TOPIC), registeredListener.capture());
+
+        // THEN events received by the registered listener are forwarded to the subscriber's listener
+        final var event = UMessageBuilder.publish(TOPIC).build();
+        registeredListener.getValue().onReceive(event);
+        verify(listener).onReceive(event);
+        // AND the dispatching of the event has been recorded
+        assertEquals(1, metrics.getDispatchTimes(TOPIC).orElseThrow().getCount());
+
+        // AND the same listener is unregistered when unsubscribing
+        subscriber.unsubscribe(TOPIC, listener).toCompletableFuture().join();
+        verify(transport).unregisterListener(TOPIC, registeredListener.getValue());
+    }
 }
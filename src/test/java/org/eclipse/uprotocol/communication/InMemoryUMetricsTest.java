@@ -0,0 +1,168 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryUMetricsTest {
+    private static final UUri METHOD = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x1000)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x0001)
+        .build();
+    private static final UUri TOPIC = UUri.newBuilder(METHOD).setResourceId(0x8000).build();
+
+    @Test
+    @DisplayName("Test default metrics discard all values if no implementation has been registered")
+    void testGetDefaultReturnsNoop() {
+        assertEquals(UMetrics.NOOP, UMetrics.getDefault());
+    }
+
+    @Test
+    @DisplayName("Test recording RPC client metrics")
+    void testRpcClientStats() {
+        final var metrics = new InMemoryUMetrics();
+        assertTrue(metrics.getClientStats(METHOD).isEmpty());
+
+        metrics.rpcStarted(METHOD);
+        metrics.rpcStarted(METHOD);
+        metrics.rpcStarted(METHOD);
+        final var stats = metrics.getClientStats(METHOD).orElseThrow();
+        assertEquals(3, stats.getInFlightCount());
+
+        metrics.rpcCompleted(METHOD, UCode.OK, 1_000);
+        metrics.rpcCompleted(METHOD, UCode.DEADLINE_EXCEEDED, 5_000_000);
+        assertEquals(1, stats.getInFlightCount());
+        assertEquals(1, stats.getStatusCount(UCode.OK));
+        assertEquals(1, stats.getTimeoutCount());
+        assertEquals(0, stats.getStatusCount(UCode.INTERNAL));
+        assertEquals(2, stats.getLatency().getCount());
+        assertEquals(5_001_000, stats.getLatency().getTotalNanos());
+        assertTrue(metrics.getServerStats(METHOD).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test recording an RPC outcome with an unrecognized status")
+    void testRpcClientStatsWithUnrecognizedStatus() {
+        final var metrics = new InMemoryUMetrics();
+        metrics.rpcStarted(METHOD);
+        metrics.rpcCompleted(METHOD, UCode.UNRECOGNIZED, 1_000);
+
+        final var stats = metrics.getClientStats(METHOD).orElseThrow();
+        assertEquals(0, stats.getInFlightCount());
+        assertEquals(0, stats.getStatusCount(UCode.UNRECOGNIZED));
+        assertEquals(1, stats.getLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("Test recording RPC server metrics")
+    void testRpcServerStats() {
+        final var metrics = new InMemoryUMetrics();
+        metrics.requestHandled(METHOD, UCode.OK, 200);
+        metrics.requestHandled(METHOD, UCode.RESOURCE_EXHAUSTED, 0);
+
+        final var stats = metrics.getServerStats(METHOD).orElseThrow();
+        assertEquals(0, stats.getInFlightCount());
+        assertEquals(1, stats.getStatusCount(UCode.OK));
+        assertEquals(1, stats.getStatusCount(UCode.RESOURCE_EXHAUSTED));
+        assertTrue(metrics.getClientStats(METHOD).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test recording publish and notification counts")
+    void testMessageCounts() {
+        final var metrics = new InMemoryUMetrics();
+        assertEquals(0, metrics.getPublishedMessageCount(TOPIC));
+        assertEquals(0, metrics.getSentNotificationCount(TOPIC));
+
+        metrics.messagesPublished(TOPIC, 1);
+        metrics.messagesPublished(TOPIC, 5);
+        metrics.notificationsSent(TOPIC, METHOD, 2);
+        assertEquals(6, metrics.getPublishedMessageCount(TOPIC));
+        assertEquals(2, metrics.getSentNotificationCount(TOPIC));
+    }
+
+    @Test
+    @DisplayName("Test recording queueing delays and discarded tasks per priority class")
+    void testPriorityQueueStats() {
+        final var metrics = new InMemoryUMetrics();
+        metrics.taskDequeued(UPriority.UPRIORITY_CS6, 100);
+        metrics.taskDequeued(UPriority.UPRIORITY_CS6, 300);
+        metrics.taskDequeued(UPriority.UPRIORITY_CS0, 5_000);
+        metrics.taskShed(UPriority.UPRIORITY_CS0);
+        metrics.taskShed(UPriority.UNRECOGNIZED);
+
+        assertEquals(2, metrics.getQueueingDelays(UPriority.UPRIORITY_CS6).getCount());
+        assertEquals(400, metrics.getQueueingDelays(UPriority.UPRIORITY_CS6).getTotalNanos());
+        assertEquals(1, metrics.getQueueingDelays(UPriority.UPRIORITY_CS0).getCount());
+        assertEquals(0, metrics.getQueueingDelays(UPriority.UPRIORITY_CS3).getCount());
+        assertEquals(1, metrics.getShedTaskCount(UPriority.UPRIORITY_CS0));
+        assertEquals(0, metrics.getShedTaskCount(UPriority.UPRIORITY_CS6));
+        assertEquals(0, metrics.getShedTaskCount(UPriority.UNRECOGNIZED));
+        assertThrows(IllegalArgumentException.class, () -> metrics.getQueueingDelays(UPriority.UNRECOGNIZED));
+    }
+
+    @Test
+    @DisplayName("Test histogram assigns durations to buckets with exponentially growing bounds")
+    void testLatencyHistogramBuckets() {
+        final var metrics = new InMemoryUMetrics();
+        metrics.messageDispatched(TOPIC, 0);
+        metrics.messageDispatched(TOPIC, -5);
+        metrics.messageDispatched(TOPIC, 1);
+        metrics.messageDispatched(TOPIC, 2);
+        metrics.messageDispatched(TOPIC, 3);
+        metrics.messageDispatched(TOPIC, 1024);
+        metrics.messageDispatched(TOPIC, Long.MAX_VALUE);
+
+        final var histogram = metrics.getDispatchTimes(TOPIC).orElseThrow();
+        assertEquals(7, histogram.getCount());
+        assertEquals(2, histogram.getBucketCount(0));
+        assertEquals(1, histogram.getBucketCount(1));
+        assertEquals(2, histogram.getBucketCount(2));
+        assertEquals(1, histogram.getBucketCount(11));
+        assertEquals(1, histogram.getBucketCount(63));
+        assertThrows(IndexOutOfBoundsException.class, () -> histogram.getBucketCount(64));
+    }
+
+    @Test
+    @DisplayName("Test estimating percentiles of recorded durations")
+    void testLatencyHistogramPercentiles() {
+        final var metrics = new InMemoryUMetrics();
+        metrics.rpcStarted(METHOD);
+        final var histogram = metrics.getClientStats(METHOD).orElseThrow().getLatency();
+        assertEquals(0, histogram.getPercentileNanos(50));
+
+        for (int i = 0; i < 90; i++) {
+            metrics.rpcCompleted(METHOD, UCode.OK, 100);
+        }
+        for (int i = 0; i < 10; i++) {
+            metrics.rpcCompleted(METHOD, UCode.OK, 10_000);
+        }
+        assertEquals(127, histogram.getPercentileNanos(50));
+        assertEquals(127, histogram.getPercentileNanos(90));
+        assertEquals(16_383, histogram.getPercentileNanos(95));
+        assertEquals(16_383, histogram.getPercentileNanos(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(100.1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(Double.NaN));
+    }
+}
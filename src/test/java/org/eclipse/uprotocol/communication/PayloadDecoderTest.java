@@ -0,0 +1,104 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.StringValue;
+
+class PayloadDecoderTest {
+    private static final UUri URI = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x1000)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x8000)
+        .build();
+
+    @Test
+    @DisplayName("Test decoding payloads in all supported formats")
+    void testDecodeSupportedFormats() {
+        final var decoder = new PayloadDecoder();
+        assertEquals(URI, decoder.decode(UPayload.pack(URI), UUri.class));
+        assertEquals(URI, decoder.decode(UPayload.packToAny(URI), UUri.class));
+        assertEquals(URI, decoder.decode(
+            Any.pack(URI).toByteString(), UPayloadFormat.UPAYLOAD_FORMAT_UNSPECIFIED, UUri.class));
+        assertSame(Empty.getDefaultInstance(), decoder.decode(UPayload.pack(Empty.getDefaultInstance()), Empty.class));
+    }
+
+    @Test
+    @DisplayName("Test decoded bytes fields alias the payload data")
+    void testDecodeAliasesBytes() {
+        final var payload = UPayload.pack(BytesValue.of(ByteString.copyFromUtf8("some bytes")));
+        final var decoded = new PayloadDecoder().decode(payload, BytesValue.class);
+        assertEquals(ByteString.copyFromUtf8("some bytes"), decoded.getValue());
+    }
+
+    @Test
+    @DisplayName("Test decoding fails for invalid payloads")
+    void testDecodeFailsForInvalidPayloads() {
+        final var decoder = new PayloadDecoder();
+        final var garbage = ByteString.copyFrom(new byte[] {(byte) 0xFF, (byte) 0xFF});
+
+        var exception = assertThrows(UStatusException.class, () -> decoder.decode(
+            UPayload.packToAny(StringValue.of("hello")), UUri.class));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        exception = assertThrows(UStatusException.class, () -> decoder.decode(
+            garbage, UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF, UUri.class));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        exception = assertThrows(UStatusException.class, () -> decoder.decode(
+            garbage, UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY, UUri.class));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        exception = assertThrows(UStatusException.class, () -> decoder.decode(
+            ByteString.EMPTY, UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF_WRAPPED_IN_ANY, UUri.class));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        exception = assertThrows(UStatusException.class, () -> decoder.decode(
+            URI.toByteString(), UPayloadFormat.UPAYLOAD_FORMAT_JSON, UUri.class));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        assertThrows(NullPointerException.class, () -> decoder.decode(null, UUri.class));
+        assertThrows(NullPointerException.class, () -> decoder.decode(UPayload.pack(URI), null));
+    }
+
+    @Test
+    @DisplayName("Test decoding an Any without knowing the contained type")
+    void testDecodeAnyUsesRegisteredTypes() {
+        final var decoder = new PayloadDecoder();
+        final var any = Any.pack(URI).toByteString();
+        var exception = assertThrows(UStatusException.class, () -> decoder.decodeAny(any));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        decoder.register(UUri.getDefaultInstance());
+        assertEquals(URI, decoder.decodeAny(any));
+
+        // types that have been decoded before are known as well
+        decoder.decode(UPayload.pack(StringValue.of("hello")), StringValue.class);
+        final var anyWithCustomPrefix = Any.pack(StringValue.of("hi"), "example.com").toByteString();
+        assertEquals(StringValue.of("hi"), decoder.decodeAny(anyWithCustomPrefix));
+    }
+}
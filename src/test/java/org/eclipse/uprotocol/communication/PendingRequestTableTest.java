@@ -0,0 +1,119 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.v1.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PendingRequestTableTest {
+
+    @Test
+    @DisplayName("Test adding, getting and removing values")
+    void testPutGetRemove() {
+        final var table = new PendingRequestTable<String>();
+        final var id = UuidFactory.create();
+
+        assertTrue(table.isEmpty());
+        assertNull(table.put(id, "first"));
+        assertEquals("first", table.get(id.getMsb(), id.getLsb()));
+        assertEquals("first", table.put(id, "second"));
+        assertEquals(1, table.size());
+
+        assertFalse(table.remove(id.getMsb(), id.getLsb(), "first"));
+        assertTrue(table.remove(id.getMsb(), id.getLsb(), "second"));
+        assertNull(table.get(id.getMsb(), id.getLsb()));
+        assertNull(table.remove(id));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test table behaves like a map for many entries")
+    void testManyEntries() {
+        // start small so that the stripes need to grow
+        final var table = new PendingRequestTable<Integer>(0);
+        final Map<UUID, Integer> expected = new HashMap<>();
+        final List<UUID> ids = new ArrayList<>();
+        final var random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            final var id = UuidFactory.create();
+            ids.add(id);
+            table.put(id, i);
+            expected.put(id, i);
+            if (random.nextInt(3) == 0) {
+                // remove a random entry in order to exercise shifting back entries of probe sequences
+                final var removedId = ids.get(random.nextInt(ids.size()));
+                assertEquals(expected.remove(removedId), table.remove(removedId));
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (var id : ids) {
+            assertEquals(expected.get(id), table.get(id.getMsb(), id.getLsb()));
+        }
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertNull(table.get(ids.get(0).getMsb(), ids.get(0).getLsb()));
+    }
+
+    @Test
+    @DisplayName("Test concurrent access from multiple threads")
+    void testConcurrentAccess() {
+        final var table = new PendingRequestTable<UUID>();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 25_000; i++) {
+                        final var id = UuidFactory.create();
+                        assertNull(table.put(id, id));
+                        if (i % 2 == 0) {
+                            assertEquals(id, table.remove(id));
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(50_000, table.size());
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PendingRequestTable<String>(-1));
+        final var table = new PendingRequestTable<String>();
+        assertThrows(NullPointerException.class, () -> table.put(UuidFactory.create(), null));
+        assertThrows(NullPointerException.class, () -> table.put(null, "value"));
+    }
+}
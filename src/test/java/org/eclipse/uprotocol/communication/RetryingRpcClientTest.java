@@ -0,0 +1,328 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingRpcClientTest {
+    private static final UUri METHOD = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x1000)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x0001)
+        .build();
+    private static final UPayload RESPONSE = UPayload.pack(UUri.newBuilder().setUeId(1).build());
+
+    @Mock
+    private RpcClient delegate;
+    private final List<Runnable> scheduledActions = new ArrayList<>();
+    private final DeadlineScheduler scheduler = (timeout, unit, action) -> {
+        scheduledActions.add(action);
+        return new DeadlineScheduler.Deadline() {
+            @Override
+            public boolean cancel() {
+                return scheduledActions.remove(action);
+            }
+
+            @Override
+            public boolean isExpired() {
+                return false;
+            }
+        };
+    };
+
+    private RetryingRpcClient.Builder builder() {
+        return RetryingRpcClient.builder(delegate)
+            .withBackoff(0, 0, TimeUnit.MILLISECONDS)
+            .withScheduler(scheduler)
+            .withExecutor(Runnable::run);
+    }
+
+    private static CompletableFuture<UPayload> failure(UCode code) {
+        return CompletableFuture.failedFuture(new UStatusException(code, "failed"));
+    }
+
+    private static void assertFailsWith(UCode code, CompletionStage<UPayload> result) {
+        final var exception = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertEquals(code, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test builder rejects invalid arguments")
+    void testBuilderRejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> RetryingRpcClient.builder(null));
+        final var builder = RetryingRpcClient.builder(delegate);
+        assertThrows(IllegalArgumentException.class, () -> builder.withMaxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.withBackoff(-1, 10, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.withBackoff(20, 10, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> builder.withHedging(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> builder.withHedging(95, 0));
+        assertThrows(IllegalArgumentException.class, () -> builder.withRetryBudget(0, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> builder.withRetryBudget(10, 0));
+        assertThrows(NullPointerException.class, () -> builder.withScheduler(null));
+        assertThrows(NullPointerException.class, () -> builder.withExecutor(null));
+    }
+
+    @Test
+    @DisplayName("Test request failing with a retryable code is retried")
+    void testRetryableFailureIsRetried() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE), CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder().build();
+
+        final var response = client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT)
+            .toCompletableFuture().join();
+
+        assertSame(RESPONSE, response);
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test request failing with another code is not retried")
+    void testNonRetryableFailureIsNotRetried() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.INVALID_ARGUMENT));
+        final var client = builder().build();
+
+        assertFailsWith(UCode.INVALID_ARGUMENT, client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT));
+        verify(delegate, times(1)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test no more than the max number of attempts are made")
+    void testMaxAttempts() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE));
+        final var client = builder().withMaxAttempts(2).withRetryBudget(100, 0.1).build();
+
+        assertFailsWith(UCode.UNAVAILABLE, client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT));
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test retries are delayed by the backoff")
+    void testRetryIsDelayedByBackoff() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE), CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder().withBackoff(10, 100, TimeUnit.MILLISECONDS).build();
+
+        final var result = client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture();
+        assertFalse(result.isDone());
+        assertEquals(1, scheduledActions.size());
+
+        scheduledActions.remove(0).run();
+        assertSame(RESPONSE, result.join());
+    }
+
+    @Test
+    @DisplayName("Test request is not retried if the backoff would exceed the deadline")
+    void testRetryHonorsDeadline() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE));
+        final var client = builder().withBackoff(10, 10, TimeUnit.SECONDS).build();
+
+        assertFailsWith(UCode.UNAVAILABLE,
+            client.invokeMethod(METHOD, UPayload.EMPTY, new CallOptions(1000, UPriority.UPRIORITY_CS4)));
+        assertTrue(scheduledActions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test attempts are sent with the time remaining until the original deadline")
+    void testAttemptsUseRemainingTime() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE), CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder().build();
+        final var options = new CallOptions(5000, UPriority.UPRIORITY_CS5, "token");
+
+        client.invokeMethod(METHOD, UPayload.EMPTY, options).toCompletableFuture().join();
+
+        final var attemptOptions = ArgumentCaptor.forClass(CallOptions.class);
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), attemptOptions.capture());
+        for (var sent : attemptOptions.getAllValues()) {
+            assertTrue(sent.timeout() <= 5000 && sent.timeout() > 0);
+            assertEquals(UPriority.UPRIORITY_CS5, sent.priority());
+            assertEquals("token", sent.token());
+        }
+    }
+
+    @Test
+    @DisplayName("Test retries stop once the retry budget is exhausted")
+    void testRetryBudget() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE));
+        final var client = builder().withRetryBudget(4, 0.5).build();
+
+        // 4 tokens: the first invocation may retry once, leaving 2 tokens, which is not more than half
+        assertFailsWith(UCode.UNAVAILABLE, client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT));
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+        assertEquals(2.0, client.getAvailableTokens());
+
+        assertFailsWith(UCode.UNAVAILABLE, client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT));
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test slow request is hedged once enough latencies have been recorded")
+    void testHedging() {
+        final var slowResponse = new CompletableFuture<UPayload>();
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(RESPONSE), slowResponse,
+                CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder().withHedging(95, 1).build();
+        assertEquals(-1, client.getHedgeDelayNanos(METHOD));
+
+        client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture().join();
+        assertTrue(scheduledActions.isEmpty());
+        assertTrue(client.getHedgeDelayNanos(METHOD) >= 0);
+
+        final var result = client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture();
+        assertFalse(result.isDone());
+        assertEquals(1, scheduledActions.size());
+
+        scheduledActions.remove(0).run();
+        assertSame(RESPONSE, result.join());
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+
+        // the late response of the first attempt is ignored
+        slowResponse.complete(UPayload.EMPTY);
+        assertSame(RESPONSE, result.join());
+    }
+
+    @Test
+    @DisplayName("Test hedging can be disabled")
+    void testWithoutHedging() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(RESPONSE), new CompletableFuture<>());
+        final var client = builder().withoutHedging().build();
+
+        client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture().join();
+        client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT);
+
+        assertEquals(-1, client.getHedgeDelayNanos(METHOD));
+        assertTrue(scheduledActions.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test retries and hedged requests are sent using the executor")
+    void testAdditionalAttemptsAreSentUsingExecutor() {
+        final var submittedAttempts = new ArrayList<Runnable>();
+        final var slowResponse = new CompletableFuture<UPayload>();
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(RESPONSE), slowResponse,
+                failure(UCode.UNAVAILABLE), CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder()
+            .withBackoff(10, 100, TimeUnit.MILLISECONDS)
+            .withHedging(95, 1)
+            .withExecutor(submittedAttempts::add)
+            .build();
+        client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture().join();
+
+        final var result = client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture();
+        scheduledActions.remove(0).run();
+        // the scheduler's thread must not be used for sending the hedged request
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+        assertEquals(1, submittedAttempts.size());
+
+        // the hedged request fails and the first attempt fails, too
+        submittedAttempts.remove(0).run();
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+        slowResponse.completeExceptionally(new UStatusException(UCode.UNAVAILABLE, "failed"));
+
+        scheduledActions.remove(0).run();
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+        assertEquals(1, submittedAttempts.size());
+
+        submittedAttempts.remove(0).run();
+        assertSame(RESPONSE, result.join());
+    }
+
+    @Test
+    @DisplayName("Test retry fails with the original error if the executor rejects it")
+    void testRejectedRetryFails() {
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(failure(UCode.UNAVAILABLE));
+        final var client = builder()
+            .withExecutor(task -> {
+                throw new RejectedExecutionException("shut down");
+            })
+            .build();
+
+        assertFailsWith(UCode.UNAVAILABLE, client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT));
+        verify(delegate, times(1)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+
+    @Test
+    @DisplayName("Test hedge does not exceed max attempts while a retry is pending")
+    void testHedgeIsSkippedWhileRetryIsPending() {
+        final var firstAttempt = new CompletableFuture<UPayload>();
+        when(delegate.invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class)))
+            .thenReturn(CompletableFuture.completedFuture(RESPONSE), firstAttempt,
+                CompletableFuture.completedFuture(RESPONSE));
+        final var client = builder()
+            .withMaxAttempts(2)
+            .withBackoff(10, 100, TimeUnit.MILLISECONDS)
+            .withHedging(95, 1)
+            .build();
+        client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture().join();
+
+        final var result = client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture();
+        assertEquals(1, scheduledActions.size());
+        final var hedge = scheduledActions.get(0);
+
+        // the first attempt fails fast, which cancels the hedge and schedules a retry
+        firstAttempt.completeExceptionally(new UStatusException(UCode.UNAVAILABLE, "failed"));
+        assertEquals(1, scheduledActions.size());
+        final var retry = scheduledActions.remove(0);
+        assertNotSame(hedge, retry);
+
+        // the hedge timer fires anyway, e.g. because it had already expired when being cancelled
+        hedge.run();
+        verify(delegate, times(2)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+
+        retry.run();
+        assertSame(RESPONSE, result.join());
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+
+        // no further attempt can be made once max attempts have been made
+        hedge.run();
+        verify(delegate, times(3)).invokeMethod(any(UUri.class), any(UPayload.class), any(CallOptions.class));
+    }
+}
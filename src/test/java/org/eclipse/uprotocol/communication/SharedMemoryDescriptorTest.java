@@ -0,0 +1,67 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.StringValue;
+
+class SharedMemoryDescriptorTest {
+
+    @Test
+    @DisplayName("Test descriptor survives round trip through a payload")
+    void testRoundTrip() {
+        final var descriptor = new SharedMemoryDescriptor(
+            "/dev/shm/camera", 4_000_000_000L, 6_220_800, UPayloadFormat.UPAYLOAD_FORMAT_RAW);
+        final var payload = descriptor.toPayload();
+        assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_SHM, payload.format());
+        assertEquals(descriptor, SharedMemoryDescriptor.fromPayload(payload));
+    }
+
+    @Test
+    @DisplayName("Test creating a descriptor fails for invalid arguments")
+    void testConstructorRejectsInvalidArguments() {
+        final var format = UPayloadFormat.UPAYLOAD_FORMAT_RAW;
+        assertThrows(NullPointerException.class, () -> new SharedMemoryDescriptor(null, 0, 1, format));
+        assertThrows(NullPointerException.class, () -> new SharedMemoryDescriptor("seg", 0, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new SharedMemoryDescriptor("", 0, 1, format));
+        assertThrows(IllegalArgumentException.class, () -> new SharedMemoryDescriptor("seg", -1, 1, format));
+        assertThrows(IllegalArgumentException.class, () -> new SharedMemoryDescriptor("seg", 0, -1, format));
+        assertThrows(IllegalArgumentException.class, () -> new SharedMemoryDescriptor(
+            "seg", 0, 1, UPayloadFormat.UPAYLOAD_FORMAT_SHM));
+    }
+
+    @Test
+    @DisplayName("Test extracting a descriptor fails for payloads not containing a descriptor")
+    void testFromPayloadRejectsInvalidPayload() {
+        var exception = assertThrows(UStatusException.class, () -> SharedMemoryDescriptor.fromPayload(
+            UPayload.pack(StringValue.of("hello"))));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        exception = assertThrows(UStatusException.class, () -> SharedMemoryDescriptor.fromPayload(
+            UPayload.pack(ByteString.copyFromUtf8("garbage"), UPayloadFormat.UPAYLOAD_FORMAT_SHM)));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+        // a descriptor without segment name
+        exception = assertThrows(UStatusException.class, () -> SharedMemoryDescriptor.fromPayload(
+            UPayload.pack(ByteString.EMPTY, UPayloadFormat.UPAYLOAD_FORMAT_SHM)));
+        assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+    }
+}
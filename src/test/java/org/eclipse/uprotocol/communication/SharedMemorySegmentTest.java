@@ -0,0 +1,105 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.communication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Path;
+
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.protobuf.ByteString;
+
+class SharedMemorySegmentTest {
+
+    @Test
+    @DisplayName("Test consumer resolves payload data written by producer")
+    void testWriteAndResolve(@TempDir Path dir) throws IOException {
+        final var file = dir.resolve("segment");
+        final var data = ByteString.copyFromUtf8("a large camera frame");
+        try (var producer = SharedMemorySegment.create(file, 1024);
+                var consumer = SharedMemorySegment.open(file)) {
+            assertEquals(1024, consumer.size());
+            assertEquals(producer.getName(), consumer.getName());
+
+            final var descriptorPayload = producer.write(100, data, UPayloadFormat.UPAYLOAD_FORMAT_RAW);
+            assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_SHM, descriptorPayload.format());
+
+            final var payload = consumer.resolve(descriptorPayload);
+            assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_RAW, payload.format());
+            assertEquals(data, payload.data());
+
+            // the resolved payload is backed by the segment
+            producer.slice(100, 1).put((byte) 'A');
+            assertEquals('A', payload.data().byteAt(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test writing directly into a region of the segment")
+    void testDescribeRegion(@TempDir Path dir) throws IOException {
+        try (var segment = SharedMemorySegment.create(dir.resolve("segment"), 16)) {
+            segment.slice(8, 4).put(new byte[] {1, 2, 3, 4});
+            final var payload = segment.resolve(segment.describe(8, 4, UPayloadFormat.UPAYLOAD_FORMAT_RAW));
+            assertEquals(ByteString.copyFrom(new byte[] {1, 2, 3, 4}), payload.data());
+
+            assertThrows(IndexOutOfBoundsException.class, () -> segment.slice(8, 9));
+            assertThrows(IndexOutOfBoundsException.class, () -> segment.describe(-1, 4,
+                UPayloadFormat.UPAYLOAD_FORMAT_RAW));
+            assertThrows(IndexOutOfBoundsException.class, () -> segment.write(15,
+                ByteString.copyFromUtf8("too long"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT));
+        }
+    }
+
+    @Test
+    @DisplayName("Test resolving fails for descriptors not matching the segment")
+    void testResolveRejectsForeignDescriptors(@TempDir Path dir) throws IOException {
+        try (var segment = SharedMemorySegment.create(dir.resolve("segment"), 16)) {
+            final var otherSegment = new SharedMemoryDescriptor(
+                dir.resolve("other").toString(), 0, 4, UPayloadFormat.UPAYLOAD_FORMAT_RAW).toPayload();
+            var exception = assertThrows(UStatusException.class, () -> segment.resolve(otherSegment));
+            assertEquals(UCode.INVALID_ARGUMENT, exception.getCode());
+
+            final var outOfBounds = new SharedMemoryDescriptor(
+                segment.getName(), 12, 5, UPayloadFormat.UPAYLOAD_FORMAT_RAW).toPayload();
+            exception = assertThrows(UStatusException.class, () -> segment.resolve(outOfBounds));
+            assertEquals(UCode.OUT_OF_RANGE, exception.getCode());
+
+            // offset + length overflows
+            final var overflowing = new SharedMemoryDescriptor(
+                segment.getName(), Long.MAX_VALUE - 2, 5, UPayloadFormat.UPAYLOAD_FORMAT_RAW).toPayload();
+            exception = assertThrows(UStatusException.class, () -> segment.resolve(overflowing));
+            assertEquals(UCode.OUT_OF_RANGE, exception.getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Test segments opened for reading cannot be written to")
+    void testOpenedSegmentIsReadOnly(@TempDir Path dir) throws IOException {
+        final var file = dir.resolve("segment");
+        SharedMemorySegment.create(file, 16).close();
+        try (var segment = SharedMemorySegment.open(file)) {
+            assertThrows(ReadOnlyBufferException.class, () -> segment.write(
+                0, ByteString.copyFromUtf8("data"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT));
+        }
+        assertThrows(IOException.class, () -> SharedMemorySegment.open(dir.resolve("missing")));
+        assertThrows(IllegalArgumentException.class, () -> SharedMemorySegment.create(file, -1));
+    }
+}
@@ -17,9 +17,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -31,6 +33,7 @@ import org.eclipse.uprotocol.v1.UUri;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 // [utest->dsn~communication-layer-impl-default~1]
 class SimpleNotifierTest extends CommunicationLayerClientTestBase {
@@ -131,4 +134,80 @@ class SimpleNotifierTest extends CommunicationLayerClientTestBase {
             listener);
         assertEquals(UCode.NOT_FOUND, ((UStatusException) exception.getCause()).getCode());
     }
+
+    @Test
+    @DisplayName("Test sending multiple notifications sends them as a batch")
+    @SuppressWarnings("unchecked")
+    void testNotifyAll() {
+        final var payloads = List.of(
+            UPayload.pack(UUri.newBuilder().setAuthorityName("first").build()),
+            UPayload.pack(UUri.newBuilder().setAuthorityName("second").build()));
+        final ArgumentCaptor<List<UMessage>> batch = ArgumentCaptor.forClass(List.class);
+
+        notifier.notifyAll(TOPIC_URI.getResourceId(), DESTINATION_URI, payloads).toCompletableFuture().join();
+        verify(transport).sendAll(batch.capture());
+        assertEquals(2, batch.getValue().size());
+        for (int i = 0; i < payloads.size(); i++) {
+            assertNotificationAttributes(batch.getValue().get(i));
+            assertEquals(payloads.get(i).data(), batch.getValue().get(i).getPayload());
+        }
+    }
+
+    @Test
+    void testNotifyAllWithInvalidTopic() {
+        var exception = assertThrows(
+            CompletionException.class,
+            () -> notifier.notifyAll(0x5000, DESTINATION_URI, List.of(UPayload.EMPTY)).toCompletableFuture().join()
+        );
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test notifier records the number of sent notifications in metrics")
+    void testNotifyRecordsMetrics() {
+        final var metrics = new InMemoryUMetrics();
+        final var meteredNotifier = new SimpleNotifier(transport, uriProvider, metrics);
+
+        meteredNotifier.notify(TOPIC_URI.getResourceId(), DESTINATION_URI).toCompletableFuture().join();
+        meteredNotifier.notifyAll(TOPIC_URI.getResourceId(), DESTINATION_URI, List.of(UPayload.EMPTY, UPayload.EMPTY))
+            .toCompletableFuture().join();
+        assertEquals(3, metrics.getSentNotificationCount(TOPIC_URI));
+    }
+
+    @Test
+    @DisplayName("Test flow controlled notifier defers sending until a credit is available")
+    void testNotifyWaitsForCredits() {
+        final var sent = new CompletableFuture<Void>();
+        when(transport.send(any(UMessage.class))).thenReturn(sent, CompletableFuture.completedFuture(null));
+        final var controlledNotifier = new SimpleNotifier(
+            transport, uriProvider, UMetrics.NOOP, new FlowController(1));
+
+        final var first = controlledNotifier.notify(TOPIC_URI.getResourceId(), DESTINATION_URI)
+            .toCompletableFuture();
+        final var second = controlledNotifier.notify(TOPIC_URI.getResourceId(), DESTINATION_URI)
+            .toCompletableFuture();
+        verify(transport, times(1)).send(any(UMessage.class));
+        assertFalse(second.isDone());
+
+        sent.complete(null);
+        first.join();
+        second.join();
+        verify(transport, times(2)).send(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test tryNotify fails if no credit is available")
+    void testTryNotifyWithoutCredits() {
+        when(transport.send(any(UMessage.class))).thenReturn(new CompletableFuture<>());
+        final var controlledNotifier = new SimpleNotifier(
+            transport, uriProvider, UMetrics.NOOP, new FlowController(1));
+
+        controlledNotifier.tryNotify(TOPIC_URI.getResourceId(), DESTINATION_URI, options, UPayload.EMPTY);
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> controlledNotifier.tryNotify(TOPIC_URI.getResourceId(), DESTINATION_URI, options, UPayload.EMPTY)
+                .toCompletableFuture().join());
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        verify(transport, times(1)).send(any(UMessage.class));
+    }
 }
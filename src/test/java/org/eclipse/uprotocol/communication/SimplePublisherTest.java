@@ -16,8 +16,16 @@ package org.eclipse.uprotocol.communication;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 import org.eclipse.uprotocol.v1.UCode;
@@ -26,6 +34,7 @@ import org.eclipse.uprotocol.v1.UUri;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 // [utest->dsn~communication-layer-impl-default~1]
 class SimplePublisherTest extends CommunicationLayerClientTestBase {
@@ -91,4 +100,105 @@ class SimplePublisherTest extends CommunicationLayerClientTestBase {
         );
         assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
     }
+
+    @Test
+    @DisplayName("Test publishing multiple messages sends them as a batch")
+    @SuppressWarnings("unchecked")
+    void testPublishAll() {
+        final var payloads = List.of(
+            UPayload.pack(UUri.newBuilder().setAuthorityName("first").build()),
+            UPayload.pack(UUri.newBuilder().setAuthorityName("second").build()));
+        final ArgumentCaptor<List<UMessage>> batch = ArgumentCaptor.forClass(List.class);
+
+        publisher.publishAll(TOPIC_URI.getResourceId(), payloads).toCompletableFuture().join();
+        verify(transport).sendAll(batch.capture());
+        verify(transport, never()).send(any(UMessage.class));
+        assertEquals(2, batch.getValue().size());
+        for (int i = 0; i < payloads.size(); i++) {
+            assertEventAttributes(batch.getValue().get(i));
+            assertEquals(payloads.get(i).data(), batch.getValue().get(i).getPayload());
+        }
+        assertNotEquals(
+            batch.getValue().get(0).getAttributes().getId(),
+            batch.getValue().get(1).getAttributes().getId());
+    }
+
+    @Test
+    void testPublishAllWithInvalidTopic() {
+        var exception = assertThrows(
+            CompletionException.class,
+            () -> publisher.publishAll(0x5000, List.of(UPayload.EMPTY)).toCompletableFuture().join()
+        );
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+        verify(transport, never()).sendAll(any());
+    }
+
+    @Test
+    @DisplayName("Test publisher records the number of published messages in metrics")
+    void testPublishRecordsMetrics() {
+        final var metrics = new InMemoryUMetrics();
+        final var meteredPublisher = new SimplePublisher(transport, uriProvider, metrics);
+
+        meteredPublisher.publish(TOPIC_URI.getResourceId()).toCompletableFuture().join();
+        meteredPublisher.publishAll(TOPIC_URI.getResourceId(), List.of(UPayload.EMPTY, UPayload.EMPTY))
+            .toCompletableFuture().join();
+        assertThrows(
+            CompletionException.class,
+            () -> meteredPublisher.publish(0x5000).toCompletableFuture().join());
+        assertEquals(3, metrics.getPublishedMessageCount(TOPIC_URI));
+    }
+
+    @Test
+    @DisplayName("Test flow controlled publisher defers sending until a credit is available")
+    void testPublishWaitsForCredits() {
+        final var sent = new CompletableFuture<Void>();
+        when(transport.send(any(UMessage.class))).thenReturn(sent, CompletableFuture.completedFuture(null));
+        final var controlledPublisher = new SimplePublisher(
+            transport, uriProvider, UMetrics.NOOP, new FlowController(1));
+
+        final var first = controlledPublisher.publish(TOPIC_URI.getResourceId()).toCompletableFuture();
+        final var second = controlledPublisher.publish(TOPIC_URI.getResourceId()).toCompletableFuture();
+        verify(transport, times(1)).send(any(UMessage.class));
+        assertFalse(second.isDone());
+
+        sent.complete(null);
+        first.join();
+        second.join();
+        verify(transport, times(2)).send(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test tryPublish fails if no credit is available")
+    void testTryPublishWithoutCredits() {
+        when(transport.send(any(UMessage.class))).thenReturn(new CompletableFuture<>());
+        final var metrics = new InMemoryUMetrics();
+        final var controlledPublisher = new SimplePublisher(transport, uriProvider, metrics, new FlowController(1));
+
+        final var first = controlledPublisher.tryPublish(TOPIC_URI.getResourceId(), options, UPayload.EMPTY);
+        assertFalse(first.toCompletableFuture().isDone());
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> controlledPublisher.tryPublish(TOPIC_URI.getResourceId(), options, UPayload.EMPTY)
+                .toCompletableFuture().join());
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        verify(transport, times(1)).send(any(UMessage.class));
+        assertEquals(1, metrics.getPublishedMessageCount(TOPIC_URI));
+    }
+
+    @Test
+    @DisplayName("Test flow controlled publishAll acquires credits for all messages")
+    void testPublishAllWithFlowControl() {
+        final var controller = new FlowController(10);
+        final var controlledPublisher = new SimplePublisher(transport, uriProvider, UMetrics.NOOP, controller);
+        assertTrue(controller.tryAcquire(9, 0));
+
+        final var result = controlledPublisher.publishAll(TOPIC_URI.getResourceId(),
+            List.of(UPayload.EMPTY, UPayload.EMPTY)).toCompletableFuture();
+        verify(transport, never()).sendAll(any());
+
+        controller.release(9, 0);
+        result.join();
+        verify(transport).sendAll(any());
+        assertEquals(0, controller.getOutstandingMessages());
+    }
 }
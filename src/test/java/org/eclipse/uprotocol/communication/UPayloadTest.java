@@ -12,6 +12,12 @@
  */
 package org.eclipse.uprotocol.communication;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -27,6 +33,7 @@ import org.eclipse.uprotocol.v1.UPayloadFormat;
 import org.eclipse.uprotocol.v1.UUri;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -269,4 +276,39 @@ public class UPayloadTest {
         assertTrue(unpacked.isPresent());
         assertEquals(uri, unpacked.get());
     }
+
+    @Test
+    @DisplayName("Test wrap() shares the content of a direct buffer")
+    public void testWrapDirectBuffer() {
+        final var protobuf = StringValue.of("hello").toByteArray();
+        final var buffer = ByteBuffer.allocateDirect(protobuf.length + 2);
+        buffer.put((byte) 0xFF).put(protobuf).put((byte) 0xFF);
+        buffer.position(1).limit(1 + protobuf.length);
+
+        final var payload = UPayload.wrap(buffer, UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF);
+        assertEquals(1, buffer.position());
+        assertEquals(protobuf.length, payload.data().size());
+        assertEquals("hello", UPayload.unpackOrDefaultInstance(payload, StringValue.class).getValue());
+
+        // the payload is a view on the buffer
+        buffer.put(buffer.limit() - 1, (byte) 'j');
+        assertEquals("hellj", UPayload.unpackOrDefaultInstance(payload, StringValue.class).getValue());
+    }
+
+    @Test
+    @DisplayName("Test map() creates a payload from a region of a file")
+    public void testMapFileRegion(@TempDir Path dir) throws IOException {
+        final var file = dir.resolve("payload.bin");
+        final var protobuf = StringValue.of("from file").toByteArray();
+        final var content = new byte[protobuf.length + 10];
+        System.arraycopy(protobuf, 0, content, 10, protobuf.length);
+        Files.write(file, content);
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final var payload = UPayload.map(channel, 10, protobuf.length, UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF);
+            assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_PROTOBUF, payload.format());
+            assertEquals(ByteString.copyFrom(protobuf), payload.data());
+            assertEquals("from file", UPayload.unpackOrDefaultInstance(payload, StringValue.class).getValue());
+        }
+    }
 }
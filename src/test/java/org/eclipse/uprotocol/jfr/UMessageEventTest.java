@@ -0,0 +1,173 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.InMemoryRpcClient;
+import org.eclipse.uprotocol.communication.InMemoryRpcServer;
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.transport.LocalUTransport;
+import org.eclipse.uprotocol.transport.StaticUriProvider;
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.uri.serializer.UriSerializer;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class UMessageEventTest {
+    private static final UUri SOURCE = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x0004)
+        .setUeVersionMajor(0x01)
+        .build();
+    private static final UUri TOPIC = UUri.newBuilder(SOURCE).setResourceId(0xa100).build();
+    private static final UUri METHOD = UUri.newBuilder(SOURCE).setResourceId(0x0001).build();
+    private static final UUri FAILING_METHOD = UUri.newBuilder(SOURCE).setResourceId(0x0002).build();
+
+    private static List<RecordedEvent> eventsOfType(List<RecordedEvent> events, Class<?> type) {
+        final var name = type.getAnnotation(jdk.jfr.Name.class).value();
+        // events emitted by different threads are not necessarily ordered in the recording
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .toList();
+    }
+
+    private static List<RecordedEvent> record(Path dir, Runnable action) throws IOException {
+        try (var recording = new Recording()) {
+            List.of(
+                MessageBuildEvent.class,
+                TransportSendEvent.class,
+                ListenerDispatchEvent.class,
+                RpcInvocationEvent.class,
+                RequestHandlerEvent.class)
+                .forEach(type -> recording.enable(type).withoutThreshold());
+            recording.start();
+            action.run();
+            recording.stop();
+            final var file = Files.createTempFile(dir, "recording", ".jfr");
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Test events are recorded for publishing and dispatching a message")
+    void testPublishEmitsEvents(@TempDir Path dir) throws IOException {
+        final var transport = new LocalUTransport();
+        transport.registerListener(TOPIC, msg -> { }).toCompletableFuture().join();
+
+        final var events = record(dir, () -> {
+            final var message = UMessageBuilder.publish(TOPIC).withPriority(UPriority.UPRIORITY_CS2).build();
+            transport.send(message).toCompletableFuture().join();
+        });
+
+        final var build = eventsOfType(events, MessageBuildEvent.class);
+        assertEquals(1, build.size());
+        assertEquals(UriSerializer.serialize(TOPIC), build.get(0).getString("source"));
+        assertNull(build.get(0).getString("sink"));
+        assertEquals("UMESSAGE_TYPE_PUBLISH", build.get(0).getString("type"));
+        assertEquals("UPRIORITY_CS2", build.get(0).getString("priority"));
+
+        final var send = eventsOfType(events, TransportSendEvent.class);
+        assertEquals(1, send.size());
+        assertEquals(LocalUTransport.class.getName(), send.get(0).getString("transport"));
+        assertEquals(build.get(0).getString("id"), send.get(0).getString("id"));
+
+        final var dispatch = eventsOfType(events, ListenerDispatchEvent.class);
+        assertEquals(1, dispatch.size());
+        assertEquals(UriSerializer.serialize(TOPIC), dispatch.get(0).getString("source"));
+        assertTrue(dispatch.get(0).getString("listener").startsWith(UMessageEventTest.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Test event is recorded for sending an invalid message")
+    void testSendInvalidMessageEmitsEvent(@TempDir Path dir) throws IOException {
+        final var transport = new LocalUTransport();
+        // neither a topic nor a valid URI
+        final var invalidTopic = UUri.newBuilder(SOURCE).setUeVersionMajor(0x100).build();
+        final var valid = UMessageBuilder.publish(TOPIC).build();
+        final var message = valid.toBuilder()
+            .setAttributes(valid.getAttributes().toBuilder().setSource(invalidTopic))
+            .build();
+
+        final var result = new AtomicReference<CompletionStage<Void>>();
+        final var events = record(dir, () -> result.set(transport.send(message)));
+
+        final var exception = assertThrows(CompletionException.class, () -> result.get().toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+        final var send = eventsOfType(events, TransportSendEvent.class);
+        assertEquals(1, send.size());
+        assertEquals("//hartley/4/100/0", send.get(0).getString("source"));
+    }
+
+    @Test
+    @DisplayName("Test events are recorded for invoking a method and handling the request")
+    void testRpcEmitsEvents(@TempDir Path dir) throws IOException {
+        final var transport = new LocalUTransport();
+        final var uriProvider = StaticUriProvider.of(SOURCE);
+        final var server = new InMemoryRpcServer(transport, uriProvider);
+        server.registerRequestHandler(UriFactory.ANY, METHOD.getResourceId(), request -> UPayload.EMPTY)
+            .toCompletableFuture().join();
+        server.registerRequestHandler(UriFactory.ANY, FAILING_METHOD.getResourceId(), request -> {
+            throw new UStatusException(UCode.NOT_FOUND, "no such thing");
+        }).toCompletableFuture().join();
+        final var client = new InMemoryRpcClient(transport, uriProvider);
+
+        final var events = record(dir, () -> {
+            client.invokeMethod(METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture().join();
+            client.invokeMethod(FAILING_METHOD, UPayload.EMPTY, CallOptions.DEFAULT).toCompletableFuture()
+                .exceptionally(t -> null).join();
+            client.invokeMethod(METHOD.toBuilder().setResourceId(0x0003).build(), UPayload.EMPTY, new CallOptions(10))
+                .toCompletableFuture().exceptionally(t -> null).join();
+        });
+        client.close();
+
+        final var invocations = eventsOfType(events, RpcInvocationEvent.class);
+        assertEquals(3, invocations.size());
+        assertEquals(
+            List.of("OK", "NOT_FOUND", "DEADLINE_EXCEEDED"),
+            invocations.stream().map(e -> e.getString("status")).toList());
+        assertEquals(UriSerializer.serialize(METHOD), invocations.get(0).getString("sink"));
+        assertEquals("UMESSAGE_TYPE_REQUEST", invocations.get(0).getString("type"));
+        assertEquals("UPRIORITY_CS4", invocations.get(0).getString("priority"));
+
+        final var handlers = eventsOfType(events, RequestHandlerEvent.class);
+        assertEquals(2, handlers.size());
+        assertEquals(List.of("OK", "NOT_FOUND"), handlers.stream().map(e -> e.getString("status")).toList());
+        assertEquals(invocations.get(0).getString("id"), handlers.get(0).getString("id"));
+    }
+}
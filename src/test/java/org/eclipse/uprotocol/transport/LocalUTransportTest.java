@@ -0,0 +1,238 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.UClient;
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.transport.validator.ValidationPolicy;
+import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UMessageType;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.google.protobuf.ByteString;
+
+class LocalUTransportTest {
+    private static final UUri CLIENT_URI = UUri.newBuilder()
+            .setAuthorityName("my-vehicle")
+            .setUeId(0xa1)
+            .setUeVersionMajor(0x01)
+            .build();
+    private static final UUri SERVICE_URI = UUri.newBuilder()
+            .setAuthorityName("my-vehicle")
+            .setUeId(0x1b2)
+            .setUeVersionMajor(0x02)
+            .build();
+    private static final UUri TOPIC_URI = UUri.newBuilder(SERVICE_URI)
+            .setResourceId(0x8001)
+            .build();
+
+    private LocalUTransport transport;
+    private UListener listener;
+
+    @BeforeEach
+    void setUp() {
+        transport = new LocalUTransport();
+        listener = mock(UListener.class);
+    }
+
+    @Test
+    @DisplayName("Test listener registered for a topic receives published messages")
+    void testPublishedMessageIsDeliveredToTopicListener() {
+        transport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+        final var otherListener = mock(UListener.class);
+        transport.registerListener(
+                UUri.newBuilder(TOPIC_URI).setResourceId(0x8002).build(),
+                otherListener)
+            .toCompletableFuture().join();
+
+        final var message = UMessageBuilder.publish(TOPIC_URI).build();
+        transport.send(message).toCompletableFuture().join();
+
+        verify(listener).onReceive(message);
+        verify(otherListener, never()).onReceive(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test listener registered with wildcard filters receives matching messages")
+    void testMessageIsDeliveredToWildcardListener() {
+        final var sourceFilter = UUri.newBuilder(SERVICE_URI)
+            .setUeId(UriFactory.WILDCARD_ENTITY_ID)
+            .setResourceId(UriFactory.WILDCARD_RESOURCE_ID)
+            .build();
+        transport.registerListener(sourceFilter, Optional.of(CLIENT_URI), listener).toCompletableFuture().join();
+
+        final var notification = UMessageBuilder.notification(TOPIC_URI, CLIENT_URI).build();
+        transport.send(notification).toCompletableFuture().join();
+        final var publish = UMessageBuilder.publish(TOPIC_URI).build();
+        transport.send(publish).toCompletableFuture().join();
+
+        verify(listener).onReceive(notification);
+        verify(listener, never()).onReceive(publish);
+    }
+
+    @Test
+    @DisplayName("Test unregistered listener no longer receives messages")
+    void testUnregisteredListenerIsNotInvoked() {
+        transport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+        transport.unregisterListener(TOPIC_URI, listener).toCompletableFuture().join();
+
+        transport.send(UMessageBuilder.publish(TOPIC_URI).build()).toCompletableFuture().join();
+        verify(listener, never()).onReceive(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test unregistering an unknown listener fails")
+    void testUnregisterUnknownListenerFails() {
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> transport.unregisterListener(TOPIC_URI, listener).toCompletableFuture().join());
+        assertEquals(UCode.NOT_FOUND, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test registering a listener for invalid filter criteria fails")
+    void testRegisterListenerFailsForInvalidFilters() {
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> transport.registerListener(CLIENT_URI, Optional.of(CLIENT_URI), listener)
+                .toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test sending a batch of messages delivers them in order")
+    void testSendAllDeliversMessagesInOrder() {
+        transport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+        final var first = UMessageBuilder.publish(TOPIC_URI).build();
+        final var second = UMessageBuilder.publish(TOPIC_URI).build();
+
+        transport.sendAll(List.of(first, second)).toCompletableFuture().join();
+
+        final InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onReceive(first);
+        inOrder.verify(listener).onReceive(second);
+    }
+
+    @Test
+    @DisplayName("Test sending a batch containing an invalid message does not deliver any message")
+    void testSendAllFailsForInvalidMessage() {
+        transport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+        final var batch = List.of(UMessageBuilder.publish(TOPIC_URI).build(), UMessage.getDefaultInstance());
+
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> transport.sendAll(batch).toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+        verify(listener, never()).onReceive(any(UMessage.class));
+    }
+
+    @Test
+    @DisplayName("Test sending an invalid message fails")
+    void testSendFailsForInvalidMessage() {
+        final var exception = assertThrows(
+            CompletionException.class,
+            () -> transport.send(UMessage.getDefaultInstance()).toCompletableFuture().join());
+        assertEquals(UCode.INVALID_ARGUMENT, ((UStatusException) exception.getCause()).getCode());
+    }
+
+    @Test
+    @DisplayName("Test trusted transport delivers messages without validating them")
+    void testTrustedTransportDoesNotValidateMessages() {
+        final var trustedTransport = new LocalUTransport(null, ValidationPolicy.TRUSTED);
+        trustedTransport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+        // a publish message without ID
+        final var message = UMessage.newBuilder()
+            .setAttributes(UAttributes.newBuilder()
+                .setType(UMessageType.UMESSAGE_TYPE_PUBLISH)
+                .setSource(TOPIC_URI))
+            .build();
+
+        trustedTransport.send(message).toCompletableFuture().join();
+        trustedTransport.sendAll(List.of(message)).toCompletableFuture().join();
+        verify(listener, times(2)).onReceive(message);
+    }
+
+    @Test
+    @DisplayName("Test failing listener does not prevent delivery to other listeners")
+    void testFailingListenerDoesNotAffectOtherListeners() {
+        final var failingListener = mock(UListener.class);
+        doThrow(new IllegalStateException("cannot process message")).when(failingListener)
+            .onReceive(any(UMessage.class));
+        transport.registerListener(TOPIC_URI, failingListener).toCompletableFuture().join();
+        transport.registerListener(UriFactory.ANY, listener).toCompletableFuture().join();
+
+        final var message = UMessageBuilder.publish(TOPIC_URI).build();
+        transport.send(message).toCompletableFuture().join();
+        verify(failingListener).onReceive(message);
+        verify(listener).onReceive(message);
+    }
+
+    @Test
+    @DisplayName("Test listeners are invoked using the configured executor")
+    void testListenersAreInvokedUsingExecutor() {
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var asyncTransport = new LocalUTransport(executor);
+            asyncTransport.registerListener(TOPIC_URI, listener).toCompletableFuture().join();
+            final var message = UMessageBuilder.publish(TOPIC_URI).build();
+            asyncTransport.send(message).toCompletableFuture().join();
+            verify(listener, timeout(1000)).onReceive(message);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test invoking a method on a service using UClients connected to the same transport")
+    void testRpcRoundTripBetweenClients() {
+        final var client = UClient.create(transport, StaticUriProvider.of(CLIENT_URI));
+        final var service = UClient.create(transport, StaticUriProvider.of(SERVICE_URI));
+        service.registerRequestHandler(UriFactory.ANY, 0x0001, request -> UPayload.pack(
+                ByteString.copyFromUtf8("pong"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT))
+            .toCompletableFuture().join();
+
+        final var response = client.invokeMethod(
+                UUri.newBuilder(SERVICE_URI).setResourceId(0x0001).build(),
+                UPayload.pack(ByteString.copyFromUtf8("ping"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT),
+                CallOptions.DEFAULT)
+            .toCompletableFuture().join();
+        assertEquals(ByteString.copyFromUtf8("pong"), response.data());
+    }
+}
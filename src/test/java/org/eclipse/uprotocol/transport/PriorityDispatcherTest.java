@@ -0,0 +1,206 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.uprotocol.communication.InMemoryUMetrics;
+import org.eclipse.uprotocol.communication.UMetrics;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.transport.PriorityDispatcher.SchedulingPolicy;
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.v1.UCode;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriorityDispatcherTest {
+
+    private static final UUri TOPIC = UUri.newBuilder()
+        .setAuthorityName("hartley")
+        .setUeId(0x0003)
+        .setUeVersionMajor(0x01)
+        .setResourceId(0x8000)
+        .build();
+
+    private final List<Runnable> executorTasks = new ArrayList<>();
+    private final List<UPriority> runOrder = new ArrayList<>();
+
+    private void runExecutorTasks() {
+        while (!executorTasks.isEmpty()) {
+            executorTasks.remove(0).run();
+        }
+    }
+
+    private PriorityDispatcher newDispatcher(int capacity, SchedulingPolicy policy, UMetrics metrics) {
+        return new PriorityDispatcher(executorTasks::add, 1, capacity, policy, metrics);
+    }
+
+    private void submit(PriorityDispatcher dispatcher, UPriority... priorities) {
+        for (var priority : priorities) {
+            dispatcher.submit(priority, () -> runOrder.add(priority));
+        }
+    }
+
+    @Test
+    @DisplayName("Test constructor rejects invalid arguments")
+    void testConstructorRejectsInvalidArguments() {
+        final var strict = SchedulingPolicy.strict();
+        assertThrows(NullPointerException.class, () -> new PriorityDispatcher(null));
+        assertThrows(NullPointerException.class,
+            () -> new PriorityDispatcher(executorTasks::add, 1, 10, null, UMetrics.NOOP));
+        assertThrows(NullPointerException.class,
+            () -> new PriorityDispatcher(executorTasks::add, 1, 10, strict, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PriorityDispatcher(executorTasks::add, 0, 10, strict, UMetrics.NOOP));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PriorityDispatcher(executorTasks::add, 1, 0, strict, UMetrics.NOOP));
+        assertThrows(IllegalArgumentException.class, () -> SchedulingPolicy.weighted(1, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> SchedulingPolicy.weighted(1, 1, 1, 0, 1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Test strict policy runs tasks of higher priority classes first")
+    void testStrictPriorityOrder() {
+        final var dispatcher = newDispatcher(10, SchedulingPolicy.strict(), UMetrics.NOOP);
+        submit(dispatcher, UPriority.UPRIORITY_CS0, UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_UNSPECIFIED,
+            UPriority.UPRIORITY_CS3, UPriority.UPRIORITY_CS6);
+        assertEquals(5, dispatcher.size());
+        assertEquals(1, dispatcher.getQueuedCount(UPriority.UPRIORITY_CS1));
+        // a single drain loop has been started
+        assertEquals(1, executorTasks.size());
+
+        runExecutorTasks();
+
+        assertEquals(List.of(UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS3,
+            UPriority.UPRIORITY_UNSPECIFIED, UPriority.UPRIORITY_CS0), runOrder);
+        assertEquals(0, dispatcher.size());
+    }
+
+    @Test
+    @DisplayName("Test weighted policy does not starve lower priority classes")
+    void testWeightedOrder() {
+        final var dispatcher = newDispatcher(10, SchedulingPolicy.weighted(1, 1, 1, 1, 1, 1, 2), UMetrics.NOOP);
+        submit(dispatcher, UPriority.UPRIORITY_CS0, UPriority.UPRIORITY_CS0, UPriority.UPRIORITY_CS0,
+            UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS6);
+
+        runExecutorTasks();
+
+        assertEquals(List.of(UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS0,
+            UPriority.UPRIORITY_CS6, UPriority.UPRIORITY_CS0, UPriority.UPRIORITY_CS0), runOrder);
+    }
+
+    @Test
+    @DisplayName("Test full dispatcher sheds the oldest task of the lowest priority class")
+    void testSheddingLowestPriority() {
+        final var metrics = new InMemoryUMetrics();
+        final var dispatcher = newDispatcher(2, SchedulingPolicy.strict(), metrics);
+        final var oldest = dispatcher.submit(UPriority.UPRIORITY_CS0, () -> runOrder.add(UPriority.UPRIORITY_CS0))
+            .toCompletableFuture();
+        submit(dispatcher, UPriority.UPRIORITY_CS0, UPriority.UPRIORITY_CS5);
+
+        var exception = assertThrows(CompletionException.class, oldest::join);
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        assertEquals(1, dispatcher.getQueuedCount(UPriority.UPRIORITY_CS0));
+        assertEquals(1, dispatcher.getQueuedCount(UPriority.UPRIORITY_CS5));
+
+        // a task that does not have a higher priority than any queued task is rejected
+        final var rejected = dispatcher.submit(UPriority.UPRIORITY_CS0, () -> runOrder.add(UPriority.UPRIORITY_CS0))
+            .toCompletableFuture();
+        exception = assertThrows(CompletionException.class, rejected::join);
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        assertEquals(2, metrics.getShedTaskCount(UPriority.UPRIORITY_CS0));
+
+        runExecutorTasks();
+        assertEquals(List.of(UPriority.UPRIORITY_CS5, UPriority.UPRIORITY_CS0), runOrder);
+        assertEquals(1, metrics.getQueueingDelays(UPriority.UPRIORITY_CS5).getCount());
+        assertEquals(1, metrics.getQueueingDelays(UPriority.UPRIORITY_CS0).getCount());
+    }
+
+    @Test
+    @DisplayName("Test outcome of running a task is reported to the submitter")
+    void testTaskOutcome() {
+        final var dispatcher = newDispatcher(10, SchedulingPolicy.strict(), UMetrics.NOOP);
+        final var failure = new IllegalStateException("broken");
+        final var succeeding = dispatcher.submit(UPriority.UPRIORITY_CS4, () -> { }).toCompletableFuture();
+        final var failing = dispatcher.submit(UPriority.UPRIORITY_CS4, () -> {
+            throw failure;
+        }).toCompletableFuture();
+        assertFalse(succeeding.isDone());
+
+        runExecutorTasks();
+
+        assertTrue(succeeding.isDone());
+        final var exception = assertThrows(CompletionException.class, failing::join);
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Test dispatcher keeps running tasks after a task has thrown an error")
+    void testTaskThrowingError() {
+        final var dispatcher = newDispatcher(10, SchedulingPolicy.strict(), UMetrics.NOOP);
+        final var error = new AssertionError("broken");
+        final var failing = dispatcher.submit(UPriority.UPRIORITY_CS4, () -> {
+            throw error;
+        }).toCompletableFuture();
+        runExecutorTasks();
+        final var exception = assertThrows(CompletionException.class, failing::join);
+        assertSame(error, exception.getCause());
+
+        final var next = dispatcher.submit(UPriority.UPRIORITY_CS4, () -> { }).toCompletableFuture();
+        runExecutorTasks();
+        assertTrue(next.isDone());
+        assertFalse(next.isCompletedExceptionally());
+        assertEquals(0, dispatcher.size());
+    }
+
+    @Test
+    @DisplayName("Test task is rejected if the executor does not accept the drain loop")
+    void testExecutorRejection() {
+        final var dispatcher = new PriorityDispatcher(task -> {
+            throw new RejectedExecutionException();
+        });
+        final var result = dispatcher.submit(UPriority.UPRIORITY_CS4, () -> { }).toCompletableFuture();
+        final var exception = assertThrows(CompletionException.class, result::join);
+        assertEquals(UCode.RESOURCE_EXHAUSTED, ((UStatusException) exception.getCause()).getCode());
+        assertEquals(0, dispatcher.size());
+    }
+
+    @Test
+    @DisplayName("Test wrapped listener processes messages in the order of their priority")
+    void testWrappedListener() {
+        final var dispatcher = newDispatcher(10, SchedulingPolicy.strict(), UMetrics.NOOP);
+        final List<UMessage> received = new ArrayList<>();
+        final var listener = dispatcher.wrap(received::add);
+        final var telemetry = UMessageBuilder.publish(TOPIC).withPriority(UPriority.UPRIORITY_CS0).build();
+        final var alert = UMessageBuilder.publish(TOPIC).withPriority(UPriority.UPRIORITY_CS6).build();
+
+        listener.onReceive(telemetry);
+        listener.onReceive(alert);
+        assertTrue(received.isEmpty());
+
+        runExecutorTasks();
+        assertEquals(List.of(alert, telemetry), received);
+    }
+}
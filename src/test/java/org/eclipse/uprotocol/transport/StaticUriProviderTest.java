@@ -13,6 +13,7 @@
 package org.eclipse.uprotocol.transport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.eclipse.uprotocol.v1.UUri;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,4 +62,9 @@ class StaticUriProviderTest {
         assertEquals(0x01, resource.getUeVersionMajor());
         assertEquals(0xabcd, resource.getResourceId());
     }
+
+    @Test
+    void testGetResourceReturnsCanonicalInstance() {
+        assertSame(uriProvider.getResource(0xabcd), uriProvider.getResource(0xabcd));
+    }
 }
@@ -12,11 +12,17 @@
  */
 package org.eclipse.uprotocol.transport;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,8 +30,12 @@ import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.eclipse.uprotocol.communication.UStatusException;
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
 import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.v1.UCode;
 import org.eclipse.uprotocol.v1.UUri;
 
 /**
@@ -38,6 +48,9 @@ class UTransportTest {
             .setUeVersionMajor(0x02)
             .setResourceId(0xFFFF)
             .build();
+    private static final UUri TOPIC = UUri.newBuilder(SOURCE_FILTER)
+            .setResourceId(0x8001)
+            .build();
 
     private UTransport transport;
     private UListener listener;
@@ -72,4 +85,22 @@ class UTransportTest {
         transport.unregisterListener(SOURCE_FILTER, listener).toCompletableFuture().join();
         verify(transport).unregisterListener(eq(SOURCE_FILTER), eq(Optional.of(UriFactory.ANY)), eq(listener));
     }
+
+    @Test
+    @DisplayName("Test default implementation of sendAll")
+    void testSendAll() {
+        final var first = UMessageBuilder.publish(TOPIC).build();
+        final var second = UMessageBuilder.publish(TOPIC).build();
+        when(transport.sendAll(anyList())).thenCallRealMethod();
+        when(transport.send(first)).thenReturn(CompletableFuture.completedFuture(null));
+        when(transport.send(second)).thenReturn(CompletableFuture.failedFuture(
+            new UStatusException(UCode.UNAVAILABLE, "not connected")));
+
+        final var exception = assertThrows(CompletionException.class,
+            () -> transport.sendAll(List.of(first, second)).toCompletableFuture().join());
+        assertEquals(UCode.UNAVAILABLE, ((UStatusException) exception.getCause()).getCode());
+        final InOrder inOrder = inOrder(transport);
+        inOrder.verify(transport).send(first);
+        inOrder.verify(transport).send(second);
+    }
 }
@@ -0,0 +1,135 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UMessageType;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.eclipse.uprotocol.v1.UPriority;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+
+class MessageTemplateTest {
+
+    private static final UUri UURI_DEFAULT = UUri.newBuilder()
+        .setUeId(1)
+        .setUeVersionMajor(1)
+        .setResourceId(0)
+        .build();
+
+    private static final UUri UURI_METHOD = UUri.newBuilder()
+        .setUeId(0x001a_1a5b)
+        .setUeVersionMajor(0x04)
+        .setResourceId(0x7a5f)
+        .build();
+
+    private static final UUri UURI_TOPIC = UUri.newBuilder()
+        .setUeId(1)
+        .setUeVersionMajor(1)
+        .setResourceId(0x8000)
+        .build();
+
+    @Test
+    void testBuildCreatesMessagesWithSharedAttributes() {
+        var template = UMessageBuilder.publish(UURI_TOPIC)
+            .withPriority(UPriority.UPRIORITY_CS2)
+            .withTtl(5000)
+            .withTraceparent("traceparent")
+            .toTemplate();
+
+        var first = template.build(UPayload.pack(ByteString.copyFromUtf8("one"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT));
+        var second = template.build();
+
+        assertNotEquals(first.getAttributes().getId(), second.getAttributes().getId());
+        for (var message : List.of(first, second)) {
+            var attributes = message.getAttributes();
+            assertEquals(UMessageType.UMESSAGE_TYPE_PUBLISH, attributes.getType());
+            assertEquals(UURI_TOPIC, attributes.getSource());
+            assertEquals(UPriority.UPRIORITY_CS2, attributes.getPriority());
+            assertEquals(5000, attributes.getTtl());
+            assertEquals("traceparent", attributes.getTraceparent());
+        }
+        assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_TEXT, first.getAttributes().getPayloadFormat());
+        assertEquals("one", first.getPayload().toStringUtf8());
+        assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_UNSPECIFIED, second.getAttributes().getPayloadFormat());
+        assertTrue(second.getPayload().isEmpty());
+    }
+
+    @Test
+    void testBuildIgnoresIdAndPayloadFormatOfTemplateAttributes() {
+        var template = MessageTemplate.of(UMessageBuilder.notification(UURI_TOPIC, UURI_DEFAULT)
+            .build(UPayload.pack(ByteString.copyFromUtf8("data"), UPayloadFormat.UPAYLOAD_FORMAT_TEXT))
+            .getAttributes());
+
+        assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_UNSPECIFIED, template.getAttributes().getPayloadFormat());
+        var message = template.build(UPayload.pack(ByteString.copyFromUtf8("{}"), UPayloadFormat.UPAYLOAD_FORMAT_JSON));
+        assertEquals(UMessageType.UMESSAGE_TYPE_NOTIFICATION, message.getAttributes().getType());
+        assertEquals(UURI_DEFAULT, message.getAttributes().getSink());
+        assertEquals(UPayloadFormat.UPAYLOAD_FORMAT_JSON, message.getAttributes().getPayloadFormat());
+        assertNotEquals(template.getAttributes().getId(), message.getAttributes().getId());
+    }
+
+    @Test
+    void testRequestTemplateCreatesValidRequests() {
+        var template = UMessageBuilder.request(UURI_DEFAULT, UURI_METHOD, 1000).toTemplate();
+        var message = template.build();
+
+        assertEquals(UMessageType.UMESSAGE_TYPE_REQUEST, message.getAttributes().getType());
+        assertEquals(UURI_METHOD, message.getAttributes().getSink());
+        assertEquals(UPriority.UPRIORITY_CS4, message.getAttributes().getPriority());
+        assertEquals(1000, message.getAttributes().getTtl());
+    }
+
+    @Test
+    void testToTemplateFailsForResponseBuilder() {
+        var builder = UMessageBuilder.response(UURI_METHOD, UURI_DEFAULT, UuidFactory.create());
+        assertThrows(IllegalStateException.class, builder::toTemplate);
+    }
+
+    @Test
+    void testOfFailsForResponseAttributes() {
+        var attributes = UMessageBuilder.response(UURI_METHOD, UURI_DEFAULT, UuidFactory.create())
+            .withTtl(1000)
+            .build()
+            .getAttributes();
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(attributes));
+    }
+
+    @Test
+    void testOfFailsForInvalidAttributes() {
+        var attributes = UAttributes.newBuilder()
+            .setType(UMessageType.UMESSAGE_TYPE_PUBLISH)
+            .setId(UuidFactory.create())
+            .setSource(UURI_METHOD)
+            .build();
+        assertThrows(ValidationException.class, () -> MessageTemplate.of(attributes));
+    }
+
+    @Test
+    void testBuildFailsForNullPayload() {
+        var template = UMessageBuilder.publish(UURI_TOPIC).toTemplate();
+        assertThrows(NullPointerException.class, () -> template.build(null));
+    }
+}
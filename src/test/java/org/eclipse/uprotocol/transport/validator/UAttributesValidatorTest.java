@@ -81,6 +81,38 @@ public class UAttributesValidatorTest {
             () -> UAttributesValidator.Validators.RESPONSE.validator().validate(attributes));
     }
 
+    @Test
+    void testCheckReportsAllViolations() {
+        UAttributes attributes = UAttributes.newBuilder()
+            .setType(UMessageType.UMESSAGE_TYPE_RESPONSE)
+            .setId(UUID_INVALID)
+            .setSource(UURI_TOPIC)
+            .setSink(UURI_METHOD)
+            .setPriority(UPriority.UPRIORITY_CS1)
+            .setCommstatusValue(-1)
+            .build();
+        assertEquals(
+            UAttributesValidator.INVALID_ID
+                | UAttributesValidator.INVALID_SOURCE
+                | UAttributesValidator.INVALID_SINK
+                | UAttributesValidator.INVALID_PRIORITY
+                | UAttributesValidator.INVALID_TTL
+                | UAttributesValidator.INVALID_REQID
+                | UAttributesValidator.INVALID_COMMSTATUS,
+            UAttributesValidator.Validators.RESPONSE.validator().check(attributes));
+        assertEquals(
+            UAttributesValidator.INVALID_TYPE
+                | UAttributesValidator.INVALID_ID
+                | UAttributesValidator.INVALID_SINK,
+            UAttributesValidator.Validators.PUBLISH.validator().check(attributes));
+    }
+
+    @Test
+    void testCheckReturnsZeroForValidAttributes() {
+        var attributes = UMessageBuilder.request(UURI_DEFAULT, UURI_METHOD, 1000).build().getAttributes();
+        assertEquals(0, UAttributesValidator.getValidator(attributes).check(attributes));
+    }
+
     @ParameterizedTest
     @CsvSource(useHeadersInDisplayName = true, textBlock = """
         messageType,                               expectedValidatorType
@@ -220,6 +252,7 @@ public class UAttributesValidatorTest {
         sink.ifPresent(attribsBuilder::setSink);
         ttl.ifPresent(attribsBuilder::setTtl);
         var attribs = attribsBuilder.build();
+        assertEquals(shouldSucceed, UAttributesValidator.Validators.PUBLISH.validator().isValid(attribs));
         if (shouldSucceed) {
             UAttributesValidator.Validators.PUBLISH.validator().validate(attribs);
             assertThrows(
@@ -381,6 +414,7 @@ public class UAttributesValidatorTest {
         ttl.ifPresent(attribsBuilder::setTtl);
         priority.ifPresent(attribsBuilder::setPriorityValue);
         var attribs = attribsBuilder.build();
+        assertEquals(shouldSucceed, UAttributesValidator.Validators.NOTIFICATION.validator().isValid(attribs));
         if (shouldSucceed) {
             UAttributesValidator.Validators.NOTIFICATION.validator().validate(attribs);
             assertThrows(
@@ -589,6 +623,7 @@ public class UAttributesValidatorTest {
         priority.ifPresent(attribsBuilder::setPriorityValue);
         token.ifPresent(attribsBuilder::setToken);
         var attribs = attribsBuilder.build();
+        assertEquals(shouldSucceed, UAttributesValidator.Validators.REQUEST.validator().isValid(attribs));
         if (shouldSucceed) {
             UAttributesValidator.Validators.REQUEST.validator().validate(attribs);
             assertThrows(
@@ -805,6 +840,7 @@ public class UAttributesValidatorTest {
         ttl.ifPresent(attribsBuilder::setTtl);
         priority.ifPresent(attribsBuilder::setPriority);
         var attribs = attribsBuilder.build();
+        assertEquals(shouldSucceed, UAttributesValidator.Validators.RESPONSE.validator().isValid(attribs));
         if (shouldSucceed) {
             UAttributesValidator.Validators.RESPONSE.validator().validate(attribs);
             assertThrows(
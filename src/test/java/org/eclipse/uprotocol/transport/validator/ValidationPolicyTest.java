@@ -0,0 +1,61 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.transport.validator;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UMessageType;
+import org.eclipse.uprotocol.validation.ValidationException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ValidationPolicyTest {
+
+    // a publish message without ID and source
+    private static final UAttributes INVALID_ATTRIBUTES = UAttributes.newBuilder()
+        .setType(UMessageType.UMESSAGE_TYPE_PUBLISH)
+        .build();
+
+    @ParameterizedTest
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        policy,           validatesOutbound, validatesInbound
+        VALIDATE_ALL,     true,              true
+        VALIDATE_INBOUND, false,             true
+        TRUSTED,          false,             false
+        """)
+    void testPolicyValidatesMessages(ValidationPolicy policy, boolean validatesOutbound, boolean validatesInbound) {
+        assertEquals(validatesOutbound, policy.validatesOutbound());
+        assertEquals(validatesInbound, policy.validatesInbound());
+        if (validatesOutbound) {
+            assertThrows(ValidationException.class, () -> policy.validateOutbound(INVALID_ATTRIBUTES));
+        } else {
+            assertDoesNotThrow(() -> policy.validateOutbound(INVALID_ATTRIBUTES));
+        }
+        if (validatesInbound) {
+            assertThrows(ValidationException.class, () -> policy.validateInbound(INVALID_ATTRIBUTES));
+        } else {
+            assertDoesNotThrow(() -> policy.validateInbound(INVALID_ATTRIBUTES));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidationPolicy.class)
+    void testValidateFailsForNullAttributes(ValidationPolicy policy) {
+        assertThrows(NullPointerException.class, () -> policy.validateOutbound(null));
+        assertThrows(NullPointerException.class, () -> policy.validateInbound(null));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UriInternerTest {
+
+    private static final UUri ENTITY_URI = UUri.newBuilder()
+        .setAuthorityName("my-vehicle")
+        .setUeId(0x10AB)
+        .setUeVersionMajor(0x01)
+        .build();
+
+    @Test
+    @DisplayName("Test interning returns canonical instance")
+    void testInternReturnsCanonicalInstance() {
+        final var interner = new UriInterner(64);
+        final var uri = UUri.newBuilder(ENTITY_URI).setResourceId(0x8001).build();
+        final var equalUri = UUri.newBuilder(ENTITY_URI).setResourceId(0x8001).build();
+
+        assertSame(uri, interner.intern(uri));
+        assertSame(uri, interner.intern(equalUri));
+        assertSame(uri, interner.intern("my-vehicle", 0x10AB, 0x01, 0x8001));
+        assertSame(uri, interner.intern(ENTITY_URI, 0x8001));
+    }
+
+    @Test
+    @DisplayName("Test interning creates URI with given properties")
+    void testInternCreatesUri() {
+        final var interner = new UriInterner(64);
+        final var uri = interner.intern(ENTITY_URI, 0x0003);
+
+        assertEquals(UUri.newBuilder(ENTITY_URI).setResourceId(0x0003).build(), uri);
+        assertSame(uri, interner.intern(ENTITY_URI, 0x0003));
+        assertNotSame(uri, interner.intern(ENTITY_URI, 0x0004));
+    }
+
+    @Test
+    @DisplayName("Test colliding URIs replace each other")
+    void testCollidingUrisReplaceEachOther() {
+        // a pool holding a single URI only
+        final var interner = new UriInterner(1);
+        final var first = interner.intern(ENTITY_URI, 0x0001);
+        final var second = interner.intern(ENTITY_URI, 0x0002);
+
+        assertEquals(0x0002, second.getResourceId());
+        assertSame(second, interner.intern(ENTITY_URI, 0x0002));
+        final var firstAgain = interner.intern(ENTITY_URI, 0x0001);
+        assertEquals(first, firstAgain);
+        assertNotSame(first, firstAgain);
+    }
+
+    @Test
+    @DisplayName("Test clearing the pool")
+    void testClear() {
+        final var interner = new UriInterner(64);
+        final var uri = interner.intern(ENTITY_URI, 0x0001);
+        interner.clear();
+        assertNotSame(uri, interner.intern(ENTITY_URI, 0x0001));
+    }
+
+    @Test
+    @DisplayName("Test creating pool with invalid size fails")
+    void testConstructorRejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new UriInterner(0));
+        assertThrows(IllegalArgumentException.class, () -> new UriInterner((1 << 30) + 1));
+        assertThrows(NullPointerException.class, () -> UriInterner.getDefault().intern(null));
+    }
+}
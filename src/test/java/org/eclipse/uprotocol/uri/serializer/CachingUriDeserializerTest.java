@@ -0,0 +1,70 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.uprotocol.uri.factory.UriInterner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingUriDeserializerTest {
+
+    @Test
+    @DisplayName("Test deserializing the same URI returns cached instance")
+    void testDeserializeReturnsCachedInstance() {
+        final var deserializer = new CachingUriDeserializer(16, new UriInterner());
+        final var uri = deserializer.deserialize("//my-vehicle/10AB/1/8001");
+
+        assertEquals(UriSerializer.deserialize("//my-vehicle/10AB/1/8001"), uri);
+        assertSame(uri, deserializer.deserialize("//my-vehicle/10AB/1/8001"));
+        // equal URI with a different representation is interned
+        assertSame(uri, deserializer.deserialize("up://my-vehicle/10ab/01/8001"));
+        assertEquals(2, deserializer.size());
+    }
+
+    @Test
+    @DisplayName("Test cache evicts least recently used URIs")
+    void testCacheIsBounded() {
+        final var deserializer = new CachingUriDeserializer(32, new UriInterner(1));
+        for (int i = 0; i < 1000; i++) {
+            deserializer.deserialize("/%X/1/1".formatted(i));
+        }
+        assertTrue(deserializer.size() <= 32);
+
+        final var uri = deserializer.deserialize("/A/1/1");
+        deserializer.clear();
+        assertEquals(0, deserializer.size());
+        assertEquals(uri, deserializer.deserialize("/A/1/1"));
+        assertEquals(1, deserializer.size());
+    }
+
+    @Test
+    @DisplayName("Test deserializing invalid URI fails")
+    void testDeserializeInvalidUriFails() {
+        final var deserializer = new CachingUriDeserializer();
+        assertThrows(IllegalArgumentException.class, () -> deserializer.deserialize("up://my-vehicle/1/1"));
+        assertThrows(NullPointerException.class, () -> deserializer.deserialize(null));
+        assertEquals(0, deserializer.size());
+    }
+
+    @Test
+    @DisplayName("Test creating deserializer with invalid arguments fails")
+    void testConstructorRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingUriDeserializer(0, new UriInterner()));
+        assertThrows(NullPointerException.class, () -> new CachingUriDeserializer(10, null));
+    }
+}
@@ -13,12 +13,17 @@
 package org.eclipse.uprotocol.uri.serializer;
 
 import org.eclipse.uprotocol.uri.validator.UriValidator;
+import org.eclipse.uprotocol.v1.UUri;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 
 class UriSerializerTest {
@@ -58,4 +63,106 @@ class UriSerializerTest {
         assertEquals(0xa1, uuri.getUeVersionMajor());
         assertEquals(0xef01, uuri.getResourceId());
     }
+
+    @ParameterizedTest(name = "Test serializing and deserializing URI: {0}")
+    @CsvSource(useHeadersInDisplayName = true, textBlock = """
+        uri,                            authority,     ueId,       version, resourceId
+        up://my-vehicle/A1B2/1/8001,    my-vehicle,    0xA1B2,     0x01,    0x8001
+        //my-vehicle/FFFF0ABC/FF/0,     my-vehicle,    0xFFFF0ABC, 0xFF,    0x0000
+        /1/0/FFFF,                      '',            0x0001,     0x00,    0xFFFF
+        up://*/FFFFFFFF/FF/FFFF,        *,             0xFFFFFFFF, 0xFF,    0xFFFF
+        up://192.168.1.100/10/2/7,      192.168.1.100, 0x0010,     0x02,    0x0007
+        up://[2001:db8::7]/10/2/7,      [2001:db8::7], 0x0010,     0x02,    0x0007
+        """)
+    // [utest->dsn~uri-path-mapping~2]
+    // [utest->dsn~uri-authority-mapping~1]
+    void testRoundTrip(String uri, String authority, String ueId, String version, String resourceId) {
+        final var expected = UUri.newBuilder()
+            .setAuthorityName(authority)
+            .setUeId(Integer.parseUnsignedInt(ueId.substring(2), 16))
+            .setUeVersionMajor(Integer.parseInt(version.substring(2), 16))
+            .setResourceId(Integer.parseInt(resourceId.substring(2), 16))
+            .build();
+
+        assertEquals(expected, UriSerializer.deserialize(uri));
+        assertEquals(expected, UriSerializer.deserialize(URI.create(uri)));
+        assertEquals(expected, UriSerializer.deserialize(ByteBuffer.wrap(uri.getBytes(StandardCharsets.UTF_8))));
+
+        final var serialized = UriSerializer.serialize(expected, true);
+        assertEquals(expected, UriSerializer.deserialize(serialized));
+        assertEquals(uri.startsWith("up:") ? uri : "up:" + uri, serialized);
+    }
+
+    @ParameterizedTest(name = "Test deserializing invalid URI fails: {0}")
+    @CsvSource(delimiter = '|', textBlock = """
+        http://my-vehicle/A1B2/1/8001       | uProtocol URI must use 'up' scheme
+        UP://my-vehicle/A1B2/1/8001         | uProtocol URI must use 'up' scheme
+        up://my-vehicle/A1B2/1/8001?x=1     | uProtocol URI must not contain query
+        up://my-vehicle/A1B2/1/8001#x       | uProtocol URI must not contain fragment
+        up://user@my-vehicle/A1B2/1/8001    | uProtocol URI must not contain user info
+        up://my-vehicle:1234/A1B2/1/8001    | uProtocol URI must not contain port
+        up://My-Vehicle/A1B2/1/8001         | uProtocol URI authority contains invalid characters
+        up://[zz]/A1B2/1/8001               | uProtocol URI authority contains invalid characters
+        up://my-vehicle                     | uProtocol URI must have exactly 3 path segments
+        up:A1B2/1/8001                      | uProtocol URI must have exactly 3 path segments
+        up://my-vehicle/A1B2/1              | uProtocol URI must have exactly 3 path segments
+        up://my-vehicle/A1B2/1/8001/1       | uProtocol URI must have exactly 3 path segments
+        up://my-vehicle//1/8001             | URI must contain non-empty entity ID
+        up://my-vehicle/X1B2/1/8001         | URI must contain 32 bit hex-encoded entity ID
+        up://my-vehicle/1FFFFFFFF/1/8001    | URI must contain 32 bit hex-encoded entity ID
+        up://my-vehicle/A1B2//8001          | URI must contain non-empty entity version
+        up://my-vehicle/A1B2/-1/8001        | URI must contain 8 bit hex-encoded entity version
+        up://my-vehicle/A1B2/100/8001       | uEntity version major must be in range [0x00, 0xFF]
+        up://my-vehicle/A1B2/1/80G1         | URI must contain 16 bit hex-encoded resource ID
+        up://my-vehicle/A1B2/1/10000        | uEntity resource ID must be in range [0x0000, 0xFFFF]
+        """)
+    void testDeserializingInvalidUriFails(String uri, String expectedMessage) {
+        var exception = assertThrows(IllegalArgumentException.class, () -> UriSerializer.deserialize(uri));
+        assertEquals(expectedMessage, exception.getMessage());
+        exception = assertThrows(IllegalArgumentException.class,
+            () -> UriSerializer.deserialize(ByteBuffer.wrap(uri.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test deserializing URI ignores empty port and trailing slashes")
+    void testDeserializingToleratesEmptyPortAndTrailingSlash() {
+        var uuri = UriSerializer.deserialize("up://my-vehicle:/A1B2/1/8001/");
+        assertEquals("my-vehicle", uuri.getAuthorityName());
+        assertEquals(0x8001, uuri.getResourceId());
+        assertEquals(uuri, UriSerializer.deserialize(URI.create("up://my-vehicle:/A1B2/1/8001/")));
+    }
+
+    @Test
+    @DisplayName("Test deserializing URI from buffer does not change the buffer's position")
+    void testDeserializingFromBufferUsesRemainingBytes() {
+        final var buffer = ByteBuffer.wrap("xxup://my-vehicle/A1B2/1/8001".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        final var uuri = UriSerializer.deserialize(buffer);
+        assertEquals("my-vehicle", uuri.getAuthorityName());
+        assertEquals(2, buffer.position());
+
+        final var nonAscii = ByteBuffer.wrap("up://véhicule/A1B2/1/8001".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> UriSerializer.deserialize(nonAscii));
+    }
+
+    @Test
+    @DisplayName("Test serializing URI into reused builder")
+    void testSerializingIntoBuilder() {
+        final var sb = new StringBuilder();
+        final var uuri = UUri.newBuilder().setUeId(0xA1B2).setUeVersionMajor(1).setResourceId(0x8001).build();
+        assertSame(sb, UriSerializer.serialize(uuri, false, sb));
+        sb.append(' ');
+        UriSerializer.serialize(uuri.toBuilder().setAuthorityName("my-vehicle").build(), true, sb);
+        assertEquals("/A1B2/1/8001 up://my-vehicle/A1B2/1/8001", sb.toString());
+    }
+
+    @Test
+    @DisplayName("Test serializing an invalid UUri fails")
+    void testSerializingInvalidUuriFails() {
+        final var uuri = UUri.newBuilder().setAuthorityName("my_vehicle:80").setUeId(1).build();
+        assertThrows(IllegalArgumentException.class, () -> UriSerializer.serialize(uuri));
+        final var invalidResource = UUri.newBuilder().setUeId(1).setResourceId(0x10000).build();
+        assertThrows(IllegalArgumentException.class, () -> UriSerializer.serialize(invalidResource));
+    }
 }
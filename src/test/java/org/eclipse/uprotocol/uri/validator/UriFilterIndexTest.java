@@ -0,0 +1,173 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uri.validator;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.eclipse.uprotocol.uri.serializer.UriSerializer;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UUri;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class UriFilterIndexTest {
+    private static final UUri SOURCE_URI = UriSerializer.deserialize("//my-vehicle/A1B2/1/8001");
+    private static final UUri SINK_URI = UriSerializer.deserialize("//my-cloud/3C4D/2/0");
+
+    private UriFilterIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UriFilterIndex<>();
+    }
+
+    private static UAttributes attributes(UUri source, UUri sink) {
+        final var builder = UAttributes.newBuilder().setSource(source);
+        if (sink != null) {
+            builder.setSink(sink);
+        }
+        return builder.build();
+    }
+
+    @ParameterizedTest(name = "Test source filter {0} matches: {1}")
+    @CsvSource({
+        "//my-vehicle/A1B2/1/8001, true",
+        "//*/A1B2/1/8001, true",
+        "//my-vehicle/FFFF/1/8001, true",
+        "//my-vehicle/FFFFA1B2/1/8001, true",
+        "//my-vehicle/A1B2/FF/8001, true",
+        "//my-vehicle/A1B2/1/FFFF, true",
+        "//*/FFFFFFFF/FF/FFFF, true",
+        "//other-vehicle/A1B2/1/8001, false",
+        "//my-vehicle/A1B3/1/8001, false",
+        "//my-vehicle/1A1B2/1/8001, false",
+        "//my-vehicle/A1B2/2/8001, false",
+        "//my-vehicle/A1B2/1/8002, false",
+        "/A1B2/1/8001, false",
+        "//*/FFFF/2/FFFF, false",
+    })
+    void testForEachMatchUsesSourceFilter(String sourceFilter, boolean shouldMatch) {
+        final var filter = UriSerializer.deserialize(sourceFilter);
+        index.add(filter, Optional.of(UriFactory.ANY), "value");
+        assertThat(index.getMatches(attributes(SOURCE_URI, null))).isEqualTo(
+            shouldMatch ? List.of("value") : List.of());
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).isEqualTo(
+            shouldMatch ? List.of("value") : List.of());
+        // the results must be consistent with the pattern matching performed by UriValidator
+        assertThat(UriValidator.matches(filter, SOURCE_URI)).isEqualTo(shouldMatch);
+    }
+
+    @ParameterizedTest(name = "Test sink filter {0} matches: {1}")
+    @CsvSource({
+        "//my-cloud/3C4D/2/0, true",
+        "//*/3C4D/2/0, true",
+        "//my-cloud/FFFF/FF/0, true",
+        "//my-cloud/3C4D/2/FFFF, true",
+        "//my-cloud/3C4D/3/0, false",
+        "//my-cloud/3C4E/2/0, false",
+    })
+    void testForEachMatchUsesSinkFilter(String sinkFilter, boolean shouldMatch) {
+        index.add(UriFactory.ANY, Optional.of(UriSerializer.deserialize(sinkFilter)), "value");
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).isEqualTo(
+            shouldMatch ? List.of("value") : List.of());
+    }
+
+    @Test
+    @DisplayName("Test messages without sink only match empty and ANY sink filters")
+    void testMessagesWithoutSink() {
+        index.add(SOURCE_URI, Optional.empty(), "no-sink");
+        index.add(SOURCE_URI, Optional.of(UriFactory.ANY), "any-sink");
+        index.add(SOURCE_URI, Optional.of(SINK_URI), "sink");
+
+        assertThat(index.getMatches(attributes(SOURCE_URI, null))).containsExactly("no-sink", "any-sink");
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).containsExactly("any-sink", "sink");
+    }
+
+    @Test
+    @DisplayName("Test value added for multiple matching filters is returned for each of them")
+    void testValueAddedForMultipleFilters() {
+        assertTrue(index.add(SOURCE_URI, Optional.of(SINK_URI), "value"));
+        assertTrue(index.add(UriFactory.ANY, Optional.of(SINK_URI), "value"));
+        assertFalse(index.add(SOURCE_URI, Optional.of(SINK_URI), "value"));
+        assertThat(index.size()).isEqualTo(2);
+
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).containsExactly("value", "value");
+    }
+
+    @Test
+    @DisplayName("Test removing values")
+    void testRemove() {
+        index.add(SOURCE_URI, Optional.of(SINK_URI), "one");
+        index.add(SOURCE_URI, Optional.of(SINK_URI), "two");
+        index.add(SOURCE_URI, Optional.empty(), "three");
+
+        assertFalse(index.remove(SOURCE_URI, Optional.of(UriFactory.ANY), "one"));
+        assertFalse(index.remove(UriFactory.ANY, Optional.of(SINK_URI), "one"));
+        assertFalse(index.remove(SOURCE_URI, Optional.of(SINK_URI), "three"));
+        assertTrue(index.remove(SOURCE_URI, Optional.of(SINK_URI), "one"));
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).containsExactly("two");
+
+        assertTrue(index.remove(SOURCE_URI, Optional.of(SINK_URI), "two"));
+        assertTrue(index.remove(SOURCE_URI, Optional.empty(), "three"));
+        assertTrue(index.isEmpty());
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).isEmpty();
+        assertThat(index.getMatches(attributes(SOURCE_URI, null))).isEmpty();
+
+        // re-adding a value after its branch has been pruned must work
+        assertTrue(index.add(SOURCE_URI, Optional.of(SINK_URI), "one"));
+        assertThat(index.getMatches(attributes(SOURCE_URI, SINK_URI))).containsExactly("one");
+    }
+
+    @Test
+    @DisplayName("Test lookups while values are concurrently added and removed")
+    void testConcurrentModification() throws InterruptedException {
+        index.add(SOURCE_URI, Optional.of(SINK_URI), "stable");
+        final var running = new AtomicBoolean(true);
+        final var started = new CountDownLatch(1);
+        final var writer = new Thread(() -> {
+            started.countDown();
+            int i = 0;
+            while (running.get()) {
+                final var filter = UUri.newBuilder(SOURCE_URI).setResourceId(0x8000 + (i++ % 0x100)).build();
+                index.add(filter, Optional.of(SINK_URI), "volatile");
+                index.remove(filter, Optional.of(SINK_URI), "volatile");
+            }
+        });
+        writer.start();
+        started.await();
+        try {
+            final var attributes = attributes(SOURCE_URI, SINK_URI);
+            for (int i = 0; i < 10_000; i++) {
+                final List<String> matches = new ArrayList<>();
+                index.forEachMatch(attributes, matches::add);
+                assertThat(matches).contains("stable");
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.uuid.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.uprotocol.v1.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// [utest->dsn~uuid-spec~1]
+class UuidFactoryTest {
+
+    @Test
+    @DisplayName("Test created UUIDs are uProtocol UUIDs for the current time")
+    void testCreateUsesCurrentTime() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = UuidFactory.create();
+        final long after = System.currentTimeMillis();
+
+        assertTrue(UuidUtils.isUProtocol(uuid));
+        final long timestamp = UuidUtils.getTimestamp(uuid);
+        assertTrue(timestamp >= before);
+        // the counter may have borrowed some milliseconds from the future if the thread
+        // has created a lot of UUIDs before
+        assertTrue(timestamp <= after + 1000);
+    }
+
+    @Test
+    @DisplayName("Test UUIDs created for a given instant contain its timestamp")
+    void testCreateForInstant() {
+        final Instant instant = Instant.ofEpochMilli(0x0123_4567_89ABL);
+        final UUID uuid = UuidFactory.create(instant);
+        assertTrue(UuidUtils.isUProtocol(uuid));
+        assertEquals(instant.toEpochMilli(), UuidUtils.getTimestamp(uuid));
+    }
+
+    @Test
+    @DisplayName("Test UUIDs created for a null instant use the current time")
+    void testCreateForNullInstant() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = UuidFactory.create(null);
+        assertTrue(UuidUtils.isUProtocol(uuid));
+        assertTrue(UuidUtils.getTimestamp(uuid) >= before);
+    }
+
+    @Test
+    @DisplayName("Test UUIDs created by the same thread are strictly increasing and unique")
+    void testCreateIsMonotonic() {
+        final int count = 100_000;
+        final Set<UUID> uuids = new HashSet<>(count);
+        UUID previous = UuidFactory.create();
+        uuids.add(previous);
+        for (int i = 0; i < count; i++) {
+            final UUID next = UuidFactory.create();
+            assertTrue(UuidUtils.isUProtocol(next));
+            // comparing the msb as unsigned values is sufficient because the timestamp
+            // and counter are both contained in the msb
+            assertTrue(
+                Long.compareUnsigned(previous.getMsb(), next.getMsb()) < 0,
+                "UUIDs must be strictly increasing");
+            uuids.add(next);
+            previous = next;
+        }
+        assertEquals(count + 1, uuids.size());
+    }
+}
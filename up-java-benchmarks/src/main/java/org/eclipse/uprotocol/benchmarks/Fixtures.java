@@ -0,0 +1,44 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.v1.UPayloadFormat;
+import org.eclipse.uprotocol.v1.UUri;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Fixtures shared by the benchmarks.
+ */
+final class Fixtures {
+    static final UUri CLIENT_URI = UUri.newBuilder()
+        .setAuthorityName("my-vehicle")
+        .setUeId(0x10AB)
+        .setUeVersionMajor(0x01)
+        .build();
+    static final UUri SERVICE_URI = UUri.newBuilder()
+        .setAuthorityName("my-vehicle")
+        .setUeId(0x2CD)
+        .setUeVersionMajor(0x02)
+        .build();
+    static final UUri TOPIC_URI = UUri.newBuilder(SERVICE_URI).setResourceId(0x8001).build();
+    static final UUri METHOD_URI = UUri.newBuilder(SERVICE_URI).setResourceId(0x0001).build();
+    static final UPayload TEXT_PAYLOAD = UPayload.pack(
+        ByteString.copyFromUtf8("The quick brown fox jumps over the lazy dog"),
+        UPayloadFormat.UPAYLOAD_FORMAT_TEXT);
+
+    private Fixtures() {
+        // prevent instantiation
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.communication.PendingRequestTable;
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.v1.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cost of looking up and removing pending requests using a {@link PendingRequestTable}
+ * with that of using a {@link ConcurrentHashMap} keyed by {@link UUID} messages.
+ * <p>
+ * Both containers are filled with the given number of requests. Request IDs are looked up using
+ * fresh copies of the IDs they have been added with, as is the case for the request IDs contained in
+ * response messages that have been received via a transport. The copies are created in both cases,
+ * so the difference in cost is due to hashing and comparing the keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PendingRequestTableBenchmark {
+
+    /**
+     * The number of pending requests.
+     */
+    @Param({"1000", "100000"})
+    public int pendingRequests;
+
+    private final PendingRequestTable<Object> table = new PendingRequestTable<>();
+    private final Map<UUID, Object> map = new ConcurrentHashMap<>();
+    private UUID[] requestIds;
+    private int next;
+
+    /**
+     * Fills the containers.
+     */
+    @Setup
+    public void setUp() {
+        requestIds = new UUID[pendingRequests];
+        for (int i = 0; i < pendingRequests; i++) {
+            requestIds[i] = UuidFactory.create();
+            table.put(requestIds[i], requestIds[i]);
+            map.put(requestIds[i], requestIds[i]);
+        }
+    }
+
+    private int nextIndex() {
+        final int index = next;
+        next = index + 1 == pendingRequests ? 0 : index + 1;
+        return index;
+    }
+
+    private UUID responseId(int index) {
+        return UUID.newBuilder(requestIds[index]).build();
+    }
+
+    /**
+     * Looks up a request in the table.
+     *
+     * @return The pending request.
+     */
+    @Benchmark
+    public Object tableGet() {
+        final var id = responseId(nextIndex());
+        return table.get(id.getMsb(), id.getLsb());
+    }
+
+    /**
+     * Looks up a request in the map.
+     *
+     * @return The pending request.
+     */
+    @Benchmark
+    public Object mapGet() {
+        return map.get(responseId(nextIndex()));
+    }
+
+    /**
+     * Removes a request from the table and adds it again.
+     *
+     * @return The pending request.
+     */
+    @Benchmark
+    public Object tableRemoveAndPut() {
+        final int index = nextIndex();
+        final var id = responseId(index);
+        final var removed = table.remove(id.getMsb(), id.getLsb());
+        table.put(requestIds[index], removed);
+        return removed;
+    }
+
+    /**
+     * Removes a request from the map and adds it again.
+     *
+     * @return The pending request.
+     */
+    @Benchmark
+    public Object mapRemoveAndPut() {
+        final int index = nextIndex();
+        final var removed = map.remove(responseId(index));
+        map.put(requestIds[index], removed);
+        return removed;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.communication.CallOptions;
+import org.eclipse.uprotocol.communication.InMemoryRpcClient;
+import org.eclipse.uprotocol.communication.InMemoryRpcServer;
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.transport.LocalUTransport;
+import org.eclipse.uprotocol.transport.StaticUriProvider;
+import org.eclipse.uprotocol.uri.factory.UriFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures RPC round trips between an {@link InMemoryRpcClient} and an {@link InMemoryRpcServer}
+ * that are connected via a {@link LocalUTransport}.
+ * <p>
+ * The transport delivers messages on the sender's thread, so the measured time covers building,
+ * validating and dispatching both the request and the response, invoking the request handler and
+ * completing the pending call, but no thread hand-offs.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RpcRoundTripBenchmark {
+
+    private InMemoryRpcClient client;
+
+    /**
+     * Creates the client and registers an echo handler with the server.
+     */
+    @Setup
+    public void setUp() {
+        final var transport = new LocalUTransport();
+        final var server = new InMemoryRpcServer(transport, StaticUriProvider.of(Fixtures.SERVICE_URI));
+        server.registerRequestHandler(
+                UriFactory.ANY,
+                Fixtures.METHOD_URI.getResourceId(),
+                request -> UPayload.pack(request.getPayload(), request.getAttributes().getPayloadFormat()))
+            .toCompletableFuture().join();
+        client = new InMemoryRpcClient(transport, StaticUriProvider.of(Fixtures.CLIENT_URI));
+    }
+
+    /**
+     * Closes the client.
+     */
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * Invokes a method and waits for the response.
+     *
+     * @return The response payload.
+     */
+    @Benchmark
+    public UPayload invokeMethod() {
+        return client.invokeMethod(Fixtures.METHOD_URI, Fixtures.TEXT_PAYLOAD, CallOptions.DEFAULT)
+            .toCompletableFuture().join();
+    }
+
+    /**
+     * Invokes a method from multiple threads concurrently and waits for the responses.
+     *
+     * @return The response payload.
+     */
+    @Benchmark
+    @Threads(4)
+    public UPayload invokeMethodConcurrently() {
+        return client.invokeMethod(Fixtures.METHOD_URI, Fixtures.TEXT_PAYLOAD, CallOptions.DEFAULT)
+            .toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.transport.validator.UAttributesValidator;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the validation of message attributes using {@link UAttributesValidator}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UAttributesValidatorBenchmark {
+
+    private UAttributes publishAttributes;
+    private UAttributes requestAttributes;
+    private UAttributes responseAttributes;
+
+    /**
+     * Creates the attributes to validate.
+     */
+    @Setup
+    public void setUp() {
+        publishAttributes = UMessageBuilder.publish(Fixtures.TOPIC_URI).build().getAttributes();
+        requestAttributes = UMessageBuilder.request(Fixtures.CLIENT_URI, Fixtures.METHOD_URI, 60_000)
+            .build()
+            .getAttributes();
+        responseAttributes = UMessageBuilder.response(requestAttributes).build().getAttributes();
+    }
+
+    /**
+     * Validates the attributes of a publish message.
+     */
+    @Benchmark
+    public void validatePublish() {
+        UAttributesValidator.getValidator(publishAttributes).validate(publishAttributes);
+    }
+
+    /**
+     * Validates the attributes of an RPC request message.
+     */
+    @Benchmark
+    public void validateRequest() {
+        UAttributesValidator.getValidator(requestAttributes).validate(requestAttributes);
+    }
+
+    /**
+     * Validates the attributes of an RPC response message.
+     */
+    @Benchmark
+    public void validateResponse() {
+        UAttributesValidator.getValidator(responseAttributes).validate(responseAttributes);
+    }
+
+    /**
+     * Checks the attributes of an RPC request message without collecting any error details.
+     *
+     * @return The bit mask of violated rules.
+     */
+    @Benchmark
+    public int checkRequest() {
+        return UAttributesValidator.getValidator(requestAttributes).check(requestAttributes);
+    }
+
+    /**
+     * Checks if an RPC request has expired.
+     *
+     * @return {@code true} if the request has expired.
+     */
+    @Benchmark
+    public boolean isExpired() {
+        return UAttributesValidator.getValidator(requestAttributes).isExpired(requestAttributes);
+    }
+}
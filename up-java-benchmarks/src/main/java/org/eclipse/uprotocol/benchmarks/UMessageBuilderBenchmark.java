@@ -0,0 +1,90 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.transport.builder.UMessageBuilder;
+import org.eclipse.uprotocol.v1.UAttributes;
+import org.eclipse.uprotocol.v1.UMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the creation of messages using {@link UMessageBuilder}, including validation of the
+ * resulting attributes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UMessageBuilderBenchmark {
+
+    private UAttributes requestAttributes;
+
+    /**
+     * Creates the request to build responses for.
+     */
+    @Setup
+    public void setUp() {
+        requestAttributes = UMessageBuilder.request(Fixtures.CLIENT_URI, Fixtures.METHOD_URI, 5000)
+            .build()
+            .getAttributes();
+    }
+
+    /**
+     * Builds a publish message with payload.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UMessage buildPublish() {
+        return UMessageBuilder.publish(Fixtures.TOPIC_URI).build(Fixtures.TEXT_PAYLOAD);
+    }
+
+    /**
+     * Builds a notification message without payload.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UMessage buildNotification() {
+        return UMessageBuilder.notification(Fixtures.TOPIC_URI, Fixtures.CLIENT_URI).build();
+    }
+
+    /**
+     * Builds an RPC request message with payload.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UMessage buildRequest() {
+        return UMessageBuilder.request(Fixtures.CLIENT_URI, Fixtures.METHOD_URI, 5000)
+            .withToken("token")
+            .build(Fixtures.TEXT_PAYLOAD);
+    }
+
+    /**
+     * Builds an RPC response message for a request.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UMessage buildResponse() {
+        return UMessageBuilder.response(requestAttributes).build(Fixtures.TEXT_PAYLOAD);
+    }
+}
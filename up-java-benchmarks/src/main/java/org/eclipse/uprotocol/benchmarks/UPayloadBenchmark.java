@@ -0,0 +1,145 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.communication.PayloadDecoder;
+import org.eclipse.uprotocol.communication.UPayload;
+import org.eclipse.uprotocol.v1.UUri;
+import org.eclipse.uprotocol.v1.UUriBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Internal;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Measures packing protobuf messages into and unpacking them from {@link UPayload}s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UPayloadBenchmark {
+
+    private UUriBatch message;
+    private UPayload protobufPayload;
+    private UPayload anyPayload;
+
+    /**
+     * Creates the message and payloads.
+     */
+    @Setup
+    public void setUp() {
+        final var batch = UUriBatch.newBuilder();
+        for (int i = 0; i < 10; i++) {
+            batch.addUris(UUri.newBuilder(Fixtures.TOPIC_URI).setResourceId(0x8000 + i));
+        }
+        message = batch.build();
+        protobufPayload = UPayload.pack(message);
+        anyPayload = UPayload.packToAny(message);
+    }
+
+    /**
+     * Packs a message using the protobuf payload format.
+     *
+     * @return The payload.
+     */
+    @Benchmark
+    public UPayload pack() {
+        return UPayload.pack(message);
+    }
+
+    /**
+     * Packs a message into a {@code google.protobuf.Any}.
+     *
+     * @return The payload.
+     */
+    @Benchmark
+    public UPayload packToAny() {
+        return UPayload.packToAny(message);
+    }
+
+    /**
+     * Unpacks a message from a payload using the protobuf payload format.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public Optional<UUriBatch> unpack() {
+        return UPayload.unpack(protobufPayload, UUriBatch.class);
+    }
+
+    /**
+     * Unpacks a message from a {@code google.protobuf.Any}.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public Optional<UUriBatch> unpackFromAny() {
+        return UPayload.unpack(anyPayload, UUriBatch.class);
+    }
+
+    /**
+     * Decodes a message from a payload using the protobuf payload format.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UUriBatch decode() {
+        return PayloadDecoder.getDefault().decode(protobufPayload, UUriBatch.class);
+    }
+
+    /**
+     * Decodes a message from a {@code google.protobuf.Any}.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public UUriBatch decodeFromAny() {
+        return PayloadDecoder.getDefault().decode(anyPayload, UUriBatch.class);
+    }
+
+    /**
+     * Decodes a message from a {@code google.protobuf.Any} using the reflective lookup of the
+     * default instance and parsing the {@code Any} wrapper first, as done before the introduction
+     * of {@link PayloadDecoder}.
+     *
+     * @return The message.
+     * @throws InvalidProtocolBufferException if the payload cannot be parsed.
+     */
+    @Benchmark
+    public UUriBatch decodeFromAnyUncached() throws InvalidProtocolBufferException {
+        return Any.parseFrom(anyPayload.data()).unpack(UUriBatch.class);
+    }
+
+    /**
+     * Decodes a message from a payload using the protobuf payload format using the reflective lookup
+     * of the default instance, as done before the introduction of {@link PayloadDecoder}.
+     *
+     * @return The message.
+     * @throws InvalidProtocolBufferException if the payload cannot be parsed.
+     */
+    @Benchmark
+    public UUriBatch decodeUncached() throws InvalidProtocolBufferException {
+        final UUriBatch defaultInstance = Internal.getDefaultInstance(UUriBatch.class);
+        return defaultInstance.getParserForType().parseFrom(protobufPayload.data());
+    }
+}
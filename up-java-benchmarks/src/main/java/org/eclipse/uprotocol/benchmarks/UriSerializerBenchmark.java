@@ -0,0 +1,101 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.uri.serializer.UriSerializer;
+import org.eclipse.uprotocol.v1.UUri;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures serialization and deserialization of URIs using {@link UriSerializer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UriSerializerBenchmark {
+
+    /**
+     * The URI to (de-)serialize.
+     */
+    @Param({
+        "//my-vehicle/10AB/1/8001",
+        "up://my-vehicle.example.com/FFFF10AB/FF/FFFF",
+        "/2CD/2/1"
+    })
+    public String uri;
+
+    private UUri uuri;
+    private ByteBuffer encodedUri;
+    private final StringBuilder builder = new StringBuilder(64);
+
+    /**
+     * Creates the URI to serialize.
+     */
+    @Setup
+    public void setUp() {
+        uuri = UriSerializer.deserialize(uri);
+        encodedUri = ByteBuffer.wrap(uri.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Serializes a URI.
+     *
+     * @return The serialized URI.
+     */
+    @Benchmark
+    public String serialize() {
+        return UriSerializer.serialize(uuri);
+    }
+
+    /**
+     * Deserializes a URI.
+     *
+     * @return The URI.
+     */
+    @Benchmark
+    public UUri deserialize() {
+        return UriSerializer.deserialize(uri);
+    }
+
+    /**
+     * Serializes a URI into a reused builder.
+     *
+     * @return The builder containing the serialized URI.
+     */
+    @Benchmark
+    public StringBuilder serializeIntoBuilder() {
+        builder.setLength(0);
+        return UriSerializer.serialize(uuri, false, builder);
+    }
+
+    /**
+     * Deserializes a UTF-8 encoded URI.
+     *
+     * @return The URI.
+     */
+    @Benchmark
+    public UUri deserializeFromBuffer() {
+        return UriSerializer.deserialize(encodedUri);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * SPDX-FileCopyrightText: 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.uprotocol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.uprotocol.uuid.factory.UuidFactory;
+import org.eclipse.uprotocol.uuid.serializer.UuidSerializer;
+import org.eclipse.uprotocol.v1.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the creation of uProtocol UUIDs using {@link UuidFactory}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UuidFactoryBenchmark {
+
+    private UUID uuid;
+
+    /**
+     * Creates the UUID to serialize.
+     */
+    @Setup
+    public void setUp() {
+        uuid = UuidFactory.create();
+    }
+
+    /**
+     * Creates a UUID on a single thread.
+     *
+     * @return The UUID.
+     */
+    @Benchmark
+    public UUID create() {
+        return UuidFactory.create();
+    }
+
+    /**
+     * Creates UUIDs on multiple threads concurrently.
+     *
+     * @return The UUID.
+     */
+    @Benchmark
+    @Threads(4)
+    public UUID createConcurrently() {
+        return UuidFactory.create();
+    }
+
+    /**
+     * Serializes a UUID to its string representation.
+     *
+     * @return The serialized UUID.
+     */
+    @Benchmark
+    public String serialize() {
+        return UuidSerializer.serialize(uuid);
+    }
+}